@@ -0,0 +1,24 @@
+#!/usr/bin/env bash
+# Builds the fast-start layout in target/faststart:
+#   1. package with Spring AOT processing (-Pfaststart),
+#   2. extract the jar so classes load from a stable classpath (required by CDS),
+#   3. do a training run that refreshes the context and exits, dumping an AppCDS archive.
+# Run it afterwards with scripts/run-faststart.sh.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+OUT=target/faststart
+
+mvn -B -q -Pfaststart -DskipTests package
+JAR=$(ls target/assignment-*.jar | grep -v original | head -n 1)
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+
+java -XX:ArchiveClassesAtExit="$OUT/application.jsa" -Xlog:cds=off \
+     -Dspring.aot.enabled=true \
+     -Dspring.context.exit=onRefresh \
+     -Dspring.profiles.active=faststart \
+     -jar "$OUT/$(basename "$JAR")"
+
+echo "AppCDS archive written to $OUT/application.jsa"
@@ -0,0 +1,12 @@
+#!/usr/bin/env bash
+# Starts the application built by scripts/build-faststart.sh with AOT-generated bean
+# definitions and the AppCDS archive. Extra arguments are passed to the application.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+OUT=target/faststart
+JAR=$(ls "$OUT"/assignment-*.jar | head -n 1)
+
+exec java -XX:SharedArchiveFile="$OUT/application.jsa" \
+     -Dspring.aot.enabled=true \
+     -jar "$JAR" --spring.profiles.active="${SPRING_PROFILES_ACTIVE:-prod,faststart}" "$@"
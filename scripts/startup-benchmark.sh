@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful request (GET /?text=...) for the
+# regular fat jar and for the fast-start build (AOT + AppCDS + lazy beans), RUNS times each,
+# and prints every sample plus the median in milliseconds.
+#
+#   scripts/build-faststart.sh && scripts/startup-benchmark.sh [RUNS]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+PORT=${PORT:-18016}
+URL="http://localhost:$PORT/?text=startup"
+FAT_JAR=$(ls target/assignment-*.jar | grep -v original | head -n 1)
+
+now_ms() { date +%s%3N; }
+
+measure() {
+    local start pid elapsed
+    start=$(now_ms)
+    "$@" --server.port="$PORT" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "application exited before serving a request" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+report() {
+    local name=$1; shift
+    local samples=()
+    for _ in $(seq "$RUNS"); do
+        samples+=("$(measure "$@")")
+    done
+    local median
+    median=$(printf '%s\n' "${samples[@]}" | sort -n | awk '{ a[NR] = $1 } END { print a[int((NR + 1) / 2)] }')
+    printf '%-10s median %6d ms   samples: %s\n' "$name" "$median" "${samples[*]}"
+}
+
+report baseline java -jar "$FAT_JAR" --spring.profiles.active=prod
+report faststart scripts/run-faststart.sh
@@ -0,0 +1,37 @@
+package com.gler.assignment.backfill;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A date range of one location fetched with a single archive request. The {@code primary}
+ * chunk belongs to the configured {@code forecast.upstream} location and is stored without
+ * coordinates, next to the rows the forecast endpoint writes.
+ */
+public record ArchiveChunk(double latitude, double longitude, boolean primary, LocalDate from, LocalDate to) {
+
+    /** Identifies the chunk in {@code backfill_checkpoint}. */
+    public String key() {
+        return latitude + "," + longitude + ":" + from + ":" + to;
+    }
+
+    public int days() {
+        return (int) ChronoUnit.DAYS.between(from, to) + 1;
+    }
+
+    /** Splits {@code [from, to]} into consecutive chunks of at most {@code chunkDays} days. */
+    public static List<ArchiveChunk> split(double latitude, double longitude, boolean primary,
+                                           LocalDate from, LocalDate to, int chunkDays) {
+        if (chunkDays < 1) {
+            throw new IllegalArgumentException("chunkDays must be positive: " + chunkDays);
+        }
+        List<ArchiveChunk> chunks = new ArrayList<>();
+        for (LocalDate start = from; !start.isAfter(to); start = start.plusDays(chunkDays)) {
+            LocalDate end = start.plusDays(chunkDays - 1L);
+            chunks.add(new ArchiveChunk(latitude, longitude, primary, start, end.isAfter(to) ? to : end));
+        }
+        return chunks;
+    }
+}
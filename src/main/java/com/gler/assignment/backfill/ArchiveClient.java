@@ -0,0 +1,44 @@
+package com.gler.assignment.backfill;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.gler.assignment.dto.HourlyVariable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+
+/**
+ * Fetches one {@link ArchiveChunk} from the Open-Meteo archive API and reduces it to daily
+ * maxima while the body streams in. Hours are requested in GMT so days line up with the
+ * dates the forecast endpoint stores.
+ */
+@RequiredArgsConstructor
+public class ArchiveClient {
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final JsonFactory jsonFactory;
+
+    public List<DailyMaxima> fetch(ArchiveChunk chunk) {
+        return restTemplate.execute(buildUrl(chunk), HttpMethod.GET,
+                request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                response -> {
+                    try (JsonParser parser = jsonFactory.createParser(response.getBody())) {
+                        return ArchiveResponseReader.read(parser, chunk.from(), chunk.to());
+                    }
+                });
+    }
+
+    private String buildUrl(ArchiveChunk chunk) {
+        return baseUrl
+                + "?latitude=" + chunk.latitude()
+                + "&longitude=" + chunk.longitude()
+                + "&start_date=" + chunk.from()
+                + "&end_date=" + chunk.to()
+                + "&hourly=" + HourlyVariable.apiNames(HourlyVariable.ALL)
+                + "&timezone=GMT";
+    }
+}
@@ -0,0 +1,204 @@
+package com.gler.assignment.backfill;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Folds the hourly block of an archive response into daily maxima straight off the token
+ * stream. Nothing but one day index per hour is kept, so a year of hourly data never exists
+ * as a tree or as boxed lists. Open-Meteo writes {@code time} before the variables; a variable
+ * that arrives first is buffered as primitives until the hours are known.
+ */
+final class ArchiveResponseReader {
+
+    private static final String[] VARIABLES = {"temperature_2m", "relative_humidity_2m", "wind_speed_10m"};
+
+    private final LocalDate from;
+    private final long fromEpochDay;
+    private final int days;
+    private final double[][] maxima;
+    private final double[][] pending = new double[VARIABLES.length][];
+    private final int[] pendingLength = new int[VARIABLES.length];
+
+    private int[] dayOfHour = new int[256];
+    private int hours = -1;
+
+    private final char[] lastPrefix = new char[10];
+    private int lastDay = Integer.MIN_VALUE;
+
+    private ArchiveResponseReader(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.fromEpochDay = from.toEpochDay();
+        this.days = (int) (to.toEpochDay() - fromEpochDay) + 1;
+        this.maxima = new double[VARIABLES.length][days];
+        for (double[] column : maxima) {
+            Arrays.fill(column, Double.NaN);
+        }
+    }
+
+    /**
+     * Daily maxima for the days in {@code [from, to]} that have at least one sample, in date
+     * order. Hours outside the range are ignored.
+     */
+    static List<DailyMaxima> read(JsonParser parser, LocalDate from, LocalDate to) throws IOException {
+        ArchiveResponseReader reader = new ArchiveResponseReader(from, to);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an archive response object");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() == JsonToken.START_OBJECT && "hourly".equals(name)) {
+                reader.readHourly(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return reader.result();
+    }
+
+    private void readHourly(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if ("time".equals(name)) {
+                readTime(parser);
+            } else {
+                int variable = Arrays.asList(VARIABLES).indexOf(name);
+                if (variable < 0) {
+                    parser.skipChildren();
+                } else if (hours < 0) {
+                    buffer(parser, variable);
+                } else {
+                    fold(parser, variable);
+                }
+            }
+        }
+    }
+
+    private void readTime(JsonParser parser) throws IOException {
+        int count = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token != JsonToken.VALUE_STRING) {
+                throw new JsonParseException(parser, "Expected an ISO-8601 hour in 'time'");
+            }
+            if (count == dayOfHour.length) {
+                dayOfHour = Arrays.copyOf(dayOfHour, count * 2);
+            }
+            dayOfHour[count++] = dayIndex(parser);
+        }
+        hours = count;
+        for (int variable = 0; variable < VARIABLES.length; variable++) {
+            double[] values = pending[variable];
+            if (values != null) {
+                for (int hour = 0; hour < pendingLength[variable]; hour++) {
+                    accumulate(variable, hour, values[hour]);
+                }
+                pending[variable] = null;
+            }
+        }
+    }
+
+    /** Day of the hour relative to {@code from}, or -1 outside the range; parses each date once. */
+    private int dayIndex(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        if (parser.getTextLength() < lastPrefix.length) {
+            throw new JsonParseException(parser, "Expected an ISO-8601 hour in 'time'");
+        }
+        if (lastDay != Integer.MIN_VALUE && Arrays.equals(text, offset, offset + lastPrefix.length,
+                lastPrefix, 0, lastPrefix.length)) {
+            return lastDay;
+        }
+        System.arraycopy(text, offset, lastPrefix, 0, lastPrefix.length);
+        LocalDate date;
+        try {
+            date = LocalDate.of(digits(text, offset, 4), digits(text, offset + 5, 2), digits(text, offset + 8, 2));
+        } catch (RuntimeException e) {
+            lastDay = Integer.MIN_VALUE;
+            throw new JsonParseException(parser, "Invalid hour '" + parser.getText() + "' in 'time'", e);
+        }
+        long day = date.toEpochDay() - fromEpochDay;
+        lastDay = day >= 0 && day < days ? (int) day : -1;
+        return lastDay;
+    }
+
+    private static int digits(char[] text, int offset, int length) {
+        int value = 0;
+        for (int i = offset; i < offset + length; i++) {
+            int digit = text[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a digit: " + text[i]);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private void fold(JsonParser parser, int variable) throws IOException {
+        int hour = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            accumulate(variable, hour++, sample(parser, token));
+        }
+    }
+
+    private void buffer(JsonParser parser, int variable) throws IOException {
+        double[] values = new double[256];
+        int count = 0;
+        for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = sample(parser, token);
+        }
+        pending[variable] = values;
+        pendingLength[variable] = count;
+    }
+
+    private static double sample(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return Double.NaN;
+        }
+        if (!token.isNumeric()) {
+            throw new JsonParseException(parser, "Expected a number or null, got " + token);
+        }
+        return parser.getDoubleValue();
+    }
+
+    private void accumulate(int variable, int hour, double value) {
+        if (hour >= hours || Double.isNaN(value)) {
+            return;
+        }
+        int day = dayOfHour[hour];
+        if (day >= 0) {
+            double[] column = maxima[variable];
+            if (Double.isNaN(column[day]) || value > column[day]) {
+                column[day] = value;
+            }
+        }
+    }
+
+    private List<DailyMaxima> result() {
+        List<DailyMaxima> result = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            Double temperature = boxed(maxima[0][day]);
+            Double humidity = boxed(maxima[1][day]);
+            Double windSpeed = boxed(maxima[2][day]);
+            if (temperature != null || humidity != null || windSpeed != null) {
+                result.add(new DailyMaxima(from.plusDays(day), temperature, humidity, windSpeed));
+            }
+        }
+        return result;
+    }
+
+    private static Double boxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gler.assignment.backfill;
+
+import java.util.List;
+
+/**
+ * Published by {@link ForecastBackfillWriter} once a chunk's maxima are committed. Coordinates
+ * are {@code null} for the configured {@code forecast.upstream} location; a {@code null}
+ * maximum left the stored value unchanged.
+ */
+public record BackfillChunkStoredEvent(Double latitude, Double longitude, List<DailyMaxima> days) {
+}
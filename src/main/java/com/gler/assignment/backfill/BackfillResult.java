@@ -0,0 +1,10 @@
+package com.gler.assignment.backfill;
+
+import java.time.Duration;
+
+/**
+ * Outcome of one {@link ForecastBackfillJob} run. Failed chunks have no checkpoint and are
+ * fetched again by the next run.
+ */
+public record BackfillResult(int chunks, int skipped, int failed, int daysWritten, Duration elapsed) {
+}
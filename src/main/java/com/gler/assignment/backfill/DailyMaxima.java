@@ -0,0 +1,9 @@
+package com.gler.assignment.backfill;
+
+import java.time.LocalDate;
+
+/**
+ * Maxima of one day of hourly archive data; a variable without samples that day is {@code null}.
+ */
+public record DailyMaxima(LocalDate date, Double maxTemperature, Double maxHumidity, Double maxWindSpeed) {
+}
@@ -0,0 +1,80 @@
+package com.gler.assignment.backfill;
+
+import com.gler.assignment.repositories.BackfillCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches and stores archive chunks in parallel. At most {@code maxConcurrency} chunks are
+ * in flight, each fetched, folded and written by one worker, so memory stays bounded by the
+ * chunk size rather than the whole range. Chunks with a checkpoint are skipped; a chunk that
+ * fails is logged and left for the next run while the others carry on.
+ */
+@Slf4j
+public class ForecastBackfillJob {
+
+    private final ArchiveClient archiveClient;
+    private final ForecastBackfillWriter writer;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final int maxConcurrency;
+
+    public ForecastBackfillJob(ArchiveClient archiveClient, ForecastBackfillWriter writer,
+                               BackfillCheckpointRepository checkpointRepository, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+        this.archiveClient = archiveClient;
+        this.writer = writer;
+        this.checkpointRepository = checkpointRepository;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public BackfillResult run(List<ArchiveChunk> chunks) {
+        long start = System.nanoTime();
+        Set<String> completed = checkpointRepository.findCompletedKeys();
+        List<ArchiveChunk> pending = new ArrayList<>();
+        for (ArchiveChunk chunk : chunks) {
+            if (!completed.contains(chunk.key())) {
+                pending.add(chunk);
+            }
+        }
+
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger daysWritten = new AtomicInteger();
+        if (!pending.isEmpty()) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            ExecutorService workers = Executors.newFixedThreadPool(Math.min(maxConcurrency, pending.size()), task -> {
+                Thread thread = new Thread(task, "forecast-backfill-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                CompletableFuture<?>[] tasks = new CompletableFuture<?>[pending.size()];
+                for (int i = 0; i < tasks.length; i++) {
+                    ArchiveChunk chunk = pending.get(i);
+                    tasks[i] = CompletableFuture.runAsync(() -> {
+                        try {
+                            daysWritten.addAndGet(writer.write(chunk, archiveClient.fetch(chunk)));
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                            log.warn("Backfill of {} failed; it will be retried on the next run", chunk.key(), e);
+                        }
+                    }, workers);
+                }
+                CompletableFuture.allOf(tasks).join();
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+        return new BackfillResult(chunks.size(), chunks.size() - pending.size(), failed.get(),
+                daysWritten.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,74 @@
+package com.gler.assignment.backfill;
+
+import com.gler.assignment.configs.BackfillProperties;
+import com.gler.assignment.configs.UpstreamProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs {@link ForecastBackfillJob} over {@code forecast.backfill.from}..{@code to} once the
+ * context is up and, unless told otherwise, shuts the application down with exit code 0 when
+ * every chunk is stored and 1 otherwise. Rerunning with the same settings resumes where the
+ * previous run stopped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ForecastBackfillRunner implements ApplicationRunner {
+
+    private final ForecastBackfillJob job;
+    private final BackfillProperties properties;
+    private final UpstreamProperties upstreamProperties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            if (properties.getFrom() == null || properties.getTo() == null) {
+                throw new IllegalStateException("forecast.backfill.from and forecast.backfill.to are required");
+            }
+            if (properties.getFrom().isAfter(properties.getTo())) {
+                throw new IllegalStateException("forecast.backfill.from is after forecast.backfill.to");
+            }
+            BackfillResult result = job.run(plan());
+            log.info("Backfilled {}..{}: {} chunks ({} already done, {} failed), {} days in {} ms",
+                    properties.getFrom(), properties.getTo(), result.chunks(), result.skipped(),
+                    result.failed(), result.daysWritten(), result.elapsed().toMillis());
+            if (result.failed() > 0) {
+                exitCode = 1;
+            }
+        } catch (Exception e) {
+            log.error("Backfill of {}..{} failed", properties.getFrom(), properties.getTo(), e);
+            exitCode = 1;
+        }
+        if (properties.isExitWhenDone()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+
+    List<ArchiveChunk> plan() {
+        List<BackfillProperties.Location> locations = properties.getLocations();
+        if (locations.isEmpty()) {
+            BackfillProperties.Location primary = new BackfillProperties.Location();
+            primary.setLatitude(upstreamProperties.getLatitude());
+            primary.setLongitude(upstreamProperties.getLongitude());
+            locations = List.of(primary);
+        }
+        List<ArchiveChunk> chunks = new ArrayList<>();
+        for (BackfillProperties.Location location : locations) {
+            boolean primary = location.getLatitude() == upstreamProperties.getLatitude()
+                    && location.getLongitude() == upstreamProperties.getLongitude();
+            chunks.addAll(ArchiveChunk.split(location.getLatitude(), location.getLongitude(), primary,
+                    properties.getFrom(), properties.getTo(), properties.getChunkDays()));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,92 @@
+package com.gler.assignment.backfill;
+
+import com.gler.assignment.models.BackfillCheckpoint;
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.repositories.BackfillCheckpointRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upserts the daily maxima of a chunk into {@code forecast_data} with two JDBC batches, one
+ * update and one insert for the days the update missed, and records the chunk's checkpoint in
+ * the same transaction. A variable the archive has no samples for keeps its stored value.
+ * Once committed, the chunk is announced as a {@link BackfillChunkStoredEvent}.
+ */
+@RequiredArgsConstructor
+public class ForecastBackfillWriter {
+
+    private static final String UPDATE_SQL = "update forecast_data set "
+            + "max_temperature = coalesce(?, max_temperature), "
+            + "max_humidity = coalesce(?, max_humidity), "
+            + "max_wind_speed = coalesce(?, max_wind_speed) "
+            + "where forecast_date = ? and location_key = ?";
+
+    private static final String INSERT_SQL = "insert into forecast_data (forecast_date, latitude, longitude, "
+            + "location_key, max_temperature, max_humidity, max_wind_speed, created_at) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BackfillCheckpointRepository checkpointRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Returns the number of days written. */
+    @Transactional
+    public int write(ArchiveChunk chunk, List<DailyMaxima> maxima) {
+        Double latitude = chunk.primary() ? null : chunk.latitude();
+        Double longitude = chunk.primary() ? null : chunk.longitude();
+        String locationKey = ForecastEntity.locationKey(latitude, longitude);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> updates = new ArrayList<>(maxima.size());
+        for (DailyMaxima day : maxima) {
+            updates.add(new Object[]{day.maxTemperature(), day.maxHumidity(), day.maxWindSpeed(),
+                    day.date(), locationKey});
+        }
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                DailyMaxima day = maxima.get(i);
+                inserts.add(new Object[]{day.date(), latitude, longitude, locationKey, day.maxTemperature(),
+                        day.maxHumidity(), day.maxWindSpeed(), Timestamp.valueOf(now)});
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+
+        checkpointRepository.save(BackfillCheckpoint.builder()
+                .chunkKey(chunk.key())
+                .daysWritten(maxima.size())
+                .completedAt(now)
+                .build());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictCachedForecasts();
+                eventPublisher.publishEvent(new BackfillChunkStoredEvent(latitude, longitude, maxima));
+            }
+        });
+        return maxima.size();
+    }
+
+    /** The JDBC writes bypass Hibernate, so cached entities and query results are dropped by hand. */
+    private void evictCachedForecasts() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(ForecastEntity.class);
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,16 @@
+package com.gler.assignment.batch;
+
+import java.time.Duration;
+
+/**
+ * Totals of one batch run; {@code rejectedLines} are lines with fewer than two characters,
+ * which are copied unchanged.
+ */
+public record BatchResult(long bytesRead, long bytesWritten, long lines, long rejectedLines, int chunks,
+                          Duration elapsed) {
+
+    public double megabytesPerSecond() {
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1e9;
+        return bytesRead / (1024.0 * 1024.0) / seconds;
+    }
+}
@@ -0,0 +1,156 @@
+package com.gler.assignment.batch;
+
+import com.gler.assignment.text.TextUnit;
+import com.gler.assignment.text.Utf8TextReplacer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Applies the text-replace transform to every line of a newline-delimited UTF-8 file.
+ * <p>
+ * The input is memory-mapped chunk by chunk, each chunk ending on a newline. Every chunk takes
+ * two passes on a fork-join pool: the first only measures its output, so chunks can be given
+ * their output offsets in input order; the second transforms the mapped input straight into a
+ * mapped region of the output file at that offset. Nothing is copied to the heap, and at most
+ * two chunks per worker are in flight whatever the file size. A trailing {@code \r} is kept
+ * as part of the line ending.
+ */
+public class TextReplaceBatchJob {
+
+    /** A chunk is mapped as one buffer, so it has to fit in one. */
+    static final long MAX_CHUNK = 1L << 30;
+
+    private static final int NEWLINE_PROBE = 64 * 1024;
+
+    private final long chunkSize;
+    private final int parallelism;
+    private final TextUnit unit;
+
+    public TextReplaceBatchJob(long chunkSize, int parallelism, TextUnit unit) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK) {
+            throw new IllegalArgumentException("Chunk size must be between 1 byte and 1 GB, was " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.unit = unit;
+    }
+
+    public BatchResult run(Path input, Path output) throws IOException {
+        long started = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = in.size();
+            Deque<ForkJoinTask<Chunk>> measuring = new ArrayDeque<>();
+            Deque<ForkJoinTask<Chunk>> writing = new ArrayDeque<>();
+            long written = 0;
+            long lines = 0;
+            long rejected = 0;
+            int chunks = 0;
+            long start = 0;
+            while (start < size || !measuring.isEmpty()) {
+                while (start < size && measuring.size() < parallelism) {
+                    long end = chunkEnd(in, start, size);
+                    long from = start;
+                    measuring.add(pool.submit(() -> transform(
+                            in.map(FileChannel.MapMode.READ_ONLY, from, end - from), null)));
+                    start = end;
+                }
+                Chunk chunk = measuring.poll().join();
+                if (chunk.length > 0) {
+                    MappedByteBuffer target = out.map(FileChannel.MapMode.READ_WRITE, written, chunk.length);
+                    writing.add(pool.submit(() -> transform(chunk.source, target)));
+                }
+                written += chunk.length;
+                lines += chunk.lines;
+                rejected += chunk.rejected;
+                chunks++;
+                while (writing.size() > parallelism) {
+                    writing.poll().join();
+                }
+            }
+            for (ForkJoinTask<Chunk> write : writing) {
+                write.join();
+            }
+            return new BatchResult(size, written, lines, rejected, chunks, Duration.ofNanos(System.nanoTime() - started));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /** End of the chunk starting at {@code start}: just past the first newline at or after the target size. */
+    private long chunkEnd(FileChannel in, long start, long size) throws IOException {
+        long position = start + chunkSize - 1;
+        while (position < size) {
+            long probe = Math.min(NEWLINE_PROBE, size - position);
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, probe);
+            for (int i = 0; i < probe; i++) {
+                if (window.get(i) == '\n') {
+                    long end = position + i + 1;
+                    if (end - start > MAX_CHUNK) {
+                        break;
+                    }
+                    return end;
+                }
+            }
+            position += probe;
+            if (position - start > MAX_CHUNK) {
+                throw new IOException("Line starting before byte " + position + " is longer than " + MAX_CHUNK + " bytes");
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Walks the lines of {@code source} and writes their replacement to {@code target}, or only
+     * measures it when {@code target} is {@code null}.
+     */
+    private Chunk transform(MappedByteBuffer source, MappedByteBuffer target) {
+        int length = source.capacity();
+        int written = 0;
+        int lines = 0;
+        int rejected = 0;
+        int lineStart = 0;
+        while (lineStart < length) {
+            int newline = lineStart;
+            while (newline < length && source.get(newline) != '\n') {
+                newline++;
+            }
+            int contentEnd = newline > lineStart && source.get(newline - 1) == '\r' ? newline - 1 : newline;
+            int lineEnd = Math.min(newline + 1, length);
+
+            int replaced = target == null
+                    ? Utf8TextReplacer.replacedLength(source, lineStart, contentEnd - lineStart, unit)
+                    : Utf8TextReplacer.replace(source, lineStart, contentEnd - lineStart, unit, target, written);
+            if (replaced == Utf8TextReplacer.TOO_SHORT) {
+                replaced = contentEnd - lineStart;
+                if (target != null) {
+                    target.put(written, source, lineStart, replaced);
+                }
+                rejected++;
+            }
+            written += replaced;
+            // Line ending (\r\n, \n or nothing at end of file)
+            if (target != null) {
+                target.put(written, source, contentEnd, lineEnd - contentEnd);
+            }
+            written += lineEnd - contentEnd;
+            lines++;
+            lineStart = lineEnd;
+        }
+        return new Chunk(source, written, lines, rejected);
+    }
+
+    private record Chunk(MappedByteBuffer source, int length, int lines, int rejected) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.gler.assignment.batch;
+
+import com.gler.assignment.configs.BatchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs {@link TextReplaceBatchJob} on {@code text.batch.input} once the context is up, logs
+ * the throughput and, unless told otherwise, shuts the application down with exit code 0 on
+ * success and 1 on failure.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TextReplaceBatchRunner implements ApplicationRunner {
+
+    private final BatchProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int exitCode = 0;
+        try {
+            if (properties.getInput() == null || properties.getOutput() == null) {
+                throw new IllegalStateException("text.batch.input and text.batch.output are required");
+            }
+            TextReplaceBatchJob job = new TextReplaceBatchJob(properties.getChunkSize().toBytes(),
+                    properties.getParallelism(), properties.getUnit());
+            BatchResult result = job.run(properties.getInput(), properties.getOutput());
+            log.info("Transformed {} into {}: {} MB in {} ms, {} MB/s ({} lines, {} rejected, {} chunks)",
+                    properties.getInput(), properties.getOutput(),
+                    String.format("%.1f", result.bytesRead() / (1024.0 * 1024.0)), result.elapsed().toMillis(),
+                    String.format("%.1f", result.megabytesPerSecond()),
+                    result.lines(), result.rejectedLines(), result.chunks());
+        } catch (Exception e) {
+            log.error("Batch text replacement of {} failed", properties.getInput(), e);
+            exitCode = 1;
+        }
+        if (properties.isExitWhenDone()) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
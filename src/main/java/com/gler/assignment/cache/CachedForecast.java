@@ -0,0 +1,20 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.UpstreamQuery;
+
+/**
+ * An upstream answer held by {@link UpstreamForecastCache}. The version changes every time
+ * the data for a query is fetched again, so it can stand in for the data itself.
+ */
+public record CachedForecast(
+        UpstreamQuery query,
+        long version,
+        long fetchedAtMillis,
+        long expiresAtMillis,
+        HourlySeries series) {
+
+    public boolean isFresh(long nowMillis) {
+        return nowMillis < expiresAtMillis;
+    }
+}
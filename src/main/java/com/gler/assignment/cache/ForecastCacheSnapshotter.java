@@ -0,0 +1,88 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.configs.SnapshotProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Persists {@link UpstreamForecastCache} to a binary snapshot on a fixed interval and on
+ * shutdown, and loads it back through a memory-mapped read when the application starts.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "forecast.snapshot", name = "enabled", havingValue = "true")
+public class ForecastCacheSnapshotter {
+
+    private final UpstreamForecastCache upstreamForecastCache;
+    private final SnapshotProperties properties;
+    private volatile long writtenVersion = -1;
+
+    public ForecastCacheSnapshotter(UpstreamForecastCache upstreamForecastCache, SnapshotProperties properties) {
+        this.upstreamForecastCache = upstreamForecastCache;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void load() {
+        Path path = properties.getPath();
+        if (!Files.isReadable(path)) {
+            return;
+        }
+        long started = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            List<CachedForecast> entries = ForecastSnapshotCodec.decode(mapped);
+            upstreamForecastCache.restore(entries);
+            writtenVersion = upstreamForecastCache.currentVersion();
+            log.info("Loaded {} cached forecasts from {} in {} us",
+                    entries.size(), path, (System.nanoTime() - started) / 1_000);
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Ignoring unreadable forecast cache snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${forecast.snapshot.interval:PT1M}",
+            initialDelayString = "${forecast.snapshot.interval:PT1M}")
+    public void write() {
+        long version = upstreamForecastCache.currentVersion();
+        if (version == writtenVersion) {
+            return;
+        }
+        Path path = properties.getPath().toAbsolutePath();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            ByteBuffer snapshot = ForecastSnapshotCodec.encode(upstreamForecastCache.entries());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (snapshot.hasRemaining()) {
+                    channel.write(snapshot);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            writtenVersion = version;
+        } catch (IOException e) {
+            log.warn("Failed to write forecast cache snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void writeOnShutdown() {
+        write();
+    }
+}
@@ -0,0 +1,26 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.dto.UpstreamQuery;
+
+/**
+ * Published by {@link UpstreamForecastCache} whenever the upstream data for a location is
+ * replaced. A {@code null} query means the whole cache was dropped.
+ */
+public record ForecastDataRefreshedEvent(UpstreamQuery query) {
+
+    public static ForecastDataRefreshedEvent all() {
+        return new ForecastDataRefreshedEvent(null);
+    }
+
+    /**
+     * Whether an answer may have been computed from data this refresh replaced. Answers
+     * without variables never read upstream data, so they survive every refresh.
+     */
+    public boolean affects(ForecastResponseKey key) {
+        if (key.variables() == 0) {
+            return false;
+        }
+        return query == null
+                || (query.latitude() == key.latitude() && query.longitude() == key.longitude());
+    }
+}
@@ -0,0 +1,8 @@
+package com.gler.assignment.cache;
+
+/**
+ * Strong entity tag of a forecast answer, how long clients may reuse it and the key
+ * of the answer in {@link ForecastResponseCache}.
+ */
+public record ForecastETag(String value, long maxAgeSeconds, ForecastResponseKey key) {
+}
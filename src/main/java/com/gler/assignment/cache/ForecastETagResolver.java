@@ -0,0 +1,60 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Derives the ETag of a forecast answer from the upstream data it would be computed from,
+ * without running the forecast pipeline. The answer is fully determined by the date, the
+ * requested variables and the version of the cached upstream data.
+ */
+@Component
+public class ForecastETagResolver {
+
+    private final UpstreamForecastCache upstreamForecastCache;
+    private final UpstreamProperties upstreamProperties;
+
+    public ForecastETagResolver(UpstreamForecastCache upstreamForecastCache, UpstreamProperties upstreamProperties) {
+        this.upstreamForecastCache = upstreamForecastCache;
+        this.upstreamProperties = upstreamProperties;
+    }
+
+    /**
+     * The current tag, or empty when the upstream data is not cached and the answer
+     * cannot be known without fetching it.
+     */
+    public Optional<ForecastETag> resolve(ForecastRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        long secondsToMidnight = Duration.between(now, today.plusDays(1).atStartOfDay()).toSeconds();
+
+        int mask = HourlyVariable.maskOf(request);
+        if (mask == 0) {
+            // Nothing is fetched, so the answer only changes with the date.
+            return Optional.of(tag(query(0), today, 0, secondsToMidnight));
+        }
+        UpstreamQuery query = query(mask);
+        return upstreamForecastCache.lookup(query).map(cached -> {
+            long freshFor = Math.max(0, (cached.expiresAtMillis() - System.currentTimeMillis()) / 1_000);
+            return tag(query, today, cached.version(), Math.min(freshFor, secondsToMidnight));
+        });
+    }
+
+    private UpstreamQuery query(int mask) {
+        return new UpstreamQuery(upstreamProperties.getLatitude(), upstreamProperties.getLongitude(), mask);
+    }
+
+    private static ForecastETag tag(UpstreamQuery query, LocalDate date, long version, long maxAgeSeconds) {
+        String value = "\"" + date + "-" + query.variables() + "-" + Long.toHexString(version) + "\"";
+        ForecastResponseKey key = new ForecastResponseKey(query.latitude(), query.longitude(), date, query.variables(), version);
+        return new ForecastETag(value, maxAgeSeconds, key);
+    }
+}
@@ -0,0 +1,67 @@
+package com.gler.assignment.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gler.assignment.configs.PrebuiltJsonHttpMessageConverter;
+import com.gler.assignment.dto.ForecastResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serialized forecast answers, ready to be copied to the response stream. Keys carry the
+ * upstream data version, so a refresh can never serve stale bytes; the refresh event only
+ * releases the entries that can no longer be reached.
+ */
+@Slf4j
+@Component
+public class ForecastResponseCache {
+
+    // Per location: one date, eight variable masks, plus the few versions alive at a time.
+    static final int MAX_ENTRIES = 1_024;
+
+    private final Map<ForecastResponseKey, byte[]> entries = new ConcurrentHashMap<>();
+
+    private final ObjectWriter writer;
+
+    public ForecastResponseCache(PrebuiltJsonHttpMessageConverter converter) {
+        this.writer = converter.writer(ForecastResponse.class);
+    }
+
+    public Optional<byte[]> get(ForecastResponseKey key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    public void put(ForecastResponseKey key, ForecastResponse response) {
+        if (entries.size() >= MAX_ENTRIES) {
+            LocalDate today = LocalDate.now();
+            entries.keySet().removeIf(cached -> cached.date().isBefore(today));
+            if (entries.size() >= MAX_ENTRIES) {
+                return;
+            }
+        }
+        try {
+            entries.put(key, writer.writeValueAsBytes(response));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize forecast response for caching", e);
+        }
+    }
+
+    @EventListener
+    public void onDataRefreshed(ForecastDataRefreshedEvent event) {
+        entries.keySet().removeIf(event::affects);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,10 @@
+package com.gler.assignment.cache;
+
+import java.time.LocalDate;
+
+/**
+ * Everything a forecast answer depends on: the location, the date, the requested
+ * variables and the version of the upstream data they were computed from.
+ */
+public record ForecastResponseKey(double latitude, double longitude, LocalDate date, int variables, long version) {
+}
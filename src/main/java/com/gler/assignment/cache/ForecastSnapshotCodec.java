@@ -0,0 +1,165 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary, column-oriented encoding of {@link CachedForecast} entries.
+ * <pre>
+ * header   magic:int  formatVersion:int  entryCount:int  reserved:int
+ * columns  latitude:double[n]  longitude:double[n]
+ *          version:long[n]  fetchedAt:long[n]  expiresAt:long[n]
+ *          variables:int[n]  seriesLength:int[n] per hourly variable (-1 = not fetched)
+ * values   samples:double[] per hourly variable, entries concatenated
+ * trailer  crc32c:long over every preceding byte
+ * </pre>
+ * Everything is little-endian and every double/long column starts 8-byte aligned, so a
+ * memory-mapped file can be read with bulk primitive-buffer copies.
+ */
+public final class ForecastSnapshotCodec {
+
+    static final int MAGIC = 0x46435354; // "FCST"
+    static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int TRAILER_BYTES = Long.BYTES;
+    private static final HourlyVariable[] VARIABLES = HourlyVariable.values();
+
+    private ForecastSnapshotCodec() {
+    }
+
+    public static ByteBuffer encode(List<CachedForecast> entries) {
+        int n = entries.size();
+        long samples = 0;
+        for (CachedForecast entry : entries) {
+            for (HourlyVariable variable : VARIABLES) {
+                double[] column = entry.series().column(variable);
+                samples += column == null ? 0 : column.length;
+            }
+        }
+        long size = HEADER_BYTES + (long) n * (5 * Long.BYTES + (1 + VARIABLES.length) * Integer.BYTES)
+                + samples * Double.BYTES + TRAILER_BYTES;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Snapshot too large: " + size + " bytes");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(n).putInt(0);
+        for (CachedForecast entry : entries) {
+            buffer.putDouble(entry.query().latitude());
+        }
+        for (CachedForecast entry : entries) {
+            buffer.putDouble(entry.query().longitude());
+        }
+        for (CachedForecast entry : entries) {
+            buffer.putLong(entry.version());
+        }
+        for (CachedForecast entry : entries) {
+            buffer.putLong(entry.fetchedAtMillis());
+        }
+        for (CachedForecast entry : entries) {
+            buffer.putLong(entry.expiresAtMillis());
+        }
+        for (CachedForecast entry : entries) {
+            buffer.putInt(entry.query().variables());
+        }
+        for (HourlyVariable variable : VARIABLES) {
+            for (CachedForecast entry : entries) {
+                double[] column = entry.series().column(variable);
+                buffer.putInt(column == null ? -1 : column.length);
+            }
+        }
+        for (HourlyVariable variable : VARIABLES) {
+            for (CachedForecast entry : entries) {
+                double[] column = entry.series().column(variable);
+                if (column != null) {
+                    buffer.asDoubleBuffer().put(column);
+                    buffer.position(buffer.position() + column.length * Double.BYTES);
+                }
+            }
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes a snapshot, rejecting it when the magic, format version or checksum do not match.
+     */
+    public static List<CachedForecast> decode(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int size = buffer.remaining();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IllegalArgumentException("Snapshot truncated: " + size + " bytes");
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate().limit(buffer.position() + size - TRAILER_BYTES));
+        if (crc.getValue() != buffer.getLong(buffer.position() + size - TRAILER_BYTES)) {
+            throw new IllegalArgumentException("Snapshot checksum mismatch");
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a forecast cache snapshot");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot format version " + formatVersion);
+        }
+        int n = buffer.getInt();
+        buffer.getInt();
+
+        double[] latitudes = readDoubles(buffer, n);
+        double[] longitudes = readDoubles(buffer, n);
+        long[] versions = readLongs(buffer, n);
+        long[] fetchedAt = readLongs(buffer, n);
+        long[] expiresAt = readLongs(buffer, n);
+        int[] variables = readInts(buffer, n);
+        int[][] lengths = new int[VARIABLES.length][];
+        for (int v = 0; v < VARIABLES.length; v++) {
+            lengths[v] = readInts(buffer, n);
+        }
+        double[][][] columns = new double[VARIABLES.length][n][];
+        for (int v = 0; v < VARIABLES.length; v++) {
+            for (int i = 0; i < n; i++) {
+                columns[v][i] = lengths[v][i] < 0 ? null : readDoubles(buffer, lengths[v][i]);
+            }
+        }
+
+        List<CachedForecast> entries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            HourlySeries series = new HourlySeries(columns[0][i], columns[1][i], columns[2][i]);
+            entries.add(new CachedForecast(new UpstreamQuery(latitudes[i], longitudes[i], variables[i]),
+                    versions[i], fetchedAt[i], expiresAt[i], series));
+        }
+        return entries;
+    }
+
+    private static double[] readDoubles(ByteBuffer buffer, int count) {
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return values;
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int count) {
+        long[] values = new long[count];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
@@ -0,0 +1,93 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of upstream forecasts keyed by {@link UpstreamQuery}. A lookup is also
+ * satisfied by a fresh entry for the same location that holds a superset of the requested
+ * variables: with three variables there are at most eight masks to probe.
+ */
+@Component
+public class UpstreamForecastCache {
+
+    private final Map<UpstreamQuery, CachedForecast> entries = new ConcurrentHashMap<>();
+
+    // Seeded from the wall clock so versions keep increasing across restarts.
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+
+    private final UpstreamProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UpstreamForecastCache(UpstreamProperties properties, ApplicationEventPublisher eventPublisher) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Optional<CachedForecast> lookup(UpstreamQuery query) {
+        long now = System.currentTimeMillis();
+        CachedForecast exact = entries.get(query);
+        if (exact != null && exact.isFresh(now)) {
+            return Optional.of(exact);
+        }
+        CachedForecast best = null;
+        for (int mask = query.variables() + 1; mask <= HourlyVariable.ALL; mask++) {
+            if ((mask & query.variables()) != query.variables()) {
+                continue;
+            }
+            CachedForecast candidate = entries.get(query.withVariables(mask));
+            if (candidate != null && candidate.isFresh(now)
+                    && (best == null || candidate.version() > best.version())) {
+                best = candidate;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    public CachedForecast put(UpstreamQuery query, HourlySeries series) {
+        long now = System.currentTimeMillis();
+        CachedForecast entry = new CachedForecast(query, versions.incrementAndGet(), now,
+                now + properties.getCacheTtl().toMillis(), series);
+        entries.put(query, entry);
+        entries.values().removeIf(cached -> !cached.isFresh(now));
+        eventPublisher.publishEvent(new ForecastDataRefreshedEvent(query));
+        return entry;
+    }
+
+    /** Re-inserts entries produced elsewhere (e.g. a snapshot), keeping their versions. */
+    public void restore(Collection<CachedForecast> restored) {
+        long now = System.currentTimeMillis();
+        for (CachedForecast entry : restored) {
+            if (entry.isFresh(now)) {
+                entries.merge(entry.query(), entry,
+                        (current, candidate) -> candidate.version() > current.version() ? candidate : current);
+                versions.accumulateAndGet(entry.version(), Math::max);
+            }
+        }
+    }
+
+    public List<CachedForecast> entries() {
+        return List.copyOf(entries.values());
+    }
+
+    /** Highest version handed out so far; changes whenever the cache content does. */
+    public long currentVersion() {
+        return versions.get();
+    }
+
+    public void clear() {
+        entries.clear();
+        eventPublisher.publishEvent(ForecastDataRefreshedEvent.all());
+    }
+}
@@ -0,0 +1,51 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.backfill.ArchiveClient;
+import com.gler.assignment.backfill.ForecastBackfillJob;
+import com.gler.assignment.backfill.ForecastBackfillRunner;
+import com.gler.assignment.backfill.ForecastBackfillWriter;
+import com.gler.assignment.repositories.BackfillCheckpointRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+@Profile("backfill")
+@EnableConfigurationProperties(BackfillProperties.class)
+public class BackfillConfig {
+
+    @Bean
+    public ArchiveClient archiveClient(RestTemplate restTemplate, BackfillProperties properties,
+                                       ObjectMapper objectMapper) {
+        return new ArchiveClient(restTemplate, properties.getBaseUrl(), objectMapper.getFactory());
+    }
+
+    @Bean
+    public ForecastBackfillWriter forecastBackfillWriter(JdbcTemplate jdbcTemplate,
+                                                         BackfillCheckpointRepository checkpointRepository,
+                                                         EntityManagerFactory entityManagerFactory,
+                                                         ApplicationEventPublisher eventPublisher) {
+        return new ForecastBackfillWriter(jdbcTemplate, checkpointRepository, entityManagerFactory, eventPublisher);
+    }
+
+    @Bean
+    public ForecastBackfillJob forecastBackfillJob(ArchiveClient archiveClient, ForecastBackfillWriter writer,
+                                                   BackfillCheckpointRepository checkpointRepository,
+                                                   BackfillProperties properties) {
+        return new ForecastBackfillJob(archiveClient, writer, checkpointRepository, properties.getMaxConcurrency());
+    }
+
+    @Bean
+    public ForecastBackfillRunner forecastBackfillRunner(ForecastBackfillJob job, BackfillProperties properties,
+                                                         UpstreamProperties upstreamProperties,
+                                                         ConfigurableApplicationContext context) {
+        return new ForecastBackfillRunner(job, properties, upstreamProperties, context);
+    }
+}
@@ -0,0 +1,47 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Historical backfill from the Open-Meteo archive API, run by the {@code backfill} profile.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.backfill")
+public class BackfillProperties {
+
+    private String baseUrl = "https://archive-api.open-meteo.com/v1/archive";
+
+    /** First day to backfill, inclusive. */
+    private LocalDate from;
+
+    /** Last day to backfill, inclusive. */
+    private LocalDate to;
+
+    /** Locations to backfill; empty means only the {@code forecast.upstream} location. */
+    private List<Location> locations = new ArrayList<>();
+
+    /**
+     * Days fetched per archive request. Checkpoints are kept per chunk, so changing this
+     * between runs refetches ranges that were already stored.
+     */
+    private int chunkDays = 31;
+
+    /** Archive requests in flight at once. */
+    private int maxConcurrency = 4;
+
+    /** Shut the application down once every chunk has been tried. */
+    private boolean exitWhenDone = true;
+
+    @Data
+    public static class Location {
+
+        private double latitude;
+
+        private double longitude;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.batch.TextReplaceBatchRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("batch")
+@EnableConfigurationProperties(BatchProperties.class)
+public class BatchConfig {
+
+    @Bean
+    public TextReplaceBatchRunner textReplaceBatchRunner(BatchProperties properties,
+                                                         ConfigurableApplicationContext context) {
+        return new TextReplaceBatchRunner(properties, context);
+    }
+}
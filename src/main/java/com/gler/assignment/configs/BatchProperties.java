@@ -0,0 +1,32 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.text.TextUnit;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * File-to-file text replacement run by the {@code batch} profile.
+ */
+@Data
+@ConfigurationProperties(prefix = "text.batch")
+public class BatchProperties {
+
+    /** Newline-delimited UTF-8 input. */
+    private Path input;
+
+    private Path output;
+
+    /** Target chunk size; chunks end on the first newline after it. */
+    private DataSize chunkSize = DataSize.ofMegabytes(8);
+
+    /** Worker threads; 0 uses one per available processor. */
+    private int parallelism = 0;
+
+    private TextUnit unit = TextUnit.CODE_POINT;
+
+    /** Shut the application down once the file is written. */
+    private boolean exitWhenDone = true;
+}
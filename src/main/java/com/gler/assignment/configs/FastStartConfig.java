@@ -0,0 +1,34 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.cache.ForecastCacheSnapshotter;
+import com.gler.assignment.controllers.ForcastController;
+import com.gler.assignment.controllers.TextReplaceController;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.DispatcherServlet;
+
+/**
+ * The {@code faststart} profile makes every bean lazy; the request path is kept eager so the
+ * first request does not pay for creating it. So is the cache snapshotter, which nothing
+ * references: it has to restore the snapshot on startup and write it back on its schedule.
+ * Everything else (history, metrics binders, ...) is built on first use.
+ */
+@Configuration
+@Profile("faststart")
+public class FastStartConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                DispatcherServlet.class,
+                ForcastController.class,
+                TextReplaceController.class,
+                RestTemplate.class,
+                ObjectMapper.class,
+                ForecastCacheSnapshotter.class);
+    }
+}
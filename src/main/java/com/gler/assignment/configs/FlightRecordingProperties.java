@@ -0,0 +1,21 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Limits of recordings started through the {@code jfr} management endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.jfr")
+public class FlightRecordingProperties {
+
+    /** Recordings stop on their own after this long; longer requested durations are cut to it. */
+    private Duration maxDuration = Duration.ofMinutes(10);
+
+    /** Disk space a recording may use; older chunks are dropped beyond it. */
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+}
@@ -0,0 +1,23 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.grpc.GrpcServerLifecycle;
+import io.grpc.BindableService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+@ConditionalOnProperty(prefix = "grpc.server", name = "enabled", matchIfMissing = true)
+public class GrpcConfig {
+
+    @Bean
+    public GrpcServerLifecycle grpcServerLifecycle(GrpcProperties properties, List<BindableService> services,
+                                                   ApplicationContext context) {
+        return new GrpcServerLifecycle(properties, services, context);
+    }
+}
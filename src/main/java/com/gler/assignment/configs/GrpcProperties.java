@@ -0,0 +1,24 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * The gRPC server started next to the embedded web server.
+ */
+@Data
+@ConfigurationProperties(prefix = "grpc.server")
+public class GrpcProperties {
+
+    private boolean enabled = true;
+
+    private int port = 9016;
+
+    private DataSize maxInboundMessageSize = DataSize.ofMegabytes(4);
+
+    /** How long in-flight calls get to finish on shutdown before they are cancelled. */
+    private Duration shutdownGracePeriod = Duration.ofSeconds(5);
+}
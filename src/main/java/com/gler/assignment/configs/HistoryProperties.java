@@ -0,0 +1,15 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits of the stored-history endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.history")
+public class HistoryProperties {
+
+    /** Most days one request may cover; with one row per day this also bounds the rows returned. */
+    private int maxDays = 366;
+}
@@ -0,0 +1,49 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.OpenMeteoResponse;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes the shared {@link ObjectMapper} used by Spring MVC and the {@code RestTemplate}:
+ * Blackbird replaces reflective property access with generated lambdas, buffers come
+ * from a bounded pool shared by all threads, and the hot-path types get pre-built
+ * readers and writers.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /** Picked up by Spring Boot and registered on the auto-configured {@link ObjectMapper}. */
+    @Bean
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer pooledJsonFactoryCustomizer() {
+        return builder -> builder.factory(pooledJsonFactory());
+    }
+
+    /**
+     * Registered with Spring Boot's {@code HttpMessageConverters}, which puts it ahead of the
+     * generic Jackson converter for both Spring MVC and {@code RestTemplateBuilder}.
+     */
+    @Bean
+    public PrebuiltJsonHttpMessageConverter prebuiltJsonHttpMessageConverter(ObjectMapper objectMapper) {
+        return new PrebuiltJsonHttpMessageConverter(objectMapper,
+                new Class<?>[]{OpenMeteoResponse.class},
+                new Class<?>[]{ForecastResponse.class});
+    }
+
+    public static JsonFactory pooledJsonFactory() {
+        return JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedBoundedPool())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-memory leaderboards of the locations with the highest daily maxima.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.leaderboard")
+public class LeaderboardProperties {
+
+    /** Locations kept per metric and day; also the largest {@code limit} a query may ask for. */
+    private int capacity = 100;
+
+    /** Days back from today that have boards; older days are neither loaded nor updated. */
+    private int retentionDays = 14;
+
+    /** How often the boards are reloaded to pick up rows written by other processes or replicas. */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,30 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.logging.DropCountingAsyncAppender;
+import com.gler.assignment.logging.SamplingTurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Publishes what the prod logging setup deliberately leaves out: events dropped by the
+ * async appender and events skipped by sampling. Both stay at zero in other profiles.
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    @Bean
+    public MeterBinder loggingDropMetrics() {
+        return registry -> {
+            FunctionCounter.builder("logging.events.dropped", DropCountingAsyncAppender.class,
+                            type -> DropCountingAsyncAppender.droppedEvents())
+                    .description("Log events discarded because the async queue was full")
+                    .register(registry);
+            FunctionCounter.builder("logging.events.sampled.out", SamplingTurboFilter.class,
+                            type -> SamplingTurboFilter.sampledOutEvents())
+                    .description("Log events skipped by per-logger sampling")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.gler.assignment.configs;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MaskingProperties.class)
+public class MaskingConfig {
+}
@@ -0,0 +1,19 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.text.MaskingRule;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Masking rules loaded at start-up; they can be replaced at runtime through the
+ * {@code /actuator/masking} management endpoint.
+ */
+@Data
+@ConfigurationProperties(prefix = "text.masking")
+public class MaskingProperties {
+
+    private List<MaskingRule> rules = new ArrayList<>();
+}
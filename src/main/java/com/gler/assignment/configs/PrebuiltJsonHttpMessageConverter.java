@@ -0,0 +1,73 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON converter for the hot-path types that reuses one {@link ObjectReader} or
+ * {@link ObjectWriter} per type. Both are created, and their root (de)serializers
+ * resolved, when the converter is built instead of on every message.
+ */
+public class PrebuiltJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final Map<Class<?>, ObjectReader> readers = new HashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+    public PrebuiltJsonHttpMessageConverter(ObjectMapper objectMapper, Class<?>[] readTypes, Class<?>[] writeTypes) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        for (Class<?> type : readTypes) {
+            readers.put(type, objectMapper.readerFor(type));
+        }
+        for (Class<?> type : writeTypes) {
+            writers.put(type, objectMapper.writerFor(type));
+        }
+    }
+
+    public ObjectReader reader(Class<?> type) {
+        return readers.get(type);
+    }
+
+    public ObjectWriter writer(Class<?> type) {
+        return writers.get(type);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return readers.containsKey(clazz) || writers.containsKey(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return readers.containsKey(clazz) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return writers.containsKey(clazz) && canWrite(mediaType);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return readers.get(clazz).readValue(inputMessage.getBody());
+        } catch (JacksonException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        writers.get(value.getClass()).writeValue(outputMessage.getBody(), value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.ratelimit.ClientRateLimiter;
+import com.gler.assignment.ratelimit.RateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers one {@link RateLimitInterceptor} per configured endpoint group, each with its
+ * own buckets, so a client hitting its forecast limit can still use the other endpoints.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "forecast.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public WebMvcConfigurer rateLimitConfigurer(RateLimitProperties properties, ObjectMapper objectMapper,
+                                                MeterRegistry meterRegistry) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                properties.getEndpoints().forEach((name, endpoint) -> {
+                    ClientRateLimiter limiter = new ClientRateLimiter(name, endpoint.getPermitsPerSecond(),
+                            endpoint.getBurst(), properties.getMaxClients(), meterRegistry, System::nanoTime);
+                    registry.addInterceptor(new RateLimitInterceptor(limiter, objectMapper))
+                            .addPathPatterns(endpoint.getPathPatterns());
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-client request limits, one set per endpoint group.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Most client buckets kept per endpoint. Idle buckets are swept to make room; when all
+     * are busy, the one closest to refilling is dropped.
+     */
+    private int maxClients = 10_000;
+
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+
+        private List<String> pathPatterns = new ArrayList<>();
+
+        /** Sustained rate a single client may send. */
+        private double permitsPerSecond = 10;
+
+        /** Requests a client may send back to back before being held to the sustained rate. */
+        private int burst = 20;
+    }
+}
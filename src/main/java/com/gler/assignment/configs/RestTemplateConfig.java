@@ -1,14 +1,22 @@
 package com.gler.assignment.configs;
 
+import com.gler.assignment.jfr.UpstreamFetchRecorder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties(UpstreamProperties.class)
 public class RestTemplateConfig {
 
+    /**
+     * Built from Spring Boot's builder so it shares the application's message converters;
+     * every call is recorded as a JFR event.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder.additionalInterceptors(new UpstreamFetchRecorder()).build();
     }
-}
\ No newline at end of file
+}
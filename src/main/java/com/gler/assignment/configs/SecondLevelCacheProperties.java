@@ -0,0 +1,41 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.models.ForecastEntity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizes and time-to-live of the Hibernate second-level cache regions, keyed by region name.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = defaultRegions();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Region {
+        private long maxEntries;
+
+        /** Expiry after write; {@code null} keeps entries until evicted by size. */
+        private Duration ttl;
+    }
+
+    private static Map<String, Region> defaultRegions() {
+        Map<String, Region> regions = new LinkedHashMap<>();
+        regions.put(ForecastEntity.CACHE_REGION, new Region(10_000, Duration.ofHours(1)));
+        regions.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new Region(1_000, Duration.ofMinutes(10)));
+        // Update timestamps must outlive every cached query result, so they never expire on time.
+        regions.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new Region(1_000, null));
+        return regions;
+    }
+}
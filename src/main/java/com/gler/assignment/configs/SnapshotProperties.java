@@ -0,0 +1,21 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * On-disk snapshot of the upstream forecast cache, used to start warm after a restart.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.snapshot")
+public class SnapshotProperties {
+
+    private boolean enabled = false;
+
+    private Path path = Path.of("data", "forecast-cache.snapshot");
+
+    private Duration interval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,26 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * In-memory grid of stored forecasts for viewport and nearest-location queries.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.spatial")
+public class SpatialProperties {
+
+    /** Side of a grid cell in degrees; about the size of a typical viewport divided by ten. */
+    private double cellDegrees = 0.5;
+
+    /** Days back from today that are indexed; older days are neither loaded nor updated. */
+    private int retentionDays = 14;
+
+    /** How often the grids are reloaded to pick up rows written by other processes or replicas. */
+    private Duration reconcileInterval = Duration.ofMinutes(5);
+
+    /** Largest number of locations one viewport query may return. */
+    private int maxResults = 5000;
+}
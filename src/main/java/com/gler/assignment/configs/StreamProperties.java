@@ -0,0 +1,35 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Server-sent forecast updates on {@code /api/v1/forcast/stream}.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.stream")
+public class StreamProperties {
+
+    /** Events queued per subscriber; a subscriber that falls further behind is disconnected. */
+    private int bufferSize = 16;
+
+    /** Threads writing events to subscribers. */
+    private int senderThreads = 2;
+
+    /**
+     * A write blocked for longer disconnects the subscriber; its sender thread is replaced
+     * until the write returns, so a stalled client cannot hold up the others.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    /** Connections beyond this are refused with 503. */
+    private int maxSubscribers = 20000;
+
+    /** Comment sent to idle streams so proxies keep them open and dead clients are noticed. */
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    /** Lifetime of one connection; EventSource clients reconnect on their own. */
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+}
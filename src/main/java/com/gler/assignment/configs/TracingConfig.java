@@ -0,0 +1,23 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.tracing.JsonLinesSpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingConfig {
+
+    /** Picked up by the OpenTelemetry auto-configuration next to any other exporter. */
+    @Bean
+    @ConditionalOnProperty(prefix = "forecast.tracing", name = "export-file")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(TracingProperties properties, ObjectMapper objectMapper)
+            throws IOException {
+        return new JsonLinesSpanExporter(properties.getExportFile(), objectMapper);
+    }
+}
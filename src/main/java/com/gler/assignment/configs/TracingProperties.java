@@ -0,0 +1,17 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Local span export; sampling itself is {@code management.tracing.sampling.probability}.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.tracing")
+public class TracingProperties {
+
+    /** File receiving one JSON line per finished span; unset disables the file exporter. */
+    private Path exportFile;
+}
@@ -0,0 +1,106 @@
+package com.gler.assignment.configs;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Where and how the Open-Meteo forecast API is called.
+ */
+@Data
+@ConfigurationProperties(prefix = "forecast.upstream")
+public class UpstreamProperties {
+
+    private String baseUrl = "https://api.open-meteo.com/v1/forecast";
+
+    private double latitude = 52.52;
+
+    private double longitude = 13.41;
+
+    /** How long a fetched forecast is reused; Open-Meteo refreshes its models roughly hourly. */
+    private Duration cacheTtl = Duration.ofMinutes(15);
+
+    private Hedge hedge = new Hedge();
+
+    private Retry retry = new Retry();
+
+    private Budget budget = new Budget();
+
+    private Cluster cluster = new Cluster();
+
+    /**
+     * A second, identical request sent when the first is slower than usual.
+     */
+    @Data
+    public static class Hedge {
+
+        private boolean enabled = false;
+
+        /** Hedge once the first attempt is slower than this share of recent calls. */
+        private double percentile = 0.95;
+
+        /** Delay used until enough calls have been observed. */
+        private Duration initialDelay = Duration.ofMillis(300);
+
+        /** Lower bound on the delay, so a fast upstream is not hit twice for every jitter. */
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /** Recent call latencies the percentile is computed from. */
+        private int window = 256;
+
+        /** Threads running hedged calls; calls beyond this run unhedged on the caller. */
+        private int maxConcurrency = 32;
+    }
+
+    /**
+     * Retries of transient upstream failures (I/O errors, 5xx, 429).
+     */
+    @Data
+    public static class Retry {
+
+        private boolean enabled = true;
+
+        /** Attempts per call, the first one included. */
+        private int maxAttempts = 3;
+
+        /** Shortest pause before a retry; pauses grow with decorrelated jitter. */
+        private Duration baseDelay = Duration.ofMillis(50);
+
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /** Time an inbound request may spend on upstream calls; no retry starts past it. */
+        private Duration requestTimeout = Duration.ofSeconds(10);
+    }
+
+    /**
+     * Extra requests, hedges and retries together, that regular calls pay for.
+     */
+    @Data
+    public static class Budget {
+
+        /** Extra requests allowed per upstream call, on average, so an outage cannot triple the load. */
+        private double ratio = 0.1;
+
+        /** Extra requests that may be saved up while the upstream is healthy. */
+        private int cap = 10;
+    }
+
+    /**
+     * Cross-node single-flight through the shared datasource: one node holds a lease for a
+     * query and fetches it, the others read its answer from a shared table.
+     */
+    @Data
+    public static class Cluster {
+
+        private boolean enabled = false;
+
+        /** How long a lease is honoured; a node that dies mid-fetch blocks the key no longer. */
+        private Duration leaseDuration = Duration.ofSeconds(15);
+
+        /** How long a node waits for another node's answer before fetching it itself. */
+        private Duration waitTimeout = Duration.ofSeconds(5);
+
+        private Duration pollInterval = Duration.ofMillis(50);
+    }
+}
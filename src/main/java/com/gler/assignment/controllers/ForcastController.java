@@ -1,14 +1,27 @@
 package com.gler.assignment.controllers;
 
+import com.gler.assignment.cache.ForecastETag;
+import com.gler.assignment.cache.ForecastETagResolver;
+import com.gler.assignment.cache.ForecastResponseCache;
 import com.gler.assignment.dto.ForecastRequest;
 import com.gler.assignment.dto.ForecastResponse;
 import com.gler.assignment.services.ForecastService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -17,9 +30,80 @@ public class ForcastController {
     @Autowired
     private ForecastService forecastService;
 
+    @Autowired
+    private ForecastETagResolver forecastETagResolver;
+
+    @Autowired
+    private ForecastResponseCache forecastResponseCache;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
     @PostMapping(value = "/forcast",consumes = MediaType.APPLICATION_JSON_VALUE,produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ForecastResponse> getForecast(@Valid @RequestBody ForecastRequest request) {
-        ForecastResponse response = forecastService.processForecast(request);
+        ForecastResponse response = observation("post").observe(() -> forecastService.processForecast(request));
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cacheable variant of the POST endpoint with the flags as query parameters. A matching
+     * {@code If-None-Match} is answered with 304 before the forecast pipeline runs, and an
+     * answer already serialized for the current data is copied straight to the response.
+     */
+    @GetMapping(value = "/forcast", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ForecastResponse> getForecast(@Valid ForecastRequest request, WebRequest webRequest,
+                                                        HttpServletResponse servletResponse) throws IOException {
+        return observation("get").observeChecked(() -> conditionalForecast(request, webRequest, servletResponse));
+    }
+
+    private ResponseEntity<ForecastResponse> conditionalForecast(ForecastRequest request, WebRequest webRequest,
+                                                                 HttpServletResponse servletResponse) throws IOException {
+        Optional<ForecastETag> current = forecastETagResolver.resolve(request);
+        if (current.isPresent() && webRequest.checkNotModified(current.get().value())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl(current.get()))
+                    .build();
+        }
+        if (current.isPresent()) {
+            Optional<byte[]> cached = forecastResponseCache.get(current.get().key());
+            if (cached.isPresent()) {
+                writeCached(servletResponse, current.get(), cached.get());
+                return null;
+            }
+        }
+
+        ForecastResponse response = forecastService.processForecast(request);
+        Optional<ForecastETag> resolved = forecastETagResolver.resolve(request);
+        // Only an unchanged tag proves the answer was computed from the data it names. The
+        // max-age moves with the clock, so only the validator is compared.
+        if (resolved.isPresent() && current.isPresent() && resolved.get().value().equals(current.get().value())) {
+            forecastResponseCache.put(resolved.get().key(), response);
+        }
+        return resolved
+                .map(tag -> ResponseEntity.ok().eTag(tag.value()).cacheControl(cacheControl(tag)).body(response))
+                .orElseGet(() -> ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response));
+    }
+
+    /**
+     * Span around the handler itself, nested under the server span of the request, so the
+     * upstream call and the repository access show up as its children.
+     */
+    private Observation observation(String variant) {
+        return Observation.createNotStarted("forecast.request", observationRegistry)
+                .contextualName("ForcastController.getForecast")
+                .lowCardinalityKeyValue("variant", variant);
+    }
+
+    private static void writeCached(HttpServletResponse servletResponse, ForecastETag tag, byte[] body) throws IOException {
+        servletResponse.setStatus(HttpStatus.OK.value());
+        servletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        servletResponse.setContentLength(body.length);
+        servletResponse.setHeader(HttpHeaders.ETAG, tag.value());
+        servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(tag).getHeaderValue());
+        servletResponse.getOutputStream().write(body);
+    }
+
+    private static CacheControl cacheControl(ForecastETag tag) {
+        return CacheControl.maxAge(tag.maxAgeSeconds(), TimeUnit.SECONDS).cachePublic();
+    }
+}
@@ -0,0 +1,38 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.HistoryProperties;
+import com.gler.assignment.dto.ForecastSummary;
+import com.gler.assignment.services.ForecastHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ForecastHistoryController {
+
+    private final ForecastHistoryService forecastHistoryService;
+
+    private final HistoryProperties historyProperties;
+
+    /** Stored daily maxima of the configured location over at most {@code maxDays} days. */
+    @GetMapping(value = "/forcast/history", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ForecastSummary>> getHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= historyProperties.getMaxDays()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(forecastHistoryService.findHistory(from, to));
+    }
+}
@@ -0,0 +1,51 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.LeaderboardProperties;
+import com.gler.assignment.dto.LeaderboardResponse;
+import com.gler.assignment.leaderboard.ForecastLeaderboard;
+import com.gler.assignment.leaderboard.LeaderboardMetric;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ForecastLeaderboardController {
+
+    private final ForecastLeaderboard forecastLeaderboard;
+
+    private final LeaderboardProperties leaderboardProperties;
+
+    /**
+     * Locations with the highest daily maximum of a metric, e.g.
+     * {@code ?metric=wind_speed&limit=50} for today or {@code &from=...&to=...} for a range.
+     */
+    @GetMapping(value = "/forcast/leaderboard", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @RequestParam String metric,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today;
+        LocalDate end = to != null ? to : start;
+        Optional<LeaderboardMetric> leaderboardMetric = LeaderboardMetric.fromApiName(metric);
+        if (leaderboardMetric.isEmpty() || start.isAfter(end)
+                || ChronoUnit.DAYS.between(start, end) >= leaderboardProperties.getRetentionDays()
+                || limit < 1 || limit > leaderboardProperties.getCapacity()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new LeaderboardResponse(metric, start, end,
+                forecastLeaderboard.top(leaderboardMetric.get(), start, end, limit)));
+    }
+}
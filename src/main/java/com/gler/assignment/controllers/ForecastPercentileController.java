@@ -0,0 +1,45 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.PercentileQuery;
+import com.gler.assignment.dto.PercentileSummary;
+import com.gler.assignment.services.ForecastPercentileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ForecastPercentileController {
+
+    private final ForecastPercentileService forecastPercentileService;
+
+    /**
+     * Percentiles of an hourly variable over a date range, e.g.
+     * {@code ?variable=temperature_2m&from=2025-01-01&to=2025-01-31&q=0.5,0.9,0.99}.
+     */
+    @GetMapping(value = "/forcast/percentiles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PercentileSummary> getPercentiles(
+            @RequestParam String variable,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "q", defaultValue = "0.5,0.9,0.99") List<Double> quantiles) {
+        Optional<HourlyVariable> hourlyVariable = HourlyVariable.fromApiName(variable);
+        if (hourlyVariable.isEmpty() || from.isAfter(to) || quantiles.isEmpty()
+                || quantiles.stream().anyMatch(q -> q == null || !(q >= 0 && q <= 1))) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(forecastPercentileService.findPercentiles(new PercentileQuery(
+                hourlyVariable.get(), from, to, quantiles)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.SpatialProperties;
+import com.gler.assignment.dto.NearestForecast;
+import com.gler.assignment.dto.ViewportForecasts;
+import com.gler.assignment.spatial.ForecastSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ForecastSpatialController {
+
+    private final ForecastSpatialIndex forecastSpatialIndex;
+
+    private final SpatialProperties spatialProperties;
+
+    /**
+     * Stored maxima inside a map viewport; {@code west > east} crosses the antimeridian.
+     * Without {@code date} today's values are returned.
+     */
+    @GetMapping(value = "/forcast/within", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ViewportForecasts> getWithin(
+            @RequestParam double south,
+            @RequestParam double west,
+            @RequestParam double north,
+            @RequestParam double east,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "1000") int limit) {
+        if (!isLatitude(south) || !isLatitude(north) || south > north || !isLongitude(west) || !isLongitude(east)
+                || limit < 1 || limit > spatialProperties.getMaxResults()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(forecastSpatialIndex.within(date != null ? date : LocalDate.now(),
+                south, west, north, east, limit));
+    }
+
+    /** The closest location with stored maxima for the day; 404 when there is none. */
+    @GetMapping(value = "/forcast/nearest", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<NearestForecast> getNearest(
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        if (!isLatitude(latitude) || !isLongitude(longitude)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return forecastSpatialIndex.nearest(date != null ? date : LocalDate.now(), latitude, longitude)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static boolean isLatitude(double value) {
+        return value >= -90 && value <= 90;
+    }
+
+    private static boolean isLongitude(double value) {
+        return value >= -180 && value <= 180;
+    }
+}
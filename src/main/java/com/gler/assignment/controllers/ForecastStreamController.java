@@ -0,0 +1,39 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.StreamProperties;
+import com.gler.assignment.stream.ForecastUpdateBroadcaster;
+import com.gler.assignment.stream.SseEmitterSink;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class ForecastStreamController {
+
+    private final ForecastUpdateBroadcaster broadcaster;
+    private final StreamProperties streamProperties;
+
+    /**
+     * Pushes a {@code forecast} event whenever the stored maxima change and an {@code upstream}
+     * event whenever Open-Meteo data for a location is refreshed, replacing client polling.
+     */
+    @GetMapping(value = "/forcast/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream() {
+        SseEmitter emitter = new SseEmitter(streamProperties.getConnectionTimeout().toMillis());
+        ForecastUpdateBroadcaster.Subscription subscription = broadcaster.subscribe(new SseEmitterSink(emitter));
+        if (subscription == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open streams");
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+}
@@ -2,9 +2,13 @@ package com.gler.assignment.controllers;
 
 
 import com.gler.assignment.services.TextReplaceService;
+import com.gler.assignment.text.TextUnit;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -17,4 +21,15 @@ public class TextReplaceController {
     ResponseEntity replace(@RequestParam String text) {
         return textReplaceService.replace(text);
     }
+
+    @PostMapping(consumes = MediaType.TEXT_PLAIN_VALUE)
+    ResponseEntity<byte[]> replace(@RequestBody byte[] text,
+                                   @RequestParam(defaultValue = "CODE_POINT") TextUnit unit) {
+        return textReplaceService.replace(text, unit);
+    }
+
+    @PostMapping(path = "/mask", consumes = MediaType.TEXT_PLAIN_VALUE)
+    ResponseEntity<byte[]> mask(@RequestBody byte[] text) {
+        return textReplaceService.mask(text);
+    }
 }
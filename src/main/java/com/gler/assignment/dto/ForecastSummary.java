@@ -0,0 +1,14 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a stored forecast row. Built directly from the query result,
+ * so it never enters the persistence context.
+ */
+public record ForecastSummary(
+        LocalDate forecastDate,
+        Double maxTemperature,
+        Double maxHumidity,
+        Double maxWindSpeed) {
+}
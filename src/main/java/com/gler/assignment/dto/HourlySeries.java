@@ -0,0 +1,96 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Columnar, primitive copy of the hourly block of an Open-Meteo response. Missing
+ * samples are stored as {@link Double#NaN}; a variable that was not fetched has a
+ * {@code null} column.
+ */
+public record HourlySeries(double[] temperature2m, double[] relativeHumidity2m, double[] windSpeed10m) {
+
+    public static final HourlySeries EMPTY = new HourlySeries(null, null, null);
+
+    public static HourlySeries from(OpenMeteoResponse response) {
+        OpenMeteoResponse.Hourly hourly = response.getHourly();
+        if (hourly == null) {
+            return EMPTY;
+        }
+        return new HourlySeries(
+                toArray(hourly.getTemperature2m()),
+                toArray(hourly.getRelativeHumidity2m()),
+                toArray(hourly.getWindSpeed10m()));
+    }
+
+    /**
+     * Splits the series into one per calendar day of {@code time}, the response's hourly
+     * timestamps ({@code yyyy-MM-ddTHH:mm}, in the response's time zone). Returns an empty map
+     * when the timestamps are missing, since the samples then cannot be attributed to a day.
+     */
+    public SortedMap<LocalDate, HourlySeries> byDay(List<String> time) {
+        SortedMap<LocalDate, HourlySeries> days = new TreeMap<>();
+        if (time == null) {
+            return days;
+        }
+        int start = 0;
+        while (start < time.size()) {
+            String day = time.get(start).substring(0, 10);
+            int end = start + 1;
+            while (end < time.size() && time.get(end).startsWith(day)) {
+                end++;
+            }
+            days.put(LocalDate.parse(day), new HourlySeries(slice(temperature2m, start, end),
+                    slice(relativeHumidity2m, start, end), slice(windSpeed10m, start, end)));
+            start = end;
+        }
+        return days;
+    }
+
+    public double[] column(HourlyVariable variable) {
+        return switch (variable) {
+            case TEMPERATURE_2M -> temperature2m;
+            case RELATIVE_HUMIDITY_2M -> relativeHumidity2m;
+            case WIND_SPEED_10M -> windSpeed10m;
+        };
+    }
+
+    /** Maximum of the column ignoring missing samples, or {@code null} when there is none. */
+    public Double max(HourlyVariable variable) {
+        double[] values = column(variable);
+        if (values == null) {
+            return null;
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        boolean found = false;
+        for (double value : values) {
+            if (!Double.isNaN(value) && value >= max) {
+                max = value;
+                found = true;
+            }
+        }
+        return found ? max : null;
+    }
+
+    private static double[] slice(double[] values, int from, int to) {
+        if (values == null) {
+            return null;
+        }
+        return Arrays.copyOfRange(values, Math.min(from, values.length), Math.min(to, values.length));
+    }
+
+    private static double[] toArray(List<? extends Number> values) {
+        if (values == null) {
+            return null;
+        }
+        double[] array = new double[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            Number value = values.get(i);
+            array[i] = value == null ? Double.NaN : value.doubleValue();
+        }
+        return array;
+    }
+}
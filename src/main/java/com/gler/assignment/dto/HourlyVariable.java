@@ -0,0 +1,69 @@
+package com.gler.assignment.dto;
+
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Hourly variables the forecast endpoint can ask Open-Meteo for. Each variable owns one
+ * bit, so a set of variables is a small int mask that is cheap to compare and hash.
+ */
+public enum HourlyVariable {
+    TEMPERATURE_2M("temperature_2m"),
+    RELATIVE_HUMIDITY_2M("relative_humidity_2m"),
+    WIND_SPEED_10M("wind_speed_10m");
+
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final String apiName;
+
+    HourlyVariable(String apiName) {
+        this.apiName = apiName;
+    }
+
+    public String apiName() {
+        return apiName;
+    }
+
+    /** The variable with the given Open-Meteo name, if any. */
+    public static Optional<HourlyVariable> fromApiName(String apiName) {
+        for (HourlyVariable variable : values()) {
+            if (variable.apiName.equals(apiName)) {
+                return Optional.of(variable);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public boolean in(int mask) {
+        return (mask & bit()) != 0;
+    }
+
+    public static int maskOf(ForecastRequest request) {
+        int mask = 0;
+        if (Boolean.TRUE.equals(request.getAddTemprature())) {
+            mask |= TEMPERATURE_2M.bit();
+        }
+        if (Boolean.TRUE.equals(request.getAddHumidity())) {
+            mask |= RELATIVE_HUMIDITY_2M.bit();
+        }
+        if (Boolean.TRUE.equals(request.getAddWindSpeed())) {
+            mask |= WIND_SPEED_10M.bit();
+        }
+        return mask;
+    }
+
+    /** Comma-separated API names in declaration order, e.g. {@code temperature_2m,wind_speed_10m}. */
+    public static String apiNames(int mask) {
+        StringJoiner names = new StringJoiner(",");
+        for (HourlyVariable variable : values()) {
+            if (variable.in(mask)) {
+                names.add(variable.apiName);
+            }
+        }
+        return names.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package com.gler.assignment.dto;
+
+/**
+ * One location on a leaderboard with its maximum for the day or range.
+ */
+public record LeaderboardEntry(double latitude, double longitude, double value) {
+}
@@ -0,0 +1,7 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LeaderboardResponse(String metric, LocalDate from, LocalDate to, List<LeaderboardEntry> entries) {
+}
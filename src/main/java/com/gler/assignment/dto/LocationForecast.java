@@ -0,0 +1,12 @@
+package com.gler.assignment.dto;
+
+/**
+ * Stored maxima of one location and day; a {@code null} maximum was never fetched.
+ */
+public record LocationForecast(
+        double latitude,
+        double longitude,
+        Double maxTemperature,
+        Double maxHumidity,
+        Double maxWindSpeed) {
+}
@@ -0,0 +1,9 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The stored location closest to a point, with its great-circle distance from it.
+ */
+public record NearestForecast(LocalDate date, LocationForecast forecast, double distanceKm) {
+}
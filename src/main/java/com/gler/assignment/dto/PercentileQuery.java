@@ -0,0 +1,15 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Percentiles of one hourly variable over {@code [from, to]} at the configured location,
+ * the only one whose hourly data is fetched and sketched.
+ */
+public record PercentileQuery(
+        HourlyVariable variable,
+        LocalDate from,
+        LocalDate to,
+        List<Double> quantiles) {
+}
@@ -0,0 +1,22 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Estimated percentiles from the merged daily sketches of a range. {@code sketches} is the
+ * number of day and location sketches merged; values are {@code null} when there were none.
+ */
+public record PercentileSummary(
+        String variable,
+        LocalDate from,
+        LocalDate to,
+        int sketches,
+        long samples,
+        Double min,
+        Double max,
+        List<Percentile> percentiles) {
+
+    public record Percentile(double quantile, Double value) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.gler.assignment.dto;
+
+/**
+ * What a single Open-Meteo call fetches: a location and the mask of {@link HourlyVariable}s.
+ * Also the key of the upstream forecast cache.
+ */
+public record UpstreamQuery(double latitude, double longitude, int variables) {
+
+    public boolean isEmpty() {
+        return variables == 0;
+    }
+
+    public UpstreamQuery withVariables(int mask) {
+        return new UpstreamQuery(latitude, longitude, mask);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gler.assignment.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Stored maxima inside a bounding box. {@code truncated} means more locations matched than
+ * the requested limit; zooming in returns the rest.
+ */
+public record ViewportForecasts(LocalDate date, boolean truncated, List<LocationForecast> forecasts) {
+}
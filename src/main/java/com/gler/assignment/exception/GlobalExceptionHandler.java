@@ -1,8 +1,12 @@
 package com.gler.assignment.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gler.assignment.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,11 +14,22 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Upstream failures come from a couple of endpoints with a couple of messages.
+    private static final int MAX_CACHED_UPSTREAM_BODIES = 64;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<UpstreamErrorKey, UpstreamErrorBody> upstreamErrorBodies = new ConcurrentHashMap<>();
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex,
@@ -35,20 +50,35 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    /**
+     * During an outage every request ends here, so the serialized body is reused for all
+     * failures with the same path and message within the same second.
+     */
     @ExceptionHandler(UpstreamApiException.class)
-    public ResponseEntity<ErrorResponse> handleUpstreamApiException(
+    public ResponseEntity<byte[]> handleUpstreamApiException(
             UpstreamApiException ex,
-            HttpServletRequest request) {
-        
-        ErrorResponse errorResponse = ErrorResponse.builder()
-            .timestamp(LocalDateTime.now())
-            .status(HttpStatus.BAD_GATEWAY.value())
-            .error("Upstream API Unreachable")
-            .message(ex.getMessage())
-            .path(request.getRequestURI())
-            .build();
-        
-        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(errorResponse);
+            HttpServletRequest request) throws JsonProcessingException {
+
+        UpstreamErrorKey key = new UpstreamErrorKey(request.getRequestURI(), ex.getMessage());
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        UpstreamErrorBody cached = upstreamErrorBodies.get(key);
+        if (cached == null || !cached.timestamp().equals(now)) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(now)
+                .status(HttpStatus.BAD_GATEWAY.value())
+                .error("Upstream API Unreachable")
+                .message(ex.getMessage())
+                .path(key.path())
+                .build();
+            cached = new UpstreamErrorBody(now, objectMapper.writeValueAsBytes(errorResponse));
+            if (upstreamErrorBodies.size() < MAX_CACHED_UPSTREAM_BODIES || upstreamErrorBodies.containsKey(key)) {
+                upstreamErrorBodies.put(key, cached);
+            }
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(cached.json());
     }
 
     @ExceptionHandler(Exception.class)
@@ -66,4 +96,10 @@ public class GlobalExceptionHandler {
         
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
-}
\ No newline at end of file
+
+    private record UpstreamErrorKey(String path, String message) {
+    }
+
+    private record UpstreamErrorBody(LocalDateTime timestamp, byte[] json) {
+    }
+}
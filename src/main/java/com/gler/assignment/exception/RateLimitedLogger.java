@@ -0,0 +1,52 @@
+package com.gler.assignment.exception;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets one error per interval through to the log and counts the rest, so a burst of
+ * identical failures costs one stack trace per interval instead of one per request.
+ */
+public class RateLimitedLogger {
+
+    private final Logger log;
+    private final long intervalNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextAllowedNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public RateLimitedLogger(Logger log, Duration interval) {
+        this(log, interval, System::nanoTime);
+    }
+
+    RateLimitedLogger(Logger log, Duration interval, LongSupplier nanoClock) {
+        this.log = log;
+        this.intervalNanos = interval.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextAllowedNanos = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    public void error(String message, Throwable t) {
+        long now = nanoClock.getAsLong();
+        long next = nextAllowedNanos.get();
+        if (now - next < 0 || !nextAllowedNanos.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return;
+        }
+        long skipped = suppressed.sumThenReset();
+        if (skipped == 0) {
+            log.error(message, t);
+        } else {
+            log.error("{} ({} similar failures suppressed)", message, skipped, t);
+        }
+    }
+
+    /** Failures swallowed since the last one that was logged. */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+}
@@ -1,7 +1,14 @@
 package com.gler.assignment.exception;
 
 public class UpstreamApiException extends RuntimeException {
-    
+
+    /**
+     * Thrown for every empty upstream answer. Shared and stackless: during an outage the
+     * trace would only ever point at the same call site.
+     */
+    public static final UpstreamApiException EMPTY_RESPONSE =
+            new UpstreamApiException("Empty response from upstream API", null, false);
+
     public UpstreamApiException(String message) {
         super(message);
     }
@@ -9,4 +16,16 @@ public class UpstreamApiException extends RuntimeException {
     public UpstreamApiException(String message, Throwable cause) {
         super(message, cause);
     }
-}
\ No newline at end of file
+
+    protected UpstreamApiException(String message, Throwable cause, boolean writableStackTrace) {
+        super(message, cause, false, writableStackTrace);
+    }
+
+    /**
+     * A stackless failure to reach the upstream. The client exception is kept as the cause,
+     * which already says where the call failed.
+     */
+    public static UpstreamApiException unreachable(Throwable cause) {
+        return new UpstreamApiException("Connection to the upstream is unreachable", cause, false);
+    }
+}
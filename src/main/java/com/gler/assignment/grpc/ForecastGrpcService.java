@@ -0,0 +1,95 @@
+package com.gler.assignment.grpc;
+
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.exception.UpstreamApiException;
+import com.gler.assignment.grpc.v1.ForecastRpcGrpc;
+import com.gler.assignment.grpc.v1.ForecastRpcRequest;
+import com.gler.assignment.grpc.v1.ForecastRpcResponse;
+import com.gler.assignment.services.ForecastService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC face of {@link ForecastService}. Upstream failures map to {@code UNAVAILABLE}, the
+ * equivalent of the REST endpoint's 502.
+ */
+@Slf4j
+@Component
+public class ForecastGrpcService extends ForecastRpcGrpc.ForecastRpcImplBase {
+
+    @Autowired
+    private ForecastService forecastService;
+
+    @Override
+    public void processForecast(ForecastRpcRequest request, StreamObserver<ForecastRpcResponse> responseObserver) {
+        try {
+            responseObserver.onNext(process(request));
+            responseObserver.onCompleted();
+        } catch (StatusRuntimeException e) {
+            responseObserver.onError(e);
+        }
+    }
+
+    @Override
+    public StreamObserver<ForecastRpcRequest> processForecasts(StreamObserver<ForecastRpcResponse> responseObserver) {
+        return new StreamObserver<>() {
+            private boolean failed;
+
+            @Override
+            public void onNext(ForecastRpcRequest request) {
+                if (failed) {
+                    return;
+                }
+                try {
+                    responseObserver.onNext(process(request));
+                } catch (StatusRuntimeException e) {
+                    failed = true;
+                    responseObserver.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Client cancelled; nothing left to send
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!failed) {
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
+    private ForecastRpcResponse process(ForecastRpcRequest request) {
+        ForecastResponse response;
+        try {
+            response = forecastService.processForecast(new ForecastRequest(request.getAddTemperature(),
+                    request.getAddHumidity(), request.getAddWindSpeed()));
+        } catch (UpstreamApiException e) {
+            throw Status.UNAVAILABLE.withDescription(e.getMessage()).asRuntimeException();
+        } catch (RuntimeException e) {
+            log.error("gRPC forecast request failed", e);
+            throw Status.INTERNAL.withDescription("An unexpected error occurred").asRuntimeException();
+        }
+        ForecastRpcResponse.Builder builder = ForecastRpcResponse.newBuilder()
+                .setMessage(response.getMessage())
+                .setDate(response.getDate());
+        if (response.getMaxTemperature() != null) {
+            builder.setMaxTemperature(response.getMaxTemperature());
+        }
+        if (response.getMaxHumidity() != null) {
+            builder.setMaxHumidity(response.getMaxHumidity());
+        }
+        if (response.getMaxWindSpeed() != null) {
+            builder.setMaxWindSpeed(response.getMaxWindSpeed());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.gler.assignment.grpc;
+
+import com.gler.assignment.grpc.v1.ReplaceRequest;
+import com.gler.assignment.grpc.v1.ReplaceResponse;
+import com.gler.assignment.grpc.v1.TextReplaceRpcGrpc;
+import com.gler.assignment.services.TextReplaceService;
+import com.gler.assignment.text.TextUnit;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC face of {@link TextReplaceService}: UTF-8 bytes in and out, no {@code String} on the way.
+ */
+@Component
+public class TextReplaceGrpcService extends TextReplaceRpcGrpc.TextReplaceRpcImplBase {
+
+    private static final ReplaceResponse REJECTED = ReplaceResponse.newBuilder().setRejected(true).build();
+
+    @Autowired
+    private TextReplaceService textReplaceService;
+
+    @Override
+    public void replace(ReplaceRequest request, StreamObserver<ReplaceResponse> responseObserver) {
+        ReplaceResponse response = process(request);
+        if (response.getRejected()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Text must have at least two characters").asRuntimeException());
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<ReplaceRequest> replaceStream(StreamObserver<ReplaceResponse> responseObserver) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(ReplaceRequest request) {
+                responseObserver.onNext(process(request));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // Client cancelled; nothing left to send
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private ReplaceResponse process(ReplaceRequest request) {
+        TextUnit unit = request.getUnit() == com.gler.assignment.grpc.v1.TextUnit.GRAPHEME
+                ? TextUnit.GRAPHEME : TextUnit.CODE_POINT;
+        ResponseEntity<byte[]> result = textReplaceService.replace(request.getText().toByteArray(), unit);
+        if (!result.getStatusCode().is2xxSuccessful() || result.getBody() == null) {
+            return REJECTED;
+        }
+        // The result array is not touched again, so it can back the message without a copy
+        return ReplaceResponse.newBuilder().setText(UnsafeByteOperations.unsafeWrap(result.getBody())).build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.gler.assignment.impl;
+
+import com.gler.assignment.dto.ForecastSummary;
+import com.gler.assignment.repositories.ForecastRepository;
+import com.gler.assignment.services.ForecastHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ForecastHistoryServiceImpl implements ForecastHistoryService {
+
+    private final ForecastRepository forecastRepository;
+
+    /**
+     * Read-only transaction: Hibernate skips flushing and dirty checking, and the
+     * projection query returns plain records, so no entity snapshots are kept.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ForecastSummary> findHistory(LocalDate from, LocalDate to) {
+        return forecastRepository.findSummariesBetween(from, to);
+    }
+}
@@ -0,0 +1,105 @@
+package com.gler.assignment.impl;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.PercentileQuery;
+import com.gler.assignment.dto.PercentileSummary;
+import com.gler.assignment.repositories.ForecastSketchRepository;
+import com.gler.assignment.services.ForecastPercentileService;
+import com.gler.assignment.sketch.TDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class ForecastPercentileServiceImpl implements ForecastPercentileService {
+
+    private final ForecastSketchRepository forecastSketchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter recordFailures;
+
+    public ForecastPercentileServiceImpl(ForecastSketchRepository forecastSketchRepository,
+                                         TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.forecastSketchRepository = forecastSketchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.recordFailures = Counter.builder("forecast.sketch.failures")
+                .description("Sketch writes that failed and were skipped")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Best effort: the sketches only feed percentile queries, so a failed write is logged and
+     * counted rather than failing the forecast request that fetched the data. A row is only
+     * rewritten when the serialized sketch actually changed.
+     */
+    @Override
+    public void recordSketches(Map<LocalDate, HourlySeries> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> days.forEach(this::writeSketches));
+        } catch (RuntimeException e) {
+            recordFailures.increment();
+            log.warn("Could not record forecast sketches for {}", days.keySet(), e);
+        }
+    }
+
+    private void writeSketches(LocalDate date, HourlySeries hourly) {
+        LocalDateTime now = LocalDateTime.now();
+        for (HourlyVariable variable : HourlyVariable.values()) {
+            double[] column = hourly.column(variable);
+            if (column == null) {
+                continue;
+            }
+            TDigest digest = TDigest.of(column);
+            if (digest.count() == 0) {
+                continue;
+            }
+            byte[] bytes = digest.toBytes();
+            byte[] stored = forecastSketchRepository.findConfiguredLocation(date, variable.apiName()).orElse(null);
+            if (!Arrays.equals(bytes, stored)) {
+                forecastSketchRepository.upsertConfiguredLocation(date, variable.apiName(), bytes, now);
+            }
+        }
+    }
+
+    /**
+     * Sketches are streamed and folded into one digest as they are read, so memory stays
+     * bounded by the compression however many days the range covers.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PercentileSummary findPercentiles(PercentileQuery query) {
+        TDigest merged = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        int sketches = 0;
+        try (Stream<byte[]> blobs = forecastSketchRepository.streamConfiguredLocation(
+                query.variable().apiName(), query.from(), query.to())) {
+            for (Iterator<byte[]> it = blobs.iterator(); it.hasNext(); ) {
+                merged.merge(TDigest.fromBytes(it.next()));
+                sketches++;
+            }
+        }
+
+        boolean empty = merged.count() == 0;
+        List<PercentileSummary.Percentile> percentiles = new ArrayList<>(query.quantiles().size());
+        for (double quantile : query.quantiles()) {
+            percentiles.add(new PercentileSummary.Percentile(quantile, empty ? null : merged.quantile(quantile)));
+        }
+        return new PercentileSummary(query.variable().apiName(), query.from(), query.to(), sketches,
+                merged.count(), empty ? null : merged.min(), empty ? null : merged.max(), percentiles);
+    }
+}
@@ -1,72 +1,134 @@
 package com.gler.assignment.impl;
 
+import com.gler.assignment.cache.CachedForecast;
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.configs.UpstreamProperties;
 import com.gler.assignment.dto.ForecastRequest;
 import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
 import com.gler.assignment.dto.OpenMeteoResponse;
+import com.gler.assignment.dto.UpstreamQuery;
+import com.gler.assignment.jfr.AggregationEvent;
+import com.gler.assignment.jfr.RepositoryEvent;
 import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.exception.RateLimitedLogger;
 import com.gler.assignment.exception.UpstreamApiException;
 import com.gler.assignment.repositories.ForecastRepository;
+import com.gler.assignment.services.ForecastPercentileService;
 import com.gler.assignment.services.ForecastService;
+import com.gler.assignment.services.ForecastStoredEvent;
+import com.gler.assignment.upstream.ClusterSingleFlight;
+import com.gler.assignment.upstream.UpstreamHedger;
+import com.gler.assignment.upstream.UpstreamRetrier;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
 public class ForecastServiceImpl implements ForecastService {
 
-    private static final String OPEN_METEO_API_URL =
-            "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&current=temperature_2m,wind_speed_10m&hourly=temperature_2m,relative_humidity_2m,wind_speed_10m";
+    /** Per-request events; the prod logging config samples this logger. */
+    private static final Logger REQUEST_LOG = LoggerFactory.getLogger("com.gler.assignment.requests");
+
+    private static final RateLimitedLogger FAILURE_LOG = new RateLimitedLogger(log, Duration.ofSeconds(10));
 
     @Autowired
     private RestTemplate restTemplate;
 
+    @Autowired
+    private UpstreamProperties upstreamProperties;
+
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
     @Autowired
     private ForecastRepository forecastRepository;
 
-    @Override
-    public ForecastResponse processForecast(ForecastRequest request) {
-        log.info("Processing forecast request: {}", request);
+    @Autowired
+    private UpstreamHedger upstreamHedger;
 
-        // Call external API
-        OpenMeteoResponse apiResponse = callOpenMeteoApi();
+    @Autowired
+    private UpstreamRetrier upstreamRetrier;
 
-        // Extract maximum values based on request
-        Double maxTemperature = null;
-        Double maxHumidity = null;
-        Double maxWindSpeed = null;
+    @Autowired
+    private ClusterSingleFlight clusterSingleFlight;
 
-        if (request.getAddTemprature() && apiResponse.getHourly() != null
-                && apiResponse.getHourly().getTemperature2m() != null) {
-            maxTemperature = findMaxValue(apiResponse.getHourly().getTemperature2m());
-        }
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-        if (request.getAddHumidity() && apiResponse.getHourly() != null
-                && apiResponse.getHourly().getRelativeHumidity2m() != null) {
-            maxHumidity = findMaxValue(
-                    apiResponse.getHourly().getRelativeHumidity2m().stream()
-                            .map(Integer::doubleValue)
-                            .toList()
-            );
-        }
+    @Autowired
+    private ObservationRegistry observationRegistry;
 
-        if (request.getAddWindSpeed() && apiResponse.getHourly() != null
-                && apiResponse.getHourly().getWindSpeed10m() != null) {
-            maxWindSpeed = findMaxValue(apiResponse.getHourly().getWindSpeed10m());
-        }
+    @Autowired
+    private ForecastPercentileService forecastPercentileService;
 
-        // Store in database
+    @Override
+    public ForecastResponse processForecast(ForecastRequest request) {
+        // Fetch only the requested hourly variables; nothing requested means no upstream call
+        UpstreamQuery query = new UpstreamQuery(upstreamProperties.getLatitude(),
+                upstreamProperties.getLongitude(), HourlyVariable.maskOf(request));
+        REQUEST_LOG.atDebug()
+                .setMessage("Processing forecast request")
+                .addKeyValue("variables", query.variables())
+                .log();
         LocalDate today = LocalDate.now();
-        ForecastEntity entity = forecastRepository.findByForecastDate(today)
-                .orElse(ForecastEntity.builder()
-                        .forecastDate(today)
-                        .build());
+        HourlySeries hourly = query.isEmpty() ? HourlySeries.EMPTY : loadHourly(query);
+
+        // Extract maximum values based on request
+        AggregationEvent aggregation = AggregationEvent.start();
+        Double maxTemperature = request.getAddTemprature() ? hourly.max(HourlyVariable.TEMPERATURE_2M) : null;
+        Double maxHumidity = request.getAddHumidity() ? hourly.max(HourlyVariable.RELATIVE_HUMIDITY_2M) : null;
+        Double maxWindSpeed = request.getAddWindSpeed() ? hourly.max(HourlyVariable.WIND_SPEED_10M) : null;
+        aggregation.finish(hourly, query.variables());
+
+        // Store in database; a concurrent first request for the day can win the insert, in
+        // which case the unique key rejects ours and the maxima are applied to its row instead
+        try {
+            storeMaxima(today, maxTemperature, maxHumidity, maxWindSpeed);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Forecast row for {} was inserted concurrently, updating it", today);
+            storeMaxima(today, maxTemperature, maxHumidity, maxWindSpeed);
+        }
+        REQUEST_LOG.atInfo()
+                .setMessage("Forecast data saved")
+                .addKeyValue("date", today)
+                .addKeyValue("variables", query.variables())
+                .log();
+
+        // Build response
+        return ForecastResponse.builder()
+                .message("Forecast data processed successfully")
+                .maxTemperature(maxTemperature)
+                .maxHumidity(maxHumidity)
+                .maxWindSpeed(maxWindSpeed)
+                .date(today.toString())
+                .build();
+    }
+
+    private void storeMaxima(LocalDate today, Double maxTemperature, Double maxHumidity, Double maxWindSpeed) {
+        RepositoryEvent load = RepositoryEvent.start();
+        Optional<ForecastEntity> existing = observeRepository("findByForecastDate",
+                () -> forecastRepository.findByForecastDate(today));
+        load.finish(RepositoryEvent.LOAD, ForecastEntity.class, existing.isPresent());
+        ForecastEntity entity = existing.orElse(ForecastEntity.builder()
+                .forecastDate(today)
+                .build());
+        ForecastStoredEvent before = storedEvent(entity);
 
         if (maxTemperature != null) {
             entity.setMaxTemperature(maxTemperature);
@@ -78,44 +140,88 @@ public class ForecastServiceImpl implements ForecastService {
             entity.setMaxWindSpeed(maxWindSpeed);
         }
 
-        forecastRepository.save(entity);
-        log.info("Forecast data saved for date: {}", today);
+        RepositoryEvent save = RepositoryEvent.start();
+        observeRepository("save", () -> forecastRepository.save(entity));
+        save.finish(RepositoryEvent.SAVE, ForecastEntity.class, true);
+        ForecastStoredEvent stored = storedEvent(entity);
+        if (!stored.equals(before)) {
+            eventPublisher.publishEvent(stored);
+        }
+    }
 
-        // Build response
-        return ForecastResponse.builder()
-                .message("Forecast data processed successfully")
-                .maxTemperature(maxTemperature)
-                .maxHumidity(maxHumidity)
-                .maxWindSpeed(maxWindSpeed)
-                .date(today.toString())
-                .build();
+    private static ForecastStoredEvent storedEvent(ForecastEntity entity) {
+        return new ForecastStoredEvent(entity.getForecastDate(), entity.getMaxTemperature(),
+                entity.getMaxHumidity(), entity.getMaxWindSpeed());
     }
 
-    private OpenMeteoResponse callOpenMeteoApi() {
+    private HourlySeries loadHourly(UpstreamQuery query) {
+        Optional<CachedForecast> cached = upstreamForecastCache.lookup(query);
+        if (cached.isPresent()) {
+            return cached.get().series();
+        }
+        return upstreamForecastCache.put(query, clusterSingleFlight.fetch(query, () -> fetchHourly(query))).series();
+    }
+
+    /**
+     * Fresh upstream data also replaces the quantile sketches of every day it covers, each from
+     * that day's hours only. Only the node that fetched records them; the others read its answer.
+     */
+    private HourlySeries fetchHourly(UpstreamQuery query) {
+        OpenMeteoResponse response = callOpenMeteoApi(query);
+        HourlySeries series = HourlySeries.from(response);
+        if (response.getHourly() != null) {
+            forecastPercentileService.recordSketches(series.byDay(response.getHourly().getTime()));
+        }
+        return series;
+    }
+
+    private <T> T observeRepository(String method, Supplier<T> call) {
+        return Observation.createNotStarted("forecast.repository", observationRegistry)
+                .contextualName("ForecastRepository." + method)
+                .lowCardinalityKeyValue("method", method)
+                .observe(call);
+    }
+
+    /**
+     * One span for the whole upstream fetch; each HTTP attempt made by the retrier or the
+     * hedger is a client span beneath it and carries the trace context to Open-Meteo.
+     */
+    private OpenMeteoResponse callOpenMeteoApi(UpstreamQuery query) {
+        return Observation.createNotStarted("forecast.upstream.fetch", observationRegistry)
+                .contextualName("callOpenMeteoApi")
+                .highCardinalityKeyValue("hourly", HourlyVariable.apiNames(query.variables()))
+                .observe(() -> requestOpenMeteo(query));
+    }
+
+    private OpenMeteoResponse requestOpenMeteo(UpstreamQuery query) {
+        String url = buildUrl(query);
         try {
-            log.info("Calling Open-Meteo API: {}", OPEN_METEO_API_URL);
-            OpenMeteoResponse response = restTemplate.getForObject(
-                    OPEN_METEO_API_URL,
+            log.atInfo()
+                    .setMessage("Calling Open-Meteo API")
+                    .addKeyValue("latitude", query.latitude())
+                    .addKeyValue("longitude", query.longitude())
+                    .addKeyValue("hourly", () -> HourlyVariable.apiNames(query.variables()))
+                    .log();
+            OpenMeteoResponse response = upstreamRetrier.call(() -> upstreamHedger.call(() -> restTemplate.getForObject(
+                    url,
                     OpenMeteoResponse.class
-            );
+            )));
 
             if (response == null) {
-                throw new UpstreamApiException("Empty response from upstream API");
+                throw UpstreamApiException.EMPTY_RESPONSE;
             }
 
             return response;
         } catch (RestClientException e) {
-            log.error("Failed to call Open-Meteo API", e);
-            throw new UpstreamApiException("Connection to the upstream is unreachable", e);
+            FAILURE_LOG.error("Failed to call Open-Meteo API", e);
+            throw UpstreamApiException.unreachable(e);
         }
     }
 
-    private Double findMaxValue(List<Double> values) {
-        if (values == null || values.isEmpty()) {
-            return null;
-        }
-        return Collections.max(values.stream()
-                .filter(v -> v != null)
-                .toList());
+    private String buildUrl(UpstreamQuery query) {
+        return upstreamProperties.getBaseUrl()
+                + "?latitude=" + query.latitude()
+                + "&longitude=" + query.longitude()
+                + "&hourly=" + HourlyVariable.apiNames(query.variables());
     }
 }
\ No newline at end of file
@@ -1,24 +1,92 @@
 package com.gler.assignment.impl;
 
+import com.gler.assignment.configs.MaskingProperties;
+import com.gler.assignment.jfr.TextTransformEvent;
 import com.gler.assignment.services.TextReplaceService;
+import com.gler.assignment.text.MaskingAutomaton;
+import com.gler.assignment.text.MaskingRule;
+import com.gler.assignment.text.TextUnit;
+import com.gler.assignment.text.Utf8TextReplacer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Slf4j
 @Service
 public class TextReplaceServiceImpl implements TextReplaceService {
 
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    @Autowired
+    private MaskingProperties maskingProperties;
+
+    /** Replaced as a whole, so a request sees either the old or the new rule set. */
+    private volatile MaskingAutomaton maskingAutomaton = MaskingAutomaton.EMPTY;
+
+    @PostConstruct
+    void compileConfiguredRules() {
+        maskingAutomaton = MaskingAutomaton.compile(maskingProperties.getRules());
+    }
+
     @Override
     public ResponseEntity<String> replace(String text) {
         if (text == null) {
             return ResponseEntity.badRequest().build();
         }
-        if (text.length() < 2) {
+        TextTransformEvent event = TextTransformEvent.start();
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        byte[] result = Utf8TextReplacer.replace(utf8, TextUnit.CODE_POINT);
+        event.finish(TextTransformEvent.REPLACE, TextUnit.CODE_POINT, utf8.length, result == null);
+        if (result == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new String(result, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ResponseEntity<byte[]> replace(byte[] utf8, TextUnit unit) {
+        if (utf8 == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        TextTransformEvent event = TextTransformEvent.start();
+        byte[] result = Utf8TextReplacer.replace(utf8, unit);
+        event.finish(TextTransformEvent.REPLACE, unit, utf8.length, result == null);
+        if (result == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().contentType(TEXT_PLAIN_UTF8).body(result);
+    }
+
+    @Override
+    public ResponseEntity<byte[]> mask(byte[] utf8) {
+        if (utf8 == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        TextTransformEvent event = TextTransformEvent.start();
+        byte[] masked = maskingAutomaton.apply(utf8);
+        event.finish(TextTransformEvent.MASK, null, utf8.length, false);
+        return ResponseEntity.ok().contentType(TEXT_PLAIN_UTF8).body(masked);
+    }
+
+    @Override
+    public ResponseEntity<Void> updateMaskingRules(List<MaskingRule> rules) {
+        if (rules == null) {
             return ResponseEntity.badRequest().build();
         }
-        if (text.length() == 2) {
-            return ResponseEntity.ok("");
+        MaskingAutomaton compiled;
+        try {
+            compiled = MaskingAutomaton.compile(rules);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
-        String result = "*" + text.substring(1, text.length() - 1) + "$";
-        return ResponseEntity.ok(result);
+        maskingAutomaton = compiled;
+        log.info("Masking rules replaced: {} patterns, {} automaton states", compiled.patternCount(), compiled.stateCount());
+        return ResponseEntity.noContent().build();
     }
 }
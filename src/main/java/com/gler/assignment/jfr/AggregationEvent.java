@@ -0,0 +1,53 @@
+package com.gler.assignment.jfr;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Reducing hourly samples to the maxima of a forecast answer.
+ */
+@Name("com.gler.assignment.Aggregation")
+@Label("Forecast Aggregation")
+@Category({"Assignment", "Forecast"})
+@Description("Maxima computed from hourly samples")
+@Threshold("1 ms")
+@StackTrace(false)
+public class AggregationEvent extends jdk.jfr.Event {
+
+    @Label("Samples")
+    @Description("Hourly samples scanned over all metrics")
+    int samples;
+
+    @Label("Metrics")
+    @Description("Comma-separated Open-Meteo variable names")
+    String metrics;
+
+    public static AggregationEvent start() {
+        AggregationEvent event = new AggregationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event if it is enabled and took longer than its threshold; the arguments
+     * are only evaluated into fields then.
+     */
+    public void finish(HourlySeries series, int variables) {
+        if (shouldCommit()) {
+            int total = 0;
+            for (HourlyVariable variable : HourlyVariable.values()) {
+                double[] column = variable.in(variables) ? series.column(variable) : null;
+                total += column == null ? 0 : column.length;
+            }
+            this.samples = total;
+            this.metrics = HourlyVariable.apiNames(variables);
+            commit();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.gler.assignment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.URI;
+
+/**
+ * Reading and parsing an upstream response body, from the headers until the body is closed.
+ */
+@Name("com.gler.assignment.Deserialization")
+@Label("Upstream Deserialization")
+@Category({"Assignment", "Forecast"})
+@Description("Reading and parsing an upstream response body")
+@Threshold("5 ms")
+@StackTrace(false)
+public class DeserializationEvent extends jdk.jfr.Event {
+
+    @Label("URL Key")
+    String urlKey;
+
+    @Label("Bytes Read")
+    @DataAmount
+    long bytes;
+
+    public static DeserializationEvent start() {
+        DeserializationEvent event = new DeserializationEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Commits the event if it is enabled and took longer than its threshold. */
+    public void finish(URI uri, long bytes) {
+        if (shouldCommit()) {
+            this.urlKey = UpstreamFetchEvent.urlKey(uri);
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
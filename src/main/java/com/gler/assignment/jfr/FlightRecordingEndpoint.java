@@ -0,0 +1,148 @@
+package com.gler.assignment.jfr;
+
+import com.gler.assignment.configs.FlightRecordingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: POST starts a flight recording, GET dumps what it has recorded so far
+ * as a {@code .jfr} file, DELETE stops it. One recording runs at a time, and for at most
+ * {@code forecast.jfr.max-duration}. The endpoint is not exposed by default; the dump holds
+ * stack samples and request URLs, so expose it only on a private management port.
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecordingEndpoint implements DisposableBean {
+
+    static final List<Class<? extends Event>> PIPELINE_EVENTS = List.of(UpstreamFetchEvent.class,
+            DeserializationEvent.class, AggregationEvent.class, RepositoryEvent.class, TextTransformEvent.class);
+
+    private final FlightRecordingProperties properties;
+    private Recording recording;
+    private Path lastDump;
+
+    public FlightRecordingEndpoint(FlightRecordingProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @param configuration JDK settings to record with, {@code default} or {@code profile}
+     * @param duration      stops the recording on its own after this long; defaults to and is
+     *                      capped at {@code forecast.jfr.max-duration}
+     * @param threshold     overrides the thresholds of the pipeline events, e.g. {@code 0ms} to
+     *                      record every call
+     */
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable String configuration,
+                                                                      @Nullable Duration duration,
+                                                                      @Nullable Duration threshold) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(describe(recording), HttpStatus.CONFLICT.value());
+        }
+        close();
+        String settings = configuration == null ? "profile" : configuration;
+        Recording started;
+        try {
+            started = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "Unknown configuration '" + settings + "'"),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        started.setName("assignment-" + settings);
+        started.setToDisk(true);
+        started.setMaxSize(properties.getMaxSize().toBytes());
+        Duration maxDuration = properties.getMaxDuration();
+        started.setDuration(duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration);
+        for (Class<? extends Event> event : PIPELINE_EVENTS) {
+            if (threshold == null) {
+                started.enable(event);
+            } else {
+                started.enable(event).withThreshold(threshold);
+            }
+        }
+        started.start();
+        recording = started;
+        log.info("Flight recording {} started", started.getName());
+        return new WebEndpointResponse<>(describe(started), WebEndpointResponse.STATUS_OK);
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump() throws IOException {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        deleteLastDump();
+        Path file = Files.createTempFile("assignment-", ".jfr");
+        recording.dump(file);
+        lastDump = file;
+        return new WebEndpointResponse<>(new FileSystemResource(file), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Void> stop() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        close();
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+
+    @Override
+    public synchronized void destroy() {
+        close();
+        deleteLastDump();
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            log.info("Flight recording {} closed", recording.getName());
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException e) {
+                log.warn("Could not delete {}", lastDump, e);
+            }
+            lastDump = null;
+        }
+    }
+
+    private static Map<String, Object> describe(Recording recording) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", recording.getId());
+        description.put("name", recording.getName());
+        description.put("state", recording.getState());
+        description.put("startTime", recording.getStartTime());
+        description.put("duration", recording.getDuration());
+        return description;
+    }
+}
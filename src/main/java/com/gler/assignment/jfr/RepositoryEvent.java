@@ -0,0 +1,49 @@
+package com.gler.assignment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One load or save of stored forecast data.
+ */
+@Name("com.gler.assignment.Repository")
+@Label("Repository Access")
+@Category({"Assignment", "Forecast"})
+@Description("Load or save of stored forecast data")
+@Threshold("5 ms")
+@StackTrace(false)
+public class RepositoryEvent extends jdk.jfr.Event {
+
+    public static final String LOAD = "load";
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Entity")
+    String entity;
+
+    @Label("Found")
+    @Description("Whether a load returned a row; always true for saves")
+    boolean found;
+
+    public static RepositoryEvent start() {
+        RepositoryEvent event = new RepositoryEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Commits the event if it is enabled and took longer than its threshold. */
+    public void finish(String operation, Class<?> entity, boolean found) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.entity = entity.getSimpleName();
+            this.found = found;
+            commit();
+        }
+    }
+}
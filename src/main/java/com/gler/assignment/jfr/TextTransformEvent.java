@@ -0,0 +1,57 @@
+package com.gler.assignment.jfr;
+
+import com.gler.assignment.text.TextUnit;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One text replacement or masking request.
+ */
+@Name("com.gler.assignment.TextTransform")
+@Label("Text Transform")
+@Category({"Assignment", "Text"})
+@Description("Replacement or masking of one text")
+@Threshold("1 ms")
+@StackTrace(false)
+public class TextTransformEvent extends jdk.jfr.Event {
+
+    public static final String REPLACE = "replace";
+    public static final String MASK = "mask";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Unit")
+    @Description("Text unit replaced; empty for masking")
+    String unit;
+
+    @Label("Input Size")
+    @DataAmount
+    long inputBytes;
+
+    @Label("Rejected")
+    @Description("Whether the text was refused as too short")
+    boolean rejected;
+
+    public static TextTransformEvent start() {
+        TextTransformEvent event = new TextTransformEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Commits the event if it is enabled and took longer than its threshold. */
+    public void finish(String operation, TextUnit unit, long inputBytes, boolean rejected) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.unit = unit == null ? "" : unit.name();
+            this.inputBytes = inputBytes;
+            this.rejected = rejected;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.gler.assignment.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.URI;
+
+/**
+ * An upstream HTTP call from sending the request until the response headers arrived.
+ */
+@Name("com.gler.assignment.UpstreamFetch")
+@Label("Upstream Fetch")
+@Category({"Assignment", "Forecast"})
+@Description("HTTP call to an upstream API, until the response headers arrived")
+@Threshold("20 ms")
+@StackTrace(false)
+public class UpstreamFetchEvent extends jdk.jfr.Event {
+
+    @Label("URL Key")
+    @Description("Host, path and query of the request")
+    String urlKey;
+
+    @Label("Status")
+    int status;
+
+    @Label("Content Length")
+    @Description("Declared response size; -1 when the body is chunked")
+    @DataAmount
+    long contentLength;
+
+    public static UpstreamFetchEvent start() {
+        UpstreamFetchEvent event = new UpstreamFetchEvent();
+        event.begin();
+        return event;
+    }
+
+    /** Commits the event if it is enabled and took longer than its threshold. */
+    public void finish(URI uri, int status, long contentLength) {
+        if (shouldCommit()) {
+            this.urlKey = urlKey(uri);
+            this.status = status;
+            this.contentLength = contentLength;
+            commit();
+        }
+    }
+
+    static String urlKey(URI uri) {
+        String query = uri.getRawQuery();
+        return uri.getHost() + uri.getRawPath() + (query == null ? "" : "?" + query);
+    }
+}
@@ -0,0 +1,119 @@
+package com.gler.assignment.jfr;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Records an {@link UpstreamFetchEvent} for every outbound call and, while that event type
+ * is being recorded, a {@link DeserializationEvent} spanning the body from the headers until
+ * the converter closes it. With recording off only the disabled event objects remain, which
+ * the JIT removes.
+ */
+public class UpstreamFetchRecorder implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        UpstreamFetchEvent fetch = UpstreamFetchEvent.start();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            fetch.finish(request.getURI(), 0, -1);
+            throw e;
+        }
+        fetch.finish(request.getURI(), response.getStatusCode().value(), response.getHeaders().getContentLength());
+
+        DeserializationEvent deserialization = DeserializationEvent.start();
+        if (!deserialization.isEnabled()) {
+            return response;
+        }
+        return new RecordedResponse(response, deserialization, request.getURI());
+    }
+
+    private static final class RecordedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final DeserializationEvent event;
+        private final URI uri;
+        private CountingInputStream body;
+
+        RecordedResponse(ClientHttpResponse delegate, DeserializationEvent event, URI uri) {
+            this.delegate = delegate;
+            this.event = event;
+            this.uri = uri;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new CountingInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            event.finish(uri, body == null ? 0 : body.count);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.gler.assignment.leaderboard;
+
+import com.gler.assignment.backfill.BackfillChunkStoredEvent;
+import com.gler.assignment.backfill.DailyMaxima;
+import com.gler.assignment.configs.LeaderboardProperties;
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.LeaderboardEntry;
+import com.gler.assignment.services.ForecastStoredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Top locations per metric and day by their stored daily maximum. Every stored forecast and
+ * every committed backfill chunk updates the boards in place; readers get an immutable,
+ * already sorted snapshot, so a query costs {@code O(limit)} however many locations exist.
+ * The boards of the retention window are loaded from {@code forecast_data} on startup and
+ * reloaded every {@code reconcileInterval}, which picks up rows written by other processes
+ * (a backfill run, other replicas) that publish no events here.
+ * <p>
+ * Events, board reloads and full loads are applied in order on one updater thread, so neither
+ * the publishing request thread nor the scheduler waits on a query. A load builds fresh boards
+ * and swaps them in; events that arrive during its scan queue behind it.
+ */
+@Slf4j
+@Component
+public class ForecastLeaderboard implements DisposableBean {
+
+    private static final String SCAN_SQL = "select forecast_date, latitude, longitude, "
+            + "max_temperature, max_humidity, max_wind_speed from forecast_data where forecast_date >= ?";
+
+    private static final String DAY_SQL = "select latitude, longitude, %1$s from forecast_data "
+            + "where forecast_date = ? and %1$s is not null order by %1$s desc limit ?";
+
+    private record BoardKey(LeaderboardMetric metric, LocalDate date) {
+    }
+
+    private record Location(double latitude, double longitude) {
+    }
+
+    private record Loaded(int boards, int rows, LocalDate cutoff) {
+    }
+
+    private static final class Board {
+        final IndexedTopK<Location> heap;
+        volatile List<LeaderboardEntry> snapshot = List.of();
+
+        Board(int capacity) {
+            this.heap = new IndexedTopK<>(capacity);
+        }
+
+        void publish() {
+            List<IndexedTopK.Entry<Location>> sorted = heap.sorted();
+            List<LeaderboardEntry> entries = new ArrayList<>(sorted.size());
+            for (IndexedTopK.Entry<Location> entry : sorted) {
+                entries.add(new LeaderboardEntry(entry.key().latitude(), entry.key().longitude(), entry.value()));
+            }
+            snapshot = List.copyOf(entries);
+        }
+    }
+
+    private final LeaderboardProperties properties;
+    private final UpstreamProperties upstreamProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<BoardKey, Board> boards = new ConcurrentHashMap<>();
+    private final Counter repairs;
+    private final ExecutorService updates = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "forecast-leaderboard");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean loadQueued = new AtomicBoolean();
+
+    public ForecastLeaderboard(LeaderboardProperties properties, UpstreamProperties upstreamProperties,
+                               JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.upstreamProperties = upstreamProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.repairs = Counter.builder("forecast.leaderboard.repairs")
+                .description("Boards reloaded because a lowered value may have let another location in")
+                .register(meterRegistry);
+    }
+
+    /** The top {@code limit} locations of one day, highest first. */
+    public List<LeaderboardEntry> top(LeaderboardMetric metric, LocalDate date, int limit) {
+        Board board = boards.get(new BoardKey(metric, date));
+        if (board == null) {
+            return List.of();
+        }
+        List<LeaderboardEntry> snapshot = board.snapshot;
+        return snapshot.subList(0, Math.min(limit, snapshot.size()));
+    }
+
+    /**
+     * The top {@code limit} locations by their maximum over {@code [from, to]}. A location in
+     * the range's top {@code K} is in the top {@code K} of the day it peaked, so merging the
+     * daily boards is exact and costs {@code O(days · capacity)}.
+     */
+    public List<LeaderboardEntry> top(LeaderboardMetric metric, LocalDate from, LocalDate to, int limit) {
+        if (from.equals(to)) {
+            return top(metric, from, limit);
+        }
+        Map<Location, Double> peaks = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Board board = boards.get(new BoardKey(metric, date));
+            if (board != null) {
+                for (LeaderboardEntry entry : board.snapshot) {
+                    peaks.merge(new Location(entry.latitude(), entry.longitude()), entry.value(), Math::max);
+                }
+            }
+        }
+        return peaks.entrySet().stream()
+                .sorted(Map.Entry.<Location, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(peak -> new LeaderboardEntry(peak.getKey().latitude(), peak.getKey().longitude(), peak.getValue()))
+                .toList();
+    }
+
+    @EventListener
+    public void onForecastStored(ForecastStoredEvent event) {
+        submit(() -> record(event.date(), configuredLocation(),
+                event.maxTemperature(), event.maxHumidity(), event.maxWindSpeed()));
+    }
+
+    @EventListener
+    public void onBackfillChunkStored(BackfillChunkStoredEvent event) {
+        Location location = location(event.latitude(), event.longitude());
+        submit(() -> {
+            for (DailyMaxima day : event.days()) {
+                record(day.date(), location, day.maxTemperature(), day.maxHumidity(), day.maxWindSpeed());
+            }
+        });
+    }
+
+    /** Loads every board of the retention window with one scan of {@code forecast_data}. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        submitLoad(loaded -> log.info("Loaded {} leaderboards from {} rows since {}",
+                loaded.boards(), loaded.rows(), loaded.cutoff()));
+    }
+
+    /** Replaces the boards with the table's current state, including writes of other processes. */
+    @Scheduled(fixedDelayString = "${forecast.leaderboard.reconcile-interval:5m}",
+            initialDelayString = "${forecast.leaderboard.reconcile-interval:5m}")
+    public void reconcile() {
+        submitLoad(loaded -> log.debug("Reconciled {} leaderboards from {} rows since {}",
+                loaded.boards(), loaded.rows(), loaded.cutoff()));
+    }
+
+    /** Completes once every update submitted before the call has been applied. */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(() -> { }, updates);
+    }
+
+    @Override
+    public void destroy() {
+        updates.shutdownNow();
+    }
+
+    /** A load already waiting in the queue will see the same table, so a second one is not queued. */
+    private void submitLoad(Consumer<Loaded> report) {
+        if (loadQueued.compareAndSet(false, true)) {
+            submit(() -> {
+                loadQueued.set(false);
+                report.accept(load());
+            });
+        }
+    }
+
+    private void submit(Runnable update) {
+        try {
+            updates.execute(() -> {
+                try {
+                    update.run();
+                } catch (RuntimeException e) {
+                    log.warn("Leaderboard update failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Leaderboard shut down, dropping an update");
+        }
+    }
+
+    private Loaded load() {
+        LocalDate cutoff = cutoff();
+        Map<BoardKey, Board> fresh = new HashMap<>();
+        int[] rows = {0};
+        jdbcTemplate.query(SCAN_SQL, resultSet -> {
+            LocalDate date = resultSet.getDate("forecast_date").toLocalDate();
+            Location location = location(resultSet);
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                double value = resultSet.getDouble(metric.column());
+                if (!resultSet.wasNull()) {
+                    fresh.computeIfAbsent(new BoardKey(metric, date), key -> new Board(properties.getCapacity()))
+                            .heap.offer(location, value);
+                }
+            }
+            rows[0]++;
+        }, Date.valueOf(cutoff));
+        fresh.values().forEach(Board::publish);
+        boards.keySet().retainAll(fresh.keySet());
+        boards.putAll(fresh);
+        return new Loaded(fresh.size(), rows[0], cutoff);
+    }
+
+    private void record(LocalDate date, Location location, Double maxTemperature,
+                        Double maxHumidity, Double maxWindSpeed) {
+        LocalDate cutoff = cutoff();
+        if (date.isBefore(cutoff)) {
+            return;
+        }
+        boards.keySet().removeIf(key -> key.date().isBefore(cutoff));
+        offer(new BoardKey(LeaderboardMetric.TEMPERATURE, date), location, maxTemperature);
+        offer(new BoardKey(LeaderboardMetric.HUMIDITY, date), location, maxHumidity);
+        offer(new BoardKey(LeaderboardMetric.WIND_SPEED, date), location, maxWindSpeed);
+    }
+
+    private void offer(BoardKey key, Location location, Double value) {
+        if (value == null) {
+            return;
+        }
+        Board board = boards.computeIfAbsent(key, k -> new Board(properties.getCapacity()));
+        if (!board.heap.offer(location, value)) {
+            reload(key, board);
+        }
+        board.publish();
+    }
+
+    /**
+     * Refills one board with the day's top rows. One row more than fits is read, so the board
+     * knows the largest value it left out and can tell when it needs reloading again.
+     */
+    private void reload(BoardKey key, Board board) {
+        repairs.increment();
+        board.heap.clear();
+        jdbcTemplate.query(String.format(DAY_SQL, key.metric().column()), resultSet -> {
+            board.heap.offer(location(resultSet), resultSet.getDouble(key.metric().column()));
+        }, Date.valueOf(key.date()), properties.getCapacity() + 1);
+    }
+
+    private LocalDate cutoff() {
+        return LocalDate.now().minusDays(properties.getRetentionDays() - 1L);
+    }
+
+    private Location location(ResultSet resultSet) throws SQLException {
+        double latitude = resultSet.getDouble("latitude");
+        if (resultSet.wasNull()) {
+            return configuredLocation();
+        }
+        return new Location(latitude, resultSet.getDouble("longitude"));
+    }
+
+    private Location location(Double latitude, Double longitude) {
+        return latitude == null || longitude == null ? configuredLocation() : new Location(latitude, longitude);
+    }
+
+    /** Rows of the configured location carry no coordinates; they are shown with the upstream's. */
+    private Location configuredLocation() {
+        return new Location(upstreamProperties.getLatitude(), upstreamProperties.getLongitude());
+    }
+}
@@ -0,0 +1,146 @@
+package com.gler.assignment.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code capacity} largest values by key: a min-heap whose root is the entry next in line
+ * for eviction, plus a map from key to heap slot so a key already on the board is updated
+ * in place in {@code O(log capacity)}.
+ * <p>
+ * Keys that were evicted or never admitted are forgotten. That is only a problem when a
+ * value on the board shrinks below the largest one turned away, because a forgotten key
+ * may then belong on the board. {@link #offer} reports that case, and the caller rebuilds
+ * the board from the full data. Not thread-safe.
+ */
+final class IndexedTopK<K> {
+
+    record Entry<K>(K key, double value) {
+    }
+
+    private final int capacity;
+    private final Object[] keys;
+    private final double[] values;
+    private final Map<K, Integer> slots;
+    private int size;
+
+    /** Largest value that was turned away or evicted since the last {@link #clear()}. */
+    private double turnedAway = Double.NEGATIVE_INFINITY;
+
+    IndexedTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.keys = new Object[capacity];
+        this.values = new double[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Records the current value of {@code key}. Returns {@code false} when the board can no
+     * longer be trusted to hold the top values and has to be rebuilt.
+     */
+    boolean offer(K key, double value) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            double previous = values[slot];
+            values[slot] = value;
+            if (value > previous) {
+                siftDown(slot);
+            } else {
+                siftUp(slot);
+            }
+            return value >= previous || value >= turnedAway;
+        }
+        if (size < capacity) {
+            keys[size] = key;
+            values[size] = value;
+            slots.put(key, size);
+            siftUp(size++);
+            return true;
+        }
+        if (value <= values[0]) {
+            turnedAway = Math.max(turnedAway, value);
+            return true;
+        }
+        turnedAway = Math.max(turnedAway, values[0]);
+        slots.remove(key(0));
+        keys[0] = key;
+        values[0] = value;
+        slots.put(key, 0);
+        siftDown(0);
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0, size, null);
+        slots.clear();
+        size = 0;
+        turnedAway = Double.NEGATIVE_INFINITY;
+    }
+
+    /** The entries from the largest value down. */
+    List<Entry<K>> sorted() {
+        List<Entry<K>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new Entry<>(key(i), values[i]));
+        }
+        entries.sort(Comparator.comparingDouble((Entry<K> entry) -> entry.value()).reversed());
+        return entries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K key(int slot) {
+        return (K) keys[slot];
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (values[parent] <= values[slot]) {
+                return;
+            }
+            swap(slot, parent);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot) {
+        while (true) {
+            int smallest = slot;
+            int left = 2 * slot + 1;
+            int right = left + 1;
+            if (left < size && values[left] < values[smallest]) {
+                smallest = left;
+            }
+            if (right < size && values[right] < values[smallest]) {
+                smallest = right;
+            }
+            if (smallest == slot) {
+                return;
+            }
+            swap(slot, smallest);
+            slot = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        Object key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+        double value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+        slots.put(key(a), a);
+        slots.put(key(b), b);
+    }
+}
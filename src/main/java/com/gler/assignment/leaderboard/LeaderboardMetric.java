@@ -0,0 +1,37 @@
+package com.gler.assignment.leaderboard;
+
+import java.util.Optional;
+
+/**
+ * Daily maxima a leaderboard can rank by, with the {@code forecast_data} column holding each.
+ */
+public enum LeaderboardMetric {
+    TEMPERATURE("temperature", "max_temperature"),
+    HUMIDITY("humidity", "max_humidity"),
+    WIND_SPEED("wind_speed", "max_wind_speed");
+
+    private final String apiName;
+    private final String column;
+
+    LeaderboardMetric(String apiName, String column) {
+        this.apiName = apiName;
+        this.column = column;
+    }
+
+    public String apiName() {
+        return apiName;
+    }
+
+    String column() {
+        return column;
+    }
+
+    public static Optional<LeaderboardMetric> fromApiName(String apiName) {
+        for (LeaderboardMetric metric : values()) {
+            if (metric.apiName.equals(apiName)) {
+                return Optional.of(metric);
+            }
+        }
+        return Optional.empty();
+    }
+}
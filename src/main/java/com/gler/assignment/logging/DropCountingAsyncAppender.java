@@ -0,0 +1,35 @@
+package com.gler.assignment.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts what it throws away. Events go through the bounded
+ * array queue of the base class; with {@code neverBlock} a full queue drops the event
+ * instead of parking the calling request thread.
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        boolean discardable = remaining < getDiscardingThreshold() && event.getLevel().toInt() <= Level.INFO_INT;
+        if (discardable || (isNeverBlock() && remaining == 0)) {
+            // The check races with the worker draining the queue, so the count is a close
+            // lower bound rather than exact.
+            DROPPED.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    /** Events dropped by every counting async appender in this JVM. */
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+}
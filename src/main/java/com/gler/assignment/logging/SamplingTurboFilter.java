@@ -0,0 +1,73 @@
+package com.gler.assignment.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one in {@code rate} events of a logger (and its children) at or below
+ * {@code level}; anything more severe always passes. Kept events are left to the normal
+ * level check, so sampling never enables a level the logger has switched off.
+ * <p>
+ * Logback consults turbo filters once per fluent {@code atXxx()} call but twice for a
+ * guarded {@code isXxxEnabled()} plus log, so sampled loggers should use the fluent API.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final LongAdder SAMPLED_OUT = new LongAdder();
+
+    private String loggerName;
+    private Level level = Level.INFO;
+    private int rate = 1;
+
+    private final AtomicLong seen = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level eventLevel, String format, Object[] params, Throwable t) {
+        if (!isStarted() || eventLevel == null || eventLevel.levelInt > level.levelInt
+                || logger.getEffectiveLevel().levelInt > eventLevel.levelInt || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        if (seen.getAndIncrement() % rate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        SAMPLED_OUT.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean matches(String name) {
+        return name.startsWith(loggerName)
+                && (name.length() == loggerName.length() || name.charAt(loggerName.length()) == '.');
+    }
+
+    @Override
+    public void start() {
+        if (loggerName == null || rate < 1) {
+            addError("SamplingTurboFilter needs a loggerName and a rate of at least 1");
+            return;
+        }
+        super.start();
+    }
+
+    /** Events dropped by every sampling filter in this JVM. */
+    public static long sampledOutEvents() {
+        return SAMPLED_OUT.sum();
+    }
+
+    public void setLoggerName(String loggerName) {
+        this.loggerName = loggerName;
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+}
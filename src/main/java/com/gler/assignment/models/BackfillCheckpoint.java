@@ -0,0 +1,32 @@
+package com.gler.assignment.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One archive chunk whose daily maxima are already in {@code forecast_data}. Written in the
+ * same transaction as the maxima, so a rerun skips exactly the chunks that were stored.
+ */
+@Entity
+@Table(name = "backfill_checkpoint")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillCheckpoint {
+
+    @Id
+    @Column(name = "chunk_key", length = 96)
+    private String chunkKey;
+
+    @Column(name = "days_written", nullable = false)
+    private int daysWritten;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
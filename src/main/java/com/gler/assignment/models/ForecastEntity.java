@@ -5,16 +5,28 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "forecast_data")
+@Table(name = "forecast_data", uniqueConstraints = @UniqueConstraint(
+        name = ForecastEntity.UNIQUE_DATE_LOCATION, columnNames = {"forecast_date", "location_key"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ForecastEntity.CACHE_REGION)
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ForecastEntity {
+
+    public static final String CACHE_REGION = "forecast-data";
+
+    public static final String UNIQUE_DATE_LOCATION = "uk_forecast_data_date_location";
+
+    /** {@link #locationKey} of the configured location's rows. */
+    public static final String CONFIGURED_LOCATION_KEY = "";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -22,6 +34,24 @@ public class ForecastEntity {
     
     @Column(name = "forecast_date", nullable = false)
     private LocalDate forecastDate;
+
+    /**
+     * Where the maxima were observed. Rows for the configured {@code forecast.upstream}
+     * location leave both coordinates {@code null}; only backfilled locations carry them.
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * The coordinates as one non-null value, so the unique constraint also holds for the
+     * configured location, whose {@code null} coordinates would all count as distinct.
+     * Derived from the coordinates on every write.
+     */
+    @Column(name = "location_key", nullable = false, length = 64)
+    private String locationKey;
     
     @Column(name = "max_temperature")
     private Double maxTemperature;
@@ -38,5 +68,15 @@ public class ForecastEntity {
     @PrePersist
     protected void onCreate() {
         createdAt = java.time.LocalDateTime.now();
+        locationKey = locationKey(latitude, longitude);
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        locationKey = locationKey(latitude, longitude);
+    }
+
+    public static String locationKey(Double latitude, Double longitude) {
+        return latitude == null || longitude == null ? CONFIGURED_LOCATION_KEY : latitude + "," + longitude;
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.gler.assignment.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Serialized {@link com.gler.assignment.sketch.TDigest} of one hourly variable, stored next to
+ * the {@link ForecastEntity} row of the same date and location. Not cached: the blobs are only
+ * read by range queries, which stream them.
+ */
+@Entity
+@Table(name = "forecast_sketch", uniqueConstraints = @UniqueConstraint(
+        name = ForecastSketch.UNIQUE_DATE_LOCATION_VARIABLE,
+        columnNames = {"forecast_date", "location_key", "variable"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastSketch {
+
+    public static final String UNIQUE_DATE_LOCATION_VARIABLE = "uk_forecast_sketch_date_location_variable";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "forecast_date", nullable = false)
+    private LocalDate forecastDate;
+
+    /** {@code null} for the configured {@code forecast.upstream} location, as in {@link ForecastEntity}. */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /** {@link ForecastEntity#locationKey} of the coordinates, so the unique key holds for {@code null} ones. */
+    @Column(name = "location_key", nullable = false, length = 64)
+    private String locationKey;
+
+    /** Open-Meteo name of the variable, e.g. {@code temperature_2m}. */
+    @Column(name = "variable", nullable = false, length = 32)
+    private String variable;
+
+    /** At most a few kilobytes even for many thousand samples. */
+    @Column(name = "sketch", nullable = false, length = 8192)
+    private byte[] sketch;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        locationKey = ForecastEntity.locationKey(latitude, longitude);
+    }
+}
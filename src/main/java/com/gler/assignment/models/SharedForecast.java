@@ -0,0 +1,34 @@
+package com.gler.assignment.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An upstream answer published by the node that fetched it, for the other nodes to read.
+ * The payload is a one-entry {@link com.gler.assignment.cache.ForecastSnapshotCodec} snapshot.
+ */
+@Entity
+@Table(name = "upstream_shared_forecast")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedForecast {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    /** Epoch milliseconds. */
+    @Column(name = "fetched_at", nullable = false)
+    private long fetchedAt;
+
+    /** Epoch milliseconds after which the answer is no longer served. */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+}
@@ -0,0 +1,30 @@
+package com.gler.assignment.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The node currently fetching an upstream query for the cluster. Written through JDBC by
+ * {@link com.gler.assignment.upstream.ClusterSingleFlight} so that taking the lease is a
+ * single conditional statement; mapped here so the schema is generated with the rest.
+ */
+@Entity
+@Table(name = "upstream_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpstreamLease {
+
+    @Id
+    @Column(name = "lease_key", length = 64)
+    private String leaseKey;
+
+    @Column(name = "owner", nullable = false, length = 36)
+    private String owner;
+
+    /** Epoch milliseconds after which another node may take the lease over. */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+}
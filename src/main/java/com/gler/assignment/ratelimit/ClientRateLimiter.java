@@ -0,0 +1,147 @@
+package com.gler.assignment.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets per client, kept as a single timestamp each (the generic cell rate
+ * algorithm). A client's bucket is the "theoretical arrival time" of its next request;
+ * admitting a request is one compare-and-set on that client's own {@link AtomicLong}, so
+ * clients never contend with each other. A client's first request reserves one of
+ * {@code maxClients} slots with an atomic counter; when none is free even after dropping idle
+ * buckets, the new client is rejected until one frees up. Tracked clients, including throttled
+ * ones, are never evicted, so rotating addresses cannot reset anyone's limit.
+ */
+public class ClientRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxClients;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, AtomicLong> clients = new ConcurrentHashMap<>();
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong nextSweepNanos;
+
+    private final Counter allowed;
+    private final Counter rejected;
+
+    public ClientRateLimiter(String endpoint, double permitsPerSecond, int burst, int maxClients,
+                             MeterRegistry registry, LongSupplier nanoClock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit for " + endpoint + " needs a positive rate and burst");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1L);
+        this.maxClients = maxClients;
+        this.nanoClock = nanoClock;
+        this.nextSweepNanos = new AtomicLong(nanoClock.getAsLong());
+
+        this.allowed = Counter.builder("rate.limit.requests")
+                .tag("endpoint", endpoint).tag("result", "allowed")
+                .description("Requests admitted by the per-client rate limiter")
+                .register(registry);
+        this.rejected = Counter.builder("rate.limit.requests")
+                .tag("endpoint", endpoint).tag("result", "rejected")
+                .description("Requests rejected with 429 by the per-client rate limiter")
+                .register(registry);
+        Gauge.builder("rate.limit.clients", clients, Map::size)
+                .tag("endpoint", endpoint)
+                .description("Clients currently tracked by the rate limiter")
+                .register(registry);
+    }
+
+    /**
+     * Takes a permit for the client.
+     *
+     * @return 0 when the request is admitted, otherwise how many nanoseconds the client
+     * has to wait before the next request can be
+     */
+    public long tryAcquire(String client) {
+        long now = nanoClock.getAsLong();
+        AtomicLong bucket = clients.get(client);
+        if (bucket == null) {
+            bucket = track(client, now);
+            if (bucket == null) {
+                rejected.increment();
+                return Math.max(nextSweepNanos.get() - now, emissionIntervalNanos);
+            }
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long start = arrival - now > 0 ? arrival : now;
+            long wait = start - now - toleranceNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Adds a bucket for a new client if a slot is free, sweeping idle buckets first when the
+     * map is full; returns {@code null} when every slot is held by a busy client. The slot is
+     * reserved before the bucket is added, so the map never holds more than {@code maxClients}.
+     */
+    private AtomicLong track(String client, long now) {
+        if (!reserve()) {
+            sweepIdle(now);
+            if (!reserve()) {
+                return null;
+            }
+        }
+        AtomicLong bucket = new AtomicLong(now);
+        AtomicLong existing = clients.putIfAbsent(client, bucket);
+        if (existing != null) {
+            reserved.decrementAndGet();
+            return existing;
+        }
+        return bucket;
+    }
+
+    private boolean reserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current >= maxClients) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drops clients whose bucket has refilled completely; they behave exactly like unknown
+     * clients. One caller runs it at most once per second, however many new clients arrive;
+     * the others go on without waiting.
+     */
+    private void sweepIdle(long now) {
+        long next = nextSweepNanos.get();
+        if (now - next < 0 || !nextSweepNanos.compareAndSet(next, now + TimeUnit.SECONDS.toNanos(1))) {
+            return;
+        }
+        for (Map.Entry<String, AtomicLong> entry : clients.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if (bucket.get() - now <= 0 && clients.remove(entry.getKey(), bucket)) {
+                reserved.decrementAndGet();
+            }
+        }
+    }
+
+    int trackedClients() {
+        return clients.size();
+    }
+}
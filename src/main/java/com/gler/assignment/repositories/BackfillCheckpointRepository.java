@@ -0,0 +1,15 @@
+package com.gler.assignment.repositories;
+
+import com.gler.assignment.models.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, String> {
+
+    @Query("select c.chunkKey from BackfillCheckpoint c")
+    Set<String> findCompletedKeys();
+}
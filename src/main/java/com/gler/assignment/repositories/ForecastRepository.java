@@ -1,13 +1,38 @@
 package com.gler.assignment.repositories;
 
+import com.gler.assignment.dto.ForecastSummary;
 import com.gler.assignment.models.ForecastEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ForecastRepository extends JpaRepository<ForecastEntity, Long> {
-    Optional<ForecastEntity> findByForecastDate(LocalDate date);
-}
\ No newline at end of file
+
+    /**
+     * Served from the query cache; Hibernate invalidates the cached result
+     * whenever {@code forecast_data} is written, so upserts are always visible. Only rows of
+     * the configured location are considered; backfilled locations carry coordinates.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select f from ForecastEntity f where f.forecastDate = :date and f.latitude is null")
+    Optional<ForecastEntity> findByForecastDate(@Param("date") LocalDate date);
+
+    /**
+     * Constructor-expression projection: rows are mapped straight to records without
+     * managed entities, so large ranges cost no persistence-context bookkeeping.
+     */
+    @Query("select new com.gler.assignment.dto.ForecastSummary("
+            + "f.forecastDate, f.maxTemperature, f.maxHumidity, f.maxWindSpeed) "
+            + "from ForecastEntity f where f.forecastDate between :from and :to and f.latitude is null "
+            + "order by f.forecastDate")
+    List<ForecastSummary> findSummariesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
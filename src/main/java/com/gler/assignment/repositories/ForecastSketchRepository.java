@@ -0,0 +1,41 @@
+package com.gler.assignment.repositories;
+
+import com.gler.assignment.models.ForecastSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * The range query selects only the blob and returns a stream, so a caller merging the
+ * sketches holds one of them at a time; they must run inside a transaction.
+ */
+@Repository
+public interface ForecastSketchRepository extends JpaRepository<ForecastSketch, Long> {
+
+    @Query("select s.sketch from ForecastSketch s where s.forecastDate = :date and s.variable = :variable "
+            + "and s.latitude is null")
+    Optional<byte[]> findConfiguredLocation(@Param("date") LocalDate date, @Param("variable") String variable);
+
+    /**
+     * Inserts or replaces the configured location's sketch in one statement, keyed like the
+     * unique constraint, so concurrent writers for the same day cannot both insert.
+     */
+    @Modifying
+    @Query(value = "merge into forecast_sketch (forecast_date, location_key, variable, sketch, updated_at) "
+            + "key (forecast_date, location_key, variable) values (:date, '', :variable, :sketch, :updatedAt)",
+            nativeQuery = true)
+    void upsertConfiguredLocation(@Param("date") LocalDate date, @Param("variable") String variable,
+                                  @Param("sketch") byte[] sketch, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select s.sketch from ForecastSketch s where s.variable = :variable "
+            + "and s.forecastDate between :from and :to and s.latitude is null")
+    Stream<byte[]> streamConfiguredLocation(@Param("variable") String variable,
+                                            @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,10 @@
+package com.gler.assignment.services;
+
+import com.gler.assignment.dto.ForecastSummary;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ForecastHistoryService {
+    List<ForecastSummary> findHistory(LocalDate from, LocalDate to);
+}
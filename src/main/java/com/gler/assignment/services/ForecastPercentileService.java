@@ -0,0 +1,16 @@
+package com.gler.assignment.services;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.PercentileQuery;
+import com.gler.assignment.dto.PercentileSummary;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+public interface ForecastPercentileService {
+
+    /** Replaces the configured location's sketches for each day with those of that day's hours. */
+    void recordSketches(Map<LocalDate, HourlySeries> days);
+
+    PercentileSummary findPercentiles(PercentileQuery query);
+}
@@ -0,0 +1,10 @@
+package com.gler.assignment.services;
+
+import java.time.LocalDate;
+
+/**
+ * Published by the forecast service after it has stored the maxima of a day; a {@code null}
+ * maximum was never fetched for that day.
+ */
+public record ForecastStoredEvent(LocalDate date, Double maxTemperature, Double maxHumidity, Double maxWindSpeed) {
+}
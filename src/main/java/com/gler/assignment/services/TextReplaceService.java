@@ -1,7 +1,27 @@
 package com.gler.assignment.services;
 
+import com.gler.assignment.text.MaskingRule;
+import com.gler.assignment.text.TextUnit;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 public interface TextReplaceService {
     ResponseEntity replace(String text);
+
+    /**
+     * Same replacement on the raw UTF-8 request body, without decoding it into a {@code String}.
+     */
+    ResponseEntity<byte[]> replace(byte[] utf8, TextUnit unit);
+
+    /**
+     * Applies the current masking rules in one pass over the UTF-8 text.
+     */
+    ResponseEntity<byte[]> mask(byte[] utf8);
+
+    /**
+     * Compiles {@code rules} and swaps them in atomically; requests already running finish
+     * with the previous rules.
+     */
+    ResponseEntity<Void> updateMaskingRules(List<MaskingRule> rules);
 }
@@ -0,0 +1,315 @@
+package com.gler.assignment.sketch;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Merging t-digest: a quantile sketch of a stream of values kept as at most about
+ * {@code compression} weighted centroids. Centroids near the tails stay small, so extreme
+ * percentiles remain accurate, and two digests merge into one with the same error bound,
+ * which is what lets daily sketches be combined into range percentiles at query time.
+ * <p>
+ * A centroid spans at most about {@code 2π·√(q(1-q)) / compression} of the ranks around
+ * quantile {@code q}, which bounds the rank error of an estimate: for the default compression
+ * about ±3% at the median and ±0.6% at the 1st and 99th percentiles. The minimum and maximum
+ * are exact. Below about {@code 2·compression/π} samples (63 by default) no two samples share
+ * a centroid and every estimate interpolates between the actual neighbouring samples, as for a
+ * day of hourly values; a week of them (168) is already subject to the bound.
+ * <p>
+ * Not thread-safe.
+ */
+public final class TDigest {
+
+    public static final double DEFAULT_COMPRESSION = 100;
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final double compression;
+
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+
+    private final double[] bufferMeans;
+    private final long[] bufferWeights;
+    private int buffered;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest(double compression) {
+        if (!(compression >= 10)) {
+            throw new IllegalArgumentException("Compression must be at least 10: " + compression);
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) + 1;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new long[capacity * 5];
+    }
+
+    /** Digest of the given samples; {@link Double#NaN} marks a missing sample and is skipped. */
+    public static TDigest of(double[] values) {
+        TDigest digest = new TDigest(DEFAULT_COMPRESSION);
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                digest.add(value);
+            }
+        }
+        return digest;
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    private void add(double mean, long weight) {
+        if (Double.isNaN(mean) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("Cannot add " + mean);
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = mean;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        count += weight;
+        min = Math.min(min, mean);
+        max = Math.max(max, mean);
+    }
+
+    /** Folds {@code other} into this digest; {@code other} is left unchanged. */
+    public void merge(TDigest other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot merge a digest into itself");
+        }
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        // Centroid means lie inside the range; the exact extremes travel separately.
+        if (other.count > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    public double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    /**
+     * Estimated value at quantile {@code q} in [0, 1], interpolating linearly between centroid
+     * centres; {@link Double#NaN} for an empty digest.
+     */
+    public double quantile(double q) {
+        if (!(q >= 0 && q <= 1)) {
+            throw new IllegalArgumentException("Quantile must be within [0, 1]: " + q);
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double index = q * count;
+        double firstHalf = weights[0] / 2.0;
+        if (index < firstHalf) {
+            return min + (means[0] - min) * index / firstHalf;
+        }
+        int last = centroids - 1;
+        double lastHalf = weights[last] / 2.0;
+        if (index > count - lastHalf) {
+            return max - (max - means[last]) * (count - index) / lastHalf;
+        }
+        double passed = firstHalf;
+        for (int i = 0; i < last; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (passed + gap > index) {
+                return means[i] + (means[i + 1] - means[i]) * (index - passed) / gap;
+            }
+            passed += gap;
+        }
+        return means[last];
+    }
+
+    /**
+     * Merges the buffer into the centroids in one pass over the values in order. A centroid
+     * grows while its right edge stays within one unit of the arcsine scale function
+     * {@code k(q) = compression / 2π · asin(2q - 1)} of its left edge.
+     */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        int total = centroids + buffered;
+        double[] allMeans = Arrays.copyOf(means, total);
+        long[] allWeights = Arrays.copyOf(weights, total);
+        System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        sort(allMeans, allWeights, 0, total - 1);
+
+        double normalizer = compression / (2 * Math.PI);
+        int merged = 0;
+        double mean = allMeans[0];
+        long weight = allWeights[0];
+        long before = 0;
+        double limit = count * upperBound(before / (double) count, normalizer);
+        for (int i = 1; i < total; i++) {
+            if (before + weight + allWeights[i] <= limit) {
+                weight += allWeights[i];
+                mean += (allMeans[i] - mean) * allWeights[i] / weight;
+            } else {
+                allMeans[merged] = mean;
+                allWeights[merged] = weight;
+                merged++;
+                before += weight;
+                mean = allMeans[i];
+                weight = allWeights[i];
+                limit = count * upperBound(before / (double) count, normalizer);
+            }
+        }
+        allMeans[merged] = mean;
+        allWeights[merged] = weight;
+        merged++;
+
+        if (merged > means.length) {
+            means = new double[merged];
+            weights = new long[merged];
+        }
+        System.arraycopy(allMeans, 0, means, 0, merged);
+        System.arraycopy(allWeights, 0, weights, 0, merged);
+        centroids = merged;
+        buffered = 0;
+    }
+
+    /** The quantile one scale unit to the right of {@code q}. */
+    private static double upperBound(double q, double normalizer) {
+        double k = normalizer * Math.asin(2 * q - 1) + 1;
+        if (k >= normalizer * Math.PI / 2) {
+            return 1;
+        }
+        return (Math.sin(k / normalizer) + 1) / 2;
+    }
+
+    private static void sort(double[] keys, long[] values, int from, int to) {
+        while (from < to) {
+            double pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double key = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = key;
+                    long value = values[i];
+                    values[i] = values[j];
+                    values[j] = value;
+                    i++;
+                    j--;
+                }
+            }
+            // Recurse into the smaller half so the stack stays logarithmic.
+            if (j - from < to - i) {
+                sort(keys, values, from, j);
+                from = i;
+            } else {
+                sort(keys, values, i, to);
+                to = j;
+            }
+        }
+    }
+
+    /**
+     * Version byte, compression, count, min, max, the centroid count and then each centroid as
+     * its mean followed by its weight as a varint. Singleton weights cost one byte.
+     */
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer out = ByteBuffer.allocate(1 + 4 + 10 + 8 + 8 + 5 + centroids * (8 + 10));
+        out.put(FORMAT_VERSION);
+        out.putFloat((float) compression);
+        putVarLong(out, count);
+        out.putDouble(min);
+        out.putDouble(max);
+        putVarLong(out, centroids);
+        for (int i = 0; i < centroids; i++) {
+            out.putDouble(means[i]);
+            putVarLong(out, weights[i]);
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            byte version = in.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown sketch format " + version);
+            }
+            TDigest digest = new TDigest(in.getFloat());
+            long count = getVarLong(in);
+            double min = in.getDouble();
+            double max = in.getDouble();
+            int centroids = (int) getVarLong(in);
+            if (centroids > digest.means.length) {
+                digest.means = new double[centroids];
+                digest.weights = new long[centroids];
+            }
+            long total = 0;
+            for (int i = 0; i < centroids; i++) {
+                digest.means[i] = in.getDouble();
+                digest.weights[i] = getVarLong(in);
+                total += digest.weights[i];
+            }
+            if (total != count || in.hasRemaining()) {
+                throw new IllegalArgumentException("Corrupt sketch");
+            }
+            digest.centroids = centroids;
+            digest.count = count;
+            digest.min = min;
+            digest.max = max;
+            return digest;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated sketch", e);
+        }
+    }
+
+    private static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+}
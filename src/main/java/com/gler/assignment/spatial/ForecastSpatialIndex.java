@@ -0,0 +1,212 @@
+package com.gler.assignment.spatial;
+
+import com.gler.assignment.backfill.BackfillChunkStoredEvent;
+import com.gler.assignment.backfill.DailyMaxima;
+import com.gler.assignment.configs.SpatialProperties;
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.LocationForecast;
+import com.gler.assignment.dto.NearestForecast;
+import com.gler.assignment.dto.ViewportForecasts;
+import com.gler.assignment.services.ForecastStoredEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Stored daily maxima by location, one {@link SpatialGrid} per day of the retention window,
+ * for viewport and nearest-location queries without range scans over the coordinate columns.
+ * Kept in step with {@code forecast_data} the same way as the leaderboards: loaded on
+ * startup, updated by every stored forecast and committed backfill chunk, and reloaded every
+ * {@code reconcileInterval} for rows written by other processes. As there, updates and loads
+ * run in order on one updater thread, which is also the single writer each grid allows.
+ */
+@Slf4j
+@Component
+public class ForecastSpatialIndex implements DisposableBean {
+
+    private static final String SCAN_SQL = "select forecast_date, latitude, longitude, "
+            + "max_temperature, max_humidity, max_wind_speed from forecast_data where forecast_date >= ?";
+
+    private record Loaded(int rows, int days, LocalDate cutoff) {
+    }
+
+    private final SpatialProperties properties;
+    private final UpstreamProperties upstreamProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<LocalDate, SpatialGrid> grids = new ConcurrentHashMap<>();
+    private final ExecutorService updates = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "forecast-spatial-index");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean loadQueued = new AtomicBoolean();
+
+    public ForecastSpatialIndex(SpatialProperties properties, UpstreamProperties upstreamProperties,
+                                JdbcTemplate jdbcTemplate) {
+        this.properties = properties;
+        this.upstreamProperties = upstreamProperties;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public ViewportForecasts within(LocalDate date, double south, double west, double north, double east, int limit) {
+        SpatialGrid grid = grids.get(date);
+        List<LocationForecast> forecasts = new ArrayList<>();
+        boolean truncated = grid != null && grid.within(south, west, north, east, limit, forecasts);
+        return new ViewportForecasts(date, truncated, forecasts);
+    }
+
+    public Optional<NearestForecast> nearest(LocalDate date, double latitude, double longitude) {
+        SpatialGrid grid = grids.get(date);
+        SpatialGrid.Nearest nearest = grid == null ? null : grid.nearest(latitude, longitude);
+        return Optional.ofNullable(nearest)
+                .map(found -> new NearestForecast(date, found.forecast(), found.distanceKm()));
+    }
+
+    /** The forecast service stores the whole row, so its values replace the indexed ones. */
+    @EventListener
+    public void onForecastStored(ForecastStoredEvent event) {
+        submit(() -> {
+            if (!event.date().isBefore(cutoff())) {
+                prune();
+                grid(grids, event.date()).put(new LocationForecast(upstreamProperties.getLatitude(),
+                        upstreamProperties.getLongitude(), event.maxTemperature(), event.maxHumidity(),
+                        event.maxWindSpeed()));
+            }
+        });
+    }
+
+    /** A {@code null} backfilled maximum left the stored value alone, so the indexed one is kept. */
+    @EventListener
+    public void onBackfillChunkStored(BackfillChunkStoredEvent event) {
+        submit(() -> index(event));
+    }
+
+    private void index(BackfillChunkStoredEvent event) {
+        boolean configured = event.latitude() == null || event.longitude() == null;
+        double latitude = configured ? upstreamProperties.getLatitude() : event.latitude();
+        double longitude = configured ? upstreamProperties.getLongitude() : event.longitude();
+        LocalDate cutoff = cutoff();
+        prune();
+        for (DailyMaxima day : event.days()) {
+            if (day.date().isBefore(cutoff)) {
+                continue;
+            }
+            SpatialGrid grid = grid(grids, day.date());
+            LocationForecast stored = grid.get(latitude, longitude);
+            grid.put(new LocationForecast(latitude, longitude,
+                    coalesce(day.maxTemperature(), stored == null ? null : stored.maxTemperature()),
+                    coalesce(day.maxHumidity(), stored == null ? null : stored.maxHumidity()),
+                    coalesce(day.maxWindSpeed(), stored == null ? null : stored.maxWindSpeed())));
+        }
+    }
+
+    /** Loads the retention window with one scan of {@code forecast_data}. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        submitLoad(loaded -> log.info("Indexed {} forecast rows of {} days since {}",
+                loaded.rows(), loaded.days(), loaded.cutoff()));
+    }
+
+    /** Replaces the grids with the table's current state, including writes of other processes. */
+    @Scheduled(fixedDelayString = "${forecast.spatial.reconcile-interval:5m}",
+            initialDelayString = "${forecast.spatial.reconcile-interval:5m}")
+    public void reconcile() {
+        submitLoad(loaded -> log.debug("Reindexed {} forecast rows of {} days since {}",
+                loaded.rows(), loaded.days(), loaded.cutoff()));
+    }
+
+    /** Completes once every update submitted before the call has been applied. */
+    public CompletableFuture<Void> flush() {
+        return CompletableFuture.runAsync(() -> { }, updates);
+    }
+
+    @Override
+    public void destroy() {
+        updates.shutdownNow();
+    }
+
+    private void submitLoad(Consumer<Loaded> report) {
+        if (loadQueued.compareAndSet(false, true)) {
+            submit(() -> {
+                loadQueued.set(false);
+                report.accept(load());
+            });
+        }
+    }
+
+    private void submit(Runnable update) {
+        try {
+            updates.execute(() -> {
+                try {
+                    update.run();
+                } catch (RuntimeException e) {
+                    log.warn("Spatial index update failed", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Spatial index shut down, dropping an update");
+        }
+    }
+
+    private Loaded load() {
+        LocalDate cutoff = cutoff();
+        Map<LocalDate, SpatialGrid> fresh = new HashMap<>();
+        int[] rows = {0};
+        jdbcTemplate.query(SCAN_SQL, resultSet -> {
+            grid(fresh, resultSet.getDate("forecast_date").toLocalDate()).put(forecast(resultSet));
+            rows[0]++;
+        }, Date.valueOf(cutoff));
+        grids.keySet().retainAll(fresh.keySet());
+        grids.putAll(fresh);
+        return new Loaded(rows[0], fresh.size(), cutoff);
+    }
+
+    private SpatialGrid grid(Map<LocalDate, SpatialGrid> target, LocalDate date) {
+        return target.computeIfAbsent(date, key -> new SpatialGrid(properties.getCellDegrees()));
+    }
+
+    private void prune() {
+        LocalDate cutoff = cutoff();
+        grids.keySet().removeIf(date -> date.isBefore(cutoff));
+    }
+
+    private LocalDate cutoff() {
+        return LocalDate.now().minusDays(properties.getRetentionDays() - 1L);
+    }
+
+    private LocationForecast forecast(ResultSet resultSet) throws SQLException {
+        double latitude = resultSet.getDouble("latitude");
+        double longitude = resultSet.getDouble("longitude");
+        if (resultSet.getObject("latitude") == null) {
+            latitude = upstreamProperties.getLatitude();
+            longitude = upstreamProperties.getLongitude();
+        }
+        return new LocationForecast(latitude, longitude, resultSet.getObject("max_temperature", Double.class),
+                resultSet.getObject("max_humidity", Double.class), resultSet.getObject("max_wind_speed", Double.class));
+    }
+
+    private static Double coalesce(Double value, Double fallback) {
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,229 @@
+package com.gler.assignment.spatial;
+
+import com.gler.assignment.dto.LocationForecast;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Equal-angle grid over the globe whose non-empty cells hold the forecasts located in them.
+ * A cell's array is replaced, never modified, so readers need no lock while a single writer
+ * updates the grid; each read sees every cell either before or after a write.
+ */
+final class SpatialGrid {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final LocationForecast[] EMPTY = new LocationForecast[0];
+
+    record Nearest(LocationForecast forecast, double distanceKm) {
+    }
+
+    private final double cellDegrees;
+    private final int rows;
+    private final int cols;
+    private final Map<Long, LocationForecast[]> cells = new ConcurrentHashMap<>();
+
+    SpatialGrid(double cellDegrees) {
+        if (!(cellDegrees > 0 && cellDegrees <= 90)) {
+            throw new IllegalArgumentException("Cell size must be within (0, 90] degrees: " + cellDegrees);
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.cols = (int) Math.ceil(360 / cellDegrees);
+    }
+
+    LocationForecast get(double latitude, double longitude) {
+        for (LocationForecast forecast : cells.getOrDefault(key(row(latitude), col(longitude)), EMPTY)) {
+            if (sameLocation(forecast, latitude, longitude)) {
+                return forecast;
+            }
+        }
+        return null;
+    }
+
+    /** Adds the forecast or replaces the one stored for the same coordinates. */
+    void put(LocationForecast forecast) {
+        long key = key(row(forecast.latitude()), col(forecast.longitude()));
+        LocationForecast[] cell = cells.getOrDefault(key, EMPTY);
+        for (int i = 0; i < cell.length; i++) {
+            if (sameLocation(cell[i], forecast.latitude(), forecast.longitude())) {
+                LocationForecast[] updated = cell.clone();
+                updated[i] = forecast;
+                cells.put(key, updated);
+                return;
+            }
+        }
+        LocationForecast[] grown = Arrays.copyOf(cell, cell.length + 1);
+        grown[cell.length] = forecast;
+        cells.put(key, grown);
+    }
+
+    boolean isEmpty() {
+        return cells.isEmpty();
+    }
+
+    /**
+     * Adds to {@code out} the forecasts inside the box, stopping once it holds {@code limit};
+     * returns whether more would have matched. A box with {@code west > east} crosses the
+     * antimeridian. When the box spans more cells than are occupied, the occupied cells are
+     * scanned instead, so a world-sized viewport never walks empty ocean.
+     */
+    boolean within(double south, double west, double north, double east, int limit, List<LocationForecast> out) {
+        if (west > east) {
+            return within(south, west, north, 180, limit, out)
+                    || within(south, -180, north, east, limit, out);
+        }
+        int firstRow = row(south);
+        int lastRow = row(north);
+        int firstCol = col(west);
+        int lastCol = col(east);
+        long spanned = (long) (lastRow - firstRow + 1) * (lastCol - firstCol + 1);
+        if (spanned > cells.size()) {
+            for (Map.Entry<Long, LocationForecast[]> cell : cells.entrySet()) {
+                int row = (int) (cell.getKey() / cols);
+                int col = (int) (cell.getKey() % cols);
+                if (row >= firstRow && row <= lastRow && col >= firstCol && col <= lastCol
+                        && collect(cell.getValue(), south, west, north, east, limit, out)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                LocationForecast[] cell = cells.get(key(row, col));
+                if (cell != null && collect(cell, south, west, north, east, limit, out)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean collect(LocationForecast[] cell, double south, double west, double north, double east,
+                                   int limit, List<LocationForecast> out) {
+        for (LocationForecast forecast : cell) {
+            if (forecast.latitude() >= south && forecast.latitude() <= north
+                    && forecast.longitude() >= west && forecast.longitude() <= east) {
+                if (out.size() == limit) {
+                    return true;
+                }
+                out.add(forecast);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Searches rings of cells outwards from the point's cell until no unvisited cell can hold
+     * anything closer than the best match so far. If the rings would visit more cells than are
+     * occupied, the occupied cells are scanned instead.
+     */
+    Nearest nearest(double latitude, double longitude) {
+        if (cells.isEmpty()) {
+            return null;
+        }
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+        int maxRing = Math.max(rows, cols);
+        Nearest best = null;
+        long visited = 0;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (best != null && lowerBoundKm(latitude, ring - 1) > best.distanceKm()) {
+                return best;
+            }
+            if (visited > cells.size()) {
+                return scanAll(latitude, longitude);
+            }
+            Set<Long> seen = 2 * ring + 1 >= cols ? new HashSet<>() : null;
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                if (row < 0 || row >= rows) {
+                    continue;
+                }
+                boolean edge = row == centerRow - ring || row == centerRow + ring;
+                int step = edge || ring == 0 ? 1 : 2 * ring;
+                for (int col = centerCol - ring; col <= centerCol + ring; col += step) {
+                    long key = key(row, Math.floorMod(col, cols));
+                    if (seen != null && !seen.add(key)) {
+                        continue;
+                    }
+                    visited++;
+                    best = closer(cells.get(key), latitude, longitude, best);
+                }
+            }
+        }
+        return best;
+    }
+
+    private Nearest scanAll(double latitude, double longitude) {
+        Nearest best = null;
+        for (LocationForecast[] cell : cells.values()) {
+            best = closer(cell, latitude, longitude, best);
+        }
+        return best;
+    }
+
+    private static Nearest closer(LocationForecast[] cell, double latitude, double longitude, Nearest best) {
+        if (cell == null) {
+            return best;
+        }
+        for (LocationForecast forecast : cell) {
+            double distance = distanceKm(latitude, longitude, forecast.latitude(), forecast.longitude());
+            if (best == null || distance < best.distanceKm()) {
+                best = new Nearest(forecast, distance);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Smallest distance from the point to anything outside the first {@code ring} rings, which
+     * differs from it by at least {@code ring} cells in latitude or in longitude. A longitude
+     * gap counts for less towards the poles, hence the cosine of the farthest latitude reached.
+     */
+    private double lowerBoundKm(double latitude, int ring) {
+        if (ring <= 0) {
+            return 0;
+        }
+        double gap = Math.toRadians(Math.min(180, ring * cellDegrees));
+        double byLatitude = EARTH_RADIUS_KM * gap;
+        double farthest = Math.toRadians(Math.min(90, Math.abs(latitude) + ring * cellDegrees));
+        double cosines = Math.cos(Math.toRadians(latitude)) * Math.cos(farthest);
+        double byLongitude = 2 * EARTH_RADIUS_KM
+                * Math.asin(Math.min(1, Math.sqrt(Math.max(0, cosines)) * Math.sin(gap / 2)));
+        return Math.min(byLatitude, byLongitude);
+    }
+
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private int row(double latitude) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor((latitude + 90) / cellDegrees)));
+    }
+
+    /** 180° belongs to the last column, so boxes ending at the antimeridian include it. */
+    private int col(double longitude) {
+        if (longitude >= 180) {
+            return cols - 1;
+        }
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), cols);
+    }
+
+    private long key(int row, int col) {
+        return (long) row * cols + col;
+    }
+
+    private static boolean sameLocation(LocationForecast forecast, double latitude, double longitude) {
+        return forecast.latitude() == latitude && forecast.longitude() == longitude;
+    }
+}
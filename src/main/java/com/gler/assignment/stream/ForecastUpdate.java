@@ -0,0 +1,14 @@
+package com.gler.assignment.stream;
+
+/**
+ * One server-sent event, serialized once and shared by every subscriber. A {@code null}
+ * name marks a heartbeat, sent as an SSE comment.
+ */
+public record ForecastUpdate(String name, long id, String data) {
+
+    public static final ForecastUpdate HEARTBEAT = new ForecastUpdate(null, 0, "");
+
+    public boolean isHeartbeat() {
+        return name == null;
+    }
+}
@@ -0,0 +1,351 @@
+package com.gler.assignment.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.cache.ForecastDataRefreshedEvent;
+import com.gler.assignment.configs.StreamProperties;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import com.gler.assignment.services.ForecastStoredEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans forecast updates out to server-sent event subscribers without blocking the publisher.
+ * Publishing only offers the shared, pre-serialized event to each subscriber's bounded queue;
+ * a small pool of sender threads drains the queues, one task per subscriber at a time and
+ * for at most a millisecond per turn, so slow writers cannot monopolize the pool. A
+ * subscriber whose queue is full has fallen {@code bufferSize} events behind and is
+ * disconnected rather than slowing anyone else down. So is one whose write has been blocked
+ * for longer than {@code sendTimeout}: the sender thread stuck in that write is replaced until
+ * it returns, so a stalled client never takes a thread away from the others. Evicted sinks are
+ * closed on a separate pool: closing an emitter waits for a write in progress, which must not
+ * hold up the publisher, the scheduler or the senders. New subscribers
+ * first receive a heartbeat and the latest event of each kind, so a client that reconnects is
+ * immediately up to date.
+ */
+@Slf4j
+@Component
+public class ForecastUpdateBroadcaster implements DisposableBean {
+
+    static final String FORECAST_EVENT = "forecast";
+    static final String UPSTREAM_EVENT = "upstream";
+
+    private static final long SEND_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** {@link Subscriber#sendStarted} while no write is in progress. */
+    private static final long IDLE = Long.MIN_VALUE;
+    /** {@link Subscriber#sendStarted} once the watchdog has replaced the thread stuck in a write. */
+    private static final long STALLED = Long.MAX_VALUE;
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final int senderThreads;
+    private final long sendTimeoutNanos;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senders;
+    private final ExecutorService closers;
+    private int stalledSenders;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, ForecastUpdate> latest = new ConcurrentHashMap<>();
+    private final AtomicLong ids = new AtomicLong();
+
+    private final Counter published;
+    private final Counter evictedSlow;
+    private final Counter evictedGone;
+    private final Counter evictedStalled;
+
+    public ForecastUpdateBroadcaster(StreamProperties properties, ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.bufferSize = properties.getBufferSize();
+        this.maxSubscribers = properties.getMaxSubscribers();
+        this.senderThreads = properties.getSenderThreads();
+        this.sendTimeoutNanos = properties.getSendTimeout().toNanos();
+        this.objectMapper = objectMapper;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), task -> {
+            Thread thread = new Thread(task, "forecast-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger closerNumber = new AtomicInteger();
+        this.closers = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "forecast-stream-close-" + closerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("forecast.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open forecast update streams")
+                .register(meterRegistry);
+        this.published = Counter.builder("forecast.stream.published")
+                .description("Forecast updates offered to subscribers")
+                .register(meterRegistry);
+        this.evictedSlow = evictionCounter(meterRegistry, "slow");
+        this.evictedGone = evictionCounter(meterRegistry, "gone");
+        this.evictedStalled = evictionCounter(meterRegistry, "stalled");
+    }
+
+    private static Counter evictionCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("forecast.stream.evicted")
+                .tag("reason", reason)
+                .description("Subscribers dropped because they fell behind, stalled or their connection failed")
+                .register(registry);
+    }
+
+    /**
+     * Registers a subscriber, or returns {@code null} when {@code maxSubscribers} streams are
+     * already open.
+     */
+    public Subscription subscribe(UpdateSink sink) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+        Subscriber subscriber = new Subscriber(sink);
+        subscribers.add(subscriber);
+        // Flushes the response headers right away, before there is anything to replay
+        subscriber.offer(ForecastUpdate.HEARTBEAT);
+        for (ForecastUpdate update : List.copyOf(latest.values())) {
+            subscriber.offer(update);
+        }
+        return subscriber;
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @EventListener
+    public void onForecastStored(ForecastStoredEvent event) {
+        publish(FORECAST_EVENT, event);
+    }
+
+    /** Only refreshes of one location are announced; dropping the whole cache changes no data. */
+    @EventListener
+    public void onDataRefreshed(ForecastDataRefreshedEvent event) {
+        UpstreamQuery query = event.query();
+        if (query == null) {
+            return;
+        }
+        List<String> variables = new ArrayList<>();
+        for (HourlyVariable variable : HourlyVariable.values()) {
+            if (variable.in(query.variables())) {
+                variables.add(variable.apiName());
+            }
+        }
+        publish(UPSTREAM_EVENT, new UpstreamRefresh(query.latitude(), query.longitude(), variables));
+    }
+
+    @Scheduled(fixedRateString = "${forecast.stream.heartbeat-interval:15s}",
+            initialDelayString = "${forecast.stream.heartbeat-interval:15s}")
+    public void heartbeat() {
+        broadcast(ForecastUpdate.HEARTBEAT);
+    }
+
+    /**
+     * Disconnects subscribers whose current write has been blocked for longer than
+     * {@code sendTimeout} and adds a sender thread for each, until their write returns.
+     */
+    @Scheduled(fixedDelayString = "${forecast.stream.send-timeout:5s}",
+            initialDelayString = "${forecast.stream.send-timeout:5s}")
+    public void evictStalled() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStarted.get();
+            if (started == IDLE || started == STALLED || now - started < sendTimeoutNanos) {
+                continue;
+            }
+            resizeSenders(1);
+            if (!subscriber.sendStarted.compareAndSet(started, STALLED)) {
+                // The write returned in the meantime
+                resizeSenders(-1);
+                continue;
+            }
+            subscriber.evict(evictedStalled);
+        }
+    }
+
+    /** Grows before shrinking so the pool never drops below {@code senderThreads}. */
+    private synchronized void resizeSenders(int delta) {
+        stalledSenders += delta;
+        int size = senderThreads + stalledSenders;
+        if (delta > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    private void publish(String name, Object payload) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} update", name, e);
+            return;
+        }
+        ForecastUpdate update = new ForecastUpdate(name, ids.incrementAndGet(), data);
+        latest.put(name, update);
+        published.increment();
+        broadcast(update);
+    }
+
+    /** O(subscribers) queue offers on the caller's thread; never waits for a subscriber. */
+    void broadcast(ForecastUpdate update) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(update);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.evict(null);
+        }
+        closers.shutdown();
+    }
+
+    record UpstreamRefresh(double latitude, double longitude, List<String> variables) {
+    }
+
+    /**
+     * Handle of one subscriber; cancelling it stops delivery without touching the sink.
+     */
+    public interface Subscription {
+
+        void cancel();
+    }
+
+    private final class Subscriber implements Subscription, Runnable {
+
+        private final UpdateSink sink;
+        private final ArrayBlockingQueue<ForecastUpdate> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean removed = new AtomicBoolean();
+        /** When the write in progress started, or {@link #IDLE}/{@link #STALLED}. */
+        private final AtomicLong sendStarted = new AtomicLong(IDLE);
+
+        private Subscriber(UpdateSink sink) {
+            this.sink = sink;
+        }
+
+        void offer(ForecastUpdate update) {
+            if (removed.get()) {
+                return;
+            }
+            if (!queue.offer(update)) {
+                evict(evictedSlow);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        /**
+         * Drains the queue for up to one time slice, then yields the thread, so a subscriber
+         * with slow writes costs others at most one write per turn. A write that blocks for
+         * longer than the send timeout is left to finish on a thread of its own.
+         */
+        @Override
+        public void run() {
+            long sliceEnd = System.nanoTime() + SEND_SLICE_NANOS;
+            try {
+                ForecastUpdate update;
+                while (!removed.get() && (update = queue.poll()) != null) {
+                    sendStarted.set(System.nanoTime());
+                    try {
+                        sink.send(update);
+                    } finally {
+                        if (sendStarted.getAndSet(IDLE) == STALLED) {
+                            resizeSenders(-1);
+                        }
+                    }
+                    if (System.nanoTime() - sliceEnd >= 0) {
+                        break;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.debug("Dropping forecast stream subscriber", e);
+                evict(evictedGone);
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty() && !removed.get()) {
+                schedule();
+            }
+        }
+
+        /**
+         * Removes the subscriber and closes its sink on the closer pool, never on the calling
+         * thread; {@code reason} is counted if given.
+         */
+        void evict(Counter reason) {
+            if (!remove(reason)) {
+                return;
+            }
+            try {
+                closers.execute(sink::close);
+            } catch (RejectedExecutionException e) {
+                log.debug("Broadcaster shut down, not closing forecast stream subscriber");
+            }
+        }
+
+        /** Returns whether this call removed the subscriber; {@code reason} is counted if given. */
+        boolean remove(Counter reason) {
+            if (!removed.compareAndSet(false, true)) {
+                return false;
+            }
+            subscribers.remove(this);
+            subscriberCount.decrementAndGet();
+            queue.clear();
+            if (reason != null) {
+                reason.increment();
+            }
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            remove(null);
+        }
+    }
+}
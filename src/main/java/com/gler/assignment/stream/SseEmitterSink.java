@@ -0,0 +1,30 @@
+package com.gler.assignment.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Writes updates to a servlet {@link SseEmitter}. The data is already JSON, so it goes out
+ * through the plain string converter without another serialization per subscriber.
+ */
+@RequiredArgsConstructor
+public class SseEmitterSink implements UpdateSink {
+
+    private final SseEmitter emitter;
+
+    @Override
+    public void send(ForecastUpdate update) throws IOException {
+        if (update.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } else {
+            emitter.send(SseEmitter.event().name(update.name()).id(Long.toString(update.id())).data(update.data()));
+        }
+    }
+
+    @Override
+    public void close() {
+        emitter.complete();
+    }
+}
@@ -0,0 +1,17 @@
+package com.gler.assignment.stream;
+
+import java.io.IOException;
+
+/**
+ * Where {@link ForecastUpdateBroadcaster} writes one subscriber's events. Calls to
+ * {@link #send} for a sink never overlap and may block, which only delays that subscriber;
+ * one blocked for longer than the send timeout gets the subscriber disconnected.
+ * {@link #close} runs on a thread of its own and may block until a {@link #send} in progress returns.
+ */
+public interface UpdateSink {
+
+    void send(ForecastUpdate update) throws IOException;
+
+    /** Ends the stream after the subscriber was evicted or the broadcaster shut down. */
+    void close();
+}
@@ -0,0 +1,349 @@
+package com.gler.assignment.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A set of {@link MaskingRule}s compiled into an Aho-Corasick automaton over UTF-8 bytes.
+ * <p>
+ * {@link #apply} makes one pass over the input and replaces matches leftmost-longest without
+ * overlaps: among matches that could still be replaced, the one starting first wins, and of
+ * those the longest. A match is final as soon as no partial match in progress starts at or
+ * before it, so only a window as long as the longest pattern is remembered. Because UTF-8 is
+ * self-synchronising, byte matches of well-formed patterns always fall on character boundaries.
+ * <p>
+ * Instances are immutable and safe to share between threads.
+ */
+public final class MaskingAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final byte MASK = '*';
+
+    public static final MaskingAutomaton EMPTY = compile(List.of());
+
+    /**
+     * Nodes near the root get a full 256-entry row, so failure chains stop there: the root and
+     * its children always, the second level too while it fits this many rows (4 MB).
+     */
+    private static final int MAX_DENSE_ROWS = 4096;
+
+    /**
+     * Complete transitions (failures already resolved) of the root and its children, 256 per
+     * node: almost every step after a mismatch lands on one of them.
+     */
+    private final int[] denseNext;
+    /** Row of the node in {@link #denseNext}, or {@link #NONE}. */
+    private final int[] denseRow;
+    /** Outgoing edges of node {@code n} are {@code edgeStart[n]} until {@code edgeStart[n + 1]}, sorted by label. */
+    private final int[] edgeStart;
+    private final byte[] edgeLabel;
+    private final int[] edgeTarget;
+    private final int[] fail;
+    private final int[] depth;
+    /** Rule ending at the node, or {@link #NONE}. */
+    private final int[] rule;
+    /** Nearest node on the failure chain (excluding itself) where a rule ends. */
+    private final int[] outputLink;
+
+    private final byte[][] replacements;
+    private final int[] patternLength;
+    private final int maxPatternLength;
+    /** Power of two above {@code maxPatternLength}, so slots are found with a mask. */
+    private final int windowSize;
+
+    private MaskingAutomaton(Trie trie, byte[][] replacements, int[] patternLength) {
+        int nodes = trie.size;
+        this.replacements = replacements;
+        this.patternLength = patternLength;
+        this.maxPatternLength = Arrays.stream(patternLength).max().orElse(0);
+        this.windowSize = Integer.highestOneBit(maxPatternLength) << 1;
+        this.depth = Arrays.copyOf(trie.depth, nodes);
+        this.rule = Arrays.copyOf(trie.rule, nodes);
+
+        // Compact the linked-list trie into sorted edge arrays
+        edgeStart = new int[nodes + 1];
+        edgeLabel = new byte[nodes - 1];
+        edgeTarget = new int[nodes - 1];
+        int edges = 0;
+        for (int node = 0; node < nodes; node++) {
+            edgeStart[node] = edges;
+            int first = edges;
+            for (int child = trie.firstChild[node]; child != NONE; child = trie.nextSibling[child]) {
+                edgeLabel[edges] = trie.label[child];
+                edgeTarget[edges++] = child;
+            }
+            sortEdges(first, edges);
+        }
+        edgeStart[nodes] = edges;
+
+        // Breadth-first: a node's failure target is always shallower, so it is already set
+        fail = new int[nodes];
+        outputLink = new int[nodes];
+        denseRow = new int[nodes];
+        Arrays.fill(denseRow, NONE);
+        int levelOne = edgeStart[ROOT + 1] - edgeStart[ROOT];
+        int levelTwo = 0;
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            levelTwo += edgeStart[edgeTarget[e] + 1] - edgeStart[edgeTarget[e]];
+        }
+        int denseDepth = 1 + levelOne + levelTwo <= MAX_DENSE_ROWS ? 2 : 1;
+        denseNext = new int[(1 + levelOne + (denseDepth == 2 ? levelTwo : 0)) * 256];
+        int rows = 0;
+        int[] queue = new int[nodes];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = ROOT;
+        fail[ROOT] = ROOT;
+        outputLink[ROOT] = NONE;
+        while (head < tail) {
+            int node = queue[head++];
+            if (depth[node] <= denseDepth) {
+                int row = rows++ * 256;
+                for (int b = 0; b < 256; b++) {
+                    int target = child(node, (byte) b);
+                    denseNext[row + b] = target != NONE ? target : node == ROOT ? ROOT : next(fail[node], (byte) b);
+                }
+                denseRow[node] = row;
+            }
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTarget[e];
+                int target = node == ROOT ? ROOT : next(fail[node], edgeLabel[e]);
+                fail[child] = target;
+                outputLink[child] = rule[target] != NONE ? target : outputLink[target];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a pattern is null or empty
+     */
+    public static MaskingAutomaton compile(List<MaskingRule> rules) {
+        byte[][] replacements = new byte[rules.size()][];
+        int[] patternLength = new int[rules.size()];
+        Trie trie = new Trie();
+        for (int i = 0; i < rules.size(); i++) {
+            MaskingRule maskingRule = rules.get(i);
+            if (maskingRule.pattern() == null || maskingRule.pattern().isEmpty()) {
+                throw new IllegalArgumentException("Masking rule " + i + " has an empty pattern");
+            }
+            byte[] pattern = maskingRule.pattern().getBytes(StandardCharsets.UTF_8);
+            int node = ROOT;
+            for (byte b : pattern) {
+                node = trie.child(node, b);
+            }
+            // Duplicate patterns: the first rule wins
+            if (trie.rule[node] == NONE) {
+                trie.rule[node] = i;
+            }
+            patternLength[i] = pattern.length;
+            replacements[i] = maskingRule.replacement() == null
+                    ? null : maskingRule.replacement().getBytes(StandardCharsets.UTF_8);
+        }
+        return new MaskingAutomaton(trie, replacements, patternLength);
+    }
+
+    public int patternCount() {
+        return patternLength.length;
+    }
+
+    public int stateCount() {
+        return depth.length;
+    }
+
+    public byte[] apply(byte[] utf8) {
+        if (maxPatternLength == 0) {
+            return utf8;
+        }
+        Output out = new Output(utf8.length);
+        // Longest rule starting at each unsettled position; at most maxPatternLength + 1 of them
+        int[] longestAt = new int[windowSize];
+        Arrays.fill(longestAt, NONE);
+        int cursor = 0;
+        int state = ROOT;
+        for (int i = 0; i < utf8.length; i++) {
+            state = next(state, utf8[i]);
+            for (int node = rule[state] != NONE ? state : outputLink[state]; node != NONE; node = outputLink[node]) {
+                int start = i + 1 - depth[node];
+                if (start >= cursor) {
+                    int slot = start & (windowSize - 1);
+                    if (longestAt[slot] == NONE || depth[node] > patternLength[longestAt[slot]]) {
+                        longestAt[slot] = rule[node];
+                    }
+                }
+            }
+            cursor = emit(utf8, i + 1 - depth[state], cursor, longestAt, out);
+        }
+        emit(utf8, utf8.length, cursor, longestAt, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Settles every position before {@code settledBefore}, which no match still in progress can
+     * start at: copies it or writes the replacement of the longest match starting there.
+     *
+     * @return the new cursor
+     */
+    private int emit(byte[] utf8, int settledBefore, int cursor, int[] longestAt, Output out) {
+        int slotMask = windowSize - 1;
+        while (cursor < settledBefore) {
+            int slot = cursor & slotMask;
+            int matched = longestAt[slot];
+            if (matched == NONE) {
+                out.write(utf8[cursor++]);
+                continue;
+            }
+            int length = patternLength[matched];
+            byte[] replacement = replacements[matched];
+            if (replacement == null) {
+                for (int k = cursor; k < cursor + length; k++) {
+                    if ((utf8[k] & 0xC0) != 0x80) {
+                        out.write(MASK);
+                    }
+                }
+            } else {
+                out.write(replacement);
+            }
+            // Matches starting inside the replaced span are discarded
+            for (int k = cursor; k < cursor + length; k++) {
+                longestAt[k & slotMask] = NONE;
+            }
+            cursor += length;
+        }
+        return cursor;
+    }
+
+    private int next(int state, byte b) {
+        while (denseRow[state] == NONE) {
+            int target = child(state, b);
+            if (target != NONE) {
+                return target;
+            }
+            state = fail[state];
+        }
+        return denseNext[denseRow[state] + (b & 0xFF)];
+    }
+
+    private int child(int node, byte b) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        // Most nodes below the first level have one or two children
+        if (high - low < 8) {
+            for (int e = low; e <= high; e++) {
+                if (edgeLabel[e] == b) {
+                    return edgeTarget[e];
+                }
+            }
+            return NONE;
+        }
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int label = edgeLabel[mid];
+            if (label < b) {
+                low = mid + 1;
+            } else if (label > b) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return NONE;
+    }
+
+    private void sortEdges(int from, int to) {
+        // Insertion sort: nodes below the root rarely have more than a handful of children
+        for (int i = from + 1; i < to; i++) {
+            byte label = edgeLabel[i];
+            int target = edgeTarget[i];
+            int j = i - 1;
+            while (j >= from && edgeLabel[j] > label) {
+                edgeLabel[j + 1] = edgeLabel[j];
+                edgeTarget[j + 1] = edgeTarget[j];
+                j--;
+            }
+            edgeLabel[j + 1] = label;
+            edgeTarget[j + 1] = target;
+        }
+    }
+
+    /** Unsynchronised replacement for {@code ByteArrayOutputStream}, written to once per input byte. */
+    private static final class Output {
+
+        private byte[] bytes;
+        private int size;
+
+        Output(int capacity) {
+            bytes = new byte[Math.max(16, capacity)];
+        }
+
+        void write(byte b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size * 2);
+            }
+            bytes[size++] = b;
+        }
+
+        void write(byte[] b) {
+            if (size + b.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(size * 2, size + b.length));
+            }
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+    /** Growable array-backed trie used only while compiling. */
+    private static final class Trie {
+
+        int size = 1;
+        int[] firstChild = filled(1024);
+        int[] nextSibling = filled(1024);
+        byte[] label = new byte[1024];
+        int[] depth = new int[1024];
+        int[] rule = filled(1024);
+
+        int child(int node, byte b) {
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                if (label[child] == b) {
+                    return child;
+                }
+            }
+            if (size == label.length) {
+                grow();
+            }
+            int child = size++;
+            label[child] = b;
+            depth[child] = depth[node] + 1;
+            nextSibling[child] = firstChild[node];
+            firstChild[node] = child;
+            return child;
+        }
+
+        private void grow() {
+            int capacity = label.length * 2;
+            firstChild = grow(firstChild, capacity);
+            nextSibling = grow(nextSibling, capacity);
+            rule = grow(rule, capacity);
+            label = Arrays.copyOf(label, capacity);
+            depth = Arrays.copyOf(depth, capacity);
+        }
+
+        private static int[] grow(int[] array, int capacity) {
+            int[] grown = Arrays.copyOf(array, capacity);
+            Arrays.fill(grown, array.length, capacity, NONE);
+            return grown;
+        }
+
+        private static int[] filled(int capacity) {
+            int[] array = new int[capacity];
+            Arrays.fill(array, NONE);
+            return array;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.gler.assignment.text;
+
+/**
+ * A literal pattern and what it is replaced with; a {@code null} replacement masks every
+ * character of the match with {@code *}.
+ */
+public record MaskingRule(String pattern, String replacement) {
+
+    public static MaskingRule mask(String pattern) {
+        return new MaskingRule(pattern, null);
+    }
+}
@@ -0,0 +1,55 @@
+package com.gler.assignment.text;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.services.TextReplaceService;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/masking}: POST replaces the masking rules used by every request. It lives
+ * on the management side rather than next to {@code /mask}, so it is only reachable where
+ * the actuator is exposed; it is not exposed by default.
+ */
+@Component
+@WebEndpoint(id = "masking")
+public class MaskingRulesEndpoint {
+
+    private static final TypeReference<List<MaskingRule>> RULES = new TypeReference<>() {
+    };
+
+    private final TextReplaceService textReplaceService;
+    private final ObjectMapper objectMapper;
+
+    public MaskingRulesEndpoint(TextReplaceService textReplaceService, ObjectMapper objectMapper) {
+        this.textReplaceService = textReplaceService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param rules the new rule set as a JSON array of {@code {"pattern", "replacement"}}
+     *              objects, passed as a string because the actuator only binds flat values
+     */
+    @WriteOperation
+    public WebEndpointResponse<Void> replace(@Nullable String rules) {
+        if (rules == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        List<MaskingRule> parsed;
+        try {
+            parsed = objectMapper.readValue(rules, RULES);
+        } catch (JsonProcessingException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        if (parsed == null || !textReplaceService.updateMaskingRules(parsed).getStatusCode().is2xxSuccessful()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NO_CONTENT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.gler.assignment.text;
+
+/**
+ * What counts as one "character" when replacing the first and last one.
+ */
+public enum TextUnit {
+
+    /** One Unicode code point, e.g. a whole emoji rather than half of its surrogate pair. */
+    CODE_POINT,
+
+    /** One user-perceived character: a base code point with its combining marks, a flag, a ZWJ emoji sequence. */
+    GRAPHEME
+}
@@ -0,0 +1,278 @@
+package com.gler.assignment.text;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Replaces the first unit of UTF-8 text with {@code *} and the last with {@code $}, working on
+ * the encoded bytes: only the two boundaries are located, the middle is copied as-is and no
+ * {@code String} is built.
+ * <p>
+ * Malformed sequences (stray continuation bytes, truncated sequences) count as one unit per
+ * byte. {@link TextUnit#GRAPHEME} follows the extended grapheme cluster rules for CR LF,
+ * controls, combining marks, prepended marks (such as the Arabic number sign), emoji
+ * modifiers, ZWJ sequences and regional-indicator flags; Hangul syllable and Indic conjunct
+ * rules are not applied.
+ */
+public final class Utf8TextReplacer {
+
+    /** Returned by the offset-based {@code replace} methods when the text has fewer than two units. */
+    public static final int TOO_SHORT = -1;
+
+    private static final byte FIRST = '*';
+    private static final byte LAST = '$';
+
+    private static final int CR = 0x0D;
+    private static final int LF = 0x0A;
+    private static final int ZWJ = 0x200D;
+
+    /** Code point ranges with Grapheme_Cluster_Break=Prepend, as start/end pairs (Unicode 15). */
+    private static final int[] PREPEND = {
+            0x0600, 0x0605, 0x06DD, 0x06DD, 0x070F, 0x070F, 0x0890, 0x0891, 0x08E2, 0x08E2,
+            0x0D4E, 0x0D4E, 0x110BD, 0x110BD, 0x110CD, 0x110CD, 0x111C2, 0x111C3, 0x1193F, 0x1193F,
+            0x11941, 0x11941, 0x11A3A, 0x11A3A, 0x11A84, 0x11A89, 0x11D46, 0x11D46, 0x11F02, 0x11F02
+    };
+
+    private Utf8TextReplacer() {
+    }
+
+    /**
+     * @return the replaced text, or {@code null} when {@code utf8} has fewer than two units
+     */
+    public static byte[] replace(byte[] utf8, TextUnit unit) {
+        long bounds = boundaries(ByteBuffer.wrap(utf8), 0, utf8.length, unit);
+        if (bounds < 0) {
+            return null;
+        }
+        byte[] out = new byte[outputLength(bounds)];
+        write(utf8, bounds, out, 0);
+        return out;
+    }
+
+    /**
+     * Writes the replaced text into {@code dst}, which needs room for at most {@code len} bytes.
+     * {@code dst} may be {@code src} as long as {@code dstOff <= off}: the output never runs ahead
+     * of the input, so text can be transformed in place.
+     *
+     * @return the number of bytes written, or {@link #TOO_SHORT}
+     */
+    public static int replace(byte[] src, int off, int len, TextUnit unit, byte[] dst, int dstOff) {
+        long bounds = boundaries(ByteBuffer.wrap(src), off, off + len, unit);
+        if (bounds < 0) {
+            return TOO_SHORT;
+        }
+        return write(src, bounds, dst, dstOff);
+    }
+
+    /**
+     * Same as {@link #replace(byte[], int, int, TextUnit, byte[], int)} for buffers, which may
+     * be direct or memory-mapped; indexes are absolute and neither position is changed.
+     */
+    public static int replace(ByteBuffer src, int off, int len, TextUnit unit, ByteBuffer dst, int dstOff) {
+        long bounds = boundaries(src, off, off + len, unit);
+        if (bounds < 0) {
+            return TOO_SHORT;
+        }
+        return write(src, bounds, dst, dstOff);
+    }
+
+    /** The number of bytes {@code replace} would write for this text, or {@link #TOO_SHORT}. */
+    public static int replacedLength(ByteBuffer src, int off, int len, TextUnit unit) {
+        long bounds = boundaries(src, off, off + len, unit);
+        return bounds < 0 ? TOO_SHORT : outputLength(bounds);
+    }
+
+    private static int write(byte[] src, long bounds, byte[] dst, int dstOff) {
+        int length = outputLength(bounds);
+        if (length == 0) {
+            return 0;
+        }
+        int middleFrom = (int) (bounds >>> 32);
+        dst[dstOff] = FIRST;
+        System.arraycopy(src, middleFrom, dst, dstOff + 1, length - 2);
+        dst[dstOff + length - 1] = LAST;
+        return length;
+    }
+
+    private static int write(ByteBuffer src, long bounds, ByteBuffer dst, int dstOff) {
+        int length = outputLength(bounds);
+        if (length == 0) {
+            return 0;
+        }
+        int middleFrom = (int) (bounds >>> 32);
+        dst.put(dstOff, FIRST);
+        dst.put(dstOff + 1, src, middleFrom, length - 2);
+        dst.put(dstOff + length - 1, LAST);
+        return length;
+    }
+
+    private static int outputLength(long bounds) {
+        int middle = (int) bounds - (int) (bounds >>> 32);
+        return middle == 0 ? 0 : middle + 2;
+    }
+
+    /**
+     * End of the first unit in the high half, start of the last unit in the low half; negative
+     * when they overlap (a single unit or empty text). Two units give an empty middle, which
+     * is replaced by nothing rather than {@code *$}.
+     */
+    private static long boundaries(ByteBuffer b, int from, int to, TextUnit unit) {
+        if (from >= to) {
+            return TOO_SHORT;
+        }
+        int firstEnd;
+        int lastStart;
+        if (unit == TextUnit.CODE_POINT) {
+            firstEnd = from + sequenceLength(b, from, to);
+            lastStart = lastCodePointStart(b, from, to);
+        } else {
+            firstEnd = clusterEnd(b, from, to);
+            lastStart = from;
+            for (int next = restartPoint(b, firstEnd, to); next < to; next = clusterEnd(b, next, to)) {
+                lastStart = next;
+            }
+        }
+        if (lastStart < firstEnd) {
+            return TOO_SHORT;
+        }
+        return ((long) firstEnd << 32) | lastStart;
+    }
+
+    private static int lastCodePointStart(ByteBuffer b, int from, int to) {
+        int start = to - 1;
+        int limit = Math.max(from, to - 4);
+        while (start > limit && isContinuation(b.get(start))) {
+            start--;
+        }
+        return sequenceLength(b, start, to) == to - start ? start : to - 1;
+    }
+
+    /**
+     * A cluster boundary close to the end, so only the tail is walked: there is always a break
+     * before an ASCII byte other than LF, unless a prepended mark binds it to what precedes.
+     * Falls back to {@code from} for text without one.
+     */
+    private static int restartPoint(ByteBuffer b, int from, int to) {
+        for (int i = to - 1; i > from; i--) {
+            if (b.get(i) >= 0 && b.get(i) != LF && !isPrepend(codePointBefore(b, from, i))) {
+                return i;
+            }
+        }
+        return from;
+    }
+
+    private static int clusterEnd(ByteBuffer b, int from, int to) {
+        int i = from + sequenceLength(b, from, to);
+        int previous = decode(b, from, i - from);
+        int regionalIndicators = isRegionalIndicator(previous) ? 1 : 0;
+        // ASCII other than LF starts a new cluster unless it follows a prepended mark
+        while (i < to && (b.get(i) < 0 || b.get(i) == LF || isPrepend(previous))) {
+            int length = sequenceLength(b, i, to);
+            int next = decode(b, i, length);
+            if (!joins(previous, next, regionalIndicators)) {
+                break;
+            }
+            regionalIndicators = isRegionalIndicator(next) ? regionalIndicators + 1 : 0;
+            previous = next;
+            i += length;
+        }
+        return i;
+    }
+
+    private static boolean joins(int previous, int next, int regionalIndicatorsBefore) {
+        if (previous == CR) {
+            return next == LF;
+        }
+        if (isControl(previous) || isControl(next)) {
+            return false;
+        }
+        if (isPrepend(previous)) {
+            return true;
+        }
+        if (next == ZWJ || isExtend(next)) {
+            return true;
+        }
+        if (previous == ZWJ) {
+            return Character.getType(next) == Character.OTHER_SYMBOL;
+        }
+        return isRegionalIndicator(previous) && isRegionalIndicator(next) && (regionalIndicatorsBefore & 1) == 1;
+    }
+
+    private static boolean isControl(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.CONTROL || type == Character.LINE_SEPARATOR || type == Character.PARAGRAPH_SEPARATOR;
+    }
+
+    private static boolean isExtend(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || type == Character.COMBINING_SPACING_MARK
+                || (codePoint >= 0x1F3FB && codePoint <= 0x1F3FF);
+    }
+
+    private static boolean isPrepend(int codePoint) {
+        if (codePoint < PREPEND[0]) {
+            return false;
+        }
+        for (int k = 0; k < PREPEND.length; k += 2) {
+            if (codePoint <= PREPEND[k + 1]) {
+                return codePoint >= PREPEND[k];
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRegionalIndicator(int codePoint) {
+        return codePoint >= 0x1F1E6 && codePoint <= 0x1F1FF;
+    }
+
+    /** The code point ending just before {@code i}; a malformed tail decodes as U+FFFD. */
+    private static int codePointBefore(ByteBuffer b, int from, int i) {
+        int start = i - 1;
+        int limit = Math.max(from, i - 4);
+        while (start > limit && isContinuation(b.get(start))) {
+            start--;
+        }
+        int length = sequenceLength(b, start, i);
+        return length == i - start ? decode(b, start, length) : decode(b, i - 1, 1);
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /** Length of the well-formed sequence starting at {@code i}, or 1 if it is malformed. */
+    private static int sequenceLength(ByteBuffer b, int i, int to) {
+        int lead = b.get(i);
+        int length;
+        if (lead >= 0) {
+            return 1;
+        } else if ((lead & 0xE0) == 0xC0) {
+            length = 2;
+        } else if ((lead & 0xF0) == 0xE0) {
+            length = 3;
+        } else if ((lead & 0xF8) == 0xF0) {
+            length = 4;
+        } else {
+            return 1;
+        }
+        if (i + length > to) {
+            return 1;
+        }
+        for (int k = 1; k < length; k++) {
+            if (!isContinuation(b.get(i + k))) {
+                return 1;
+            }
+        }
+        return length;
+    }
+
+    private static int decode(ByteBuffer b, int i, int length) {
+        return switch (length) {
+            case 2 -> (b.get(i) & 0x1F) << 6 | (b.get(i + 1) & 0x3F);
+            case 3 -> (b.get(i) & 0x0F) << 12 | (b.get(i + 1) & 0x3F) << 6 | (b.get(i + 2) & 0x3F);
+            case 4 -> (b.get(i) & 0x07) << 18 | (b.get(i + 1) & 0x3F) << 12 | (b.get(i + 2) & 0x3F) << 6 | (b.get(i + 3) & 0x3F);
+            default -> b.get(i) >= 0 ? b.get(i) : 0xFFFD;
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.cache.CachedForecast;
+import com.gler.assignment.cache.ForecastSnapshotCodec;
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.UpstreamQuery;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Makes one node of the cluster fetch an upstream query while the others wait for its answer.
+ * The fetching node holds a row in {@code upstream_lease} and publishes the parsed series to
+ * {@code upstream_shared_forecast}; the other nodes poll that table until the answer appears,
+ * the lease is released or expires, or they have waited long enough, and then fetch on their
+ * own. Within a node, concurrent callers for a query share a single coordinator, so the
+ * database sees one poller per node. Coordination is best effort: a database error only
+ * costs an extra upstream call.
+ */
+@Slf4j
+@Component
+public class ClusterSingleFlight {
+
+    private static final String SELECT_SHARED =
+            "select payload from upstream_shared_forecast where cache_key = ? and expires_at > ?";
+    private static final String UPDATE_SHARED =
+            "update upstream_shared_forecast set payload = ?, fetched_at = ?, expires_at = ? where cache_key = ?";
+    private static final String INSERT_SHARED =
+            "insert into upstream_shared_forecast (cache_key, payload, fetched_at, expires_at) values (?, ?, ?, ?)";
+    private static final String INSERT_LEASE =
+            "insert into upstream_lease (lease_key, owner, expires_at) values (?, ?, ?)";
+    private static final String TAKE_OVER_LEASE =
+            "update upstream_lease set owner = ?, expires_at = ? where lease_key = ? and expires_at <= ?";
+    private static final String RELEASE_LEASE =
+            "delete from upstream_lease where lease_key = ? and owner = ?";
+
+    private final UpstreamProperties.Cluster properties;
+    private final long cacheTtlMillis;
+    private final JdbcTemplate jdbcTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<UpstreamQuery, CompletableFuture<HourlySeries>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderFetches;
+    private final Counter followerReads;
+    private final Counter fallbackFetches;
+
+    public ClusterSingleFlight(UpstreamProperties upstreamProperties, JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry) {
+        this.properties = upstreamProperties.getCluster();
+        this.cacheTtlMillis = upstreamProperties.getCacheTtl().toMillis();
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaderFetches = fetchCounter(meterRegistry, "leader");
+        this.followerReads = fetchCounter(meterRegistry, "follower");
+        this.fallbackFetches = fetchCounter(meterRegistry, "fallback");
+    }
+
+    private static Counter fetchCounter(MeterRegistry registry, String role) {
+        return Counter.builder("upstream.cluster.fetches")
+                .tag("role", role)
+                .description("Upstream answers by how this node got them: fetched for the cluster, "
+                        + "read from another node, or fetched alone after waiting")
+                .register(registry);
+    }
+
+    /** Returns {@code loader}'s answer for {@code query}, fetched by whichever node holds the lease. */
+    public HourlySeries fetch(UpstreamQuery query, Supplier<HourlySeries> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        CompletableFuture<HourlySeries> mine = new CompletableFuture<>();
+        CompletableFuture<HourlySeries> running = inFlight.putIfAbsent(query, mine);
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+        try {
+            HourlySeries series = coordinate(query, loader);
+            mine.complete(series);
+            return series;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(query, mine);
+        }
+    }
+
+    private HourlySeries coordinate(UpstreamQuery query, Supplier<HourlySeries> loader) {
+        String key = key(query);
+        long waitUntil = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        try {
+            while (true) {
+                HourlySeries shared = readShared(key);
+                if (shared != null) {
+                    followerReads.increment();
+                    return shared;
+                }
+                if (tryAcquire(key)) {
+                    return lead(key, query, loader);
+                }
+                if (System.nanoTime() - waitUntil >= 0) {
+                    break;
+                }
+                Thread.sleep(properties.getPollInterval().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            log.warn("Cluster coordination for {} failed; fetching without it", key, e);
+        }
+        fallbackFetches.increment();
+        return loader.get();
+    }
+
+    private HourlySeries lead(String key, UpstreamQuery query, Supplier<HourlySeries> loader) {
+        try {
+            // Another node may have published and released between our read and the lease
+            HourlySeries shared = readShared(key);
+            if (shared != null) {
+                followerReads.increment();
+                return shared;
+            }
+            HourlySeries series = loader.get();
+            leaderFetches.increment();
+            try {
+                publish(key, query, series);
+            } catch (DataAccessException e) {
+                log.warn("Could not publish {} to the cluster", key, e);
+            }
+            return series;
+        } finally {
+            try {
+                jdbcTemplate.update(RELEASE_LEASE, key, nodeId);
+            } catch (DataAccessException e) {
+                log.warn("Could not release the lease on {}; it expires on its own", key, e);
+            }
+        }
+    }
+
+    private HourlySeries readShared(String key) {
+        List<byte[]> payloads = jdbcTemplate.query(SELECT_SHARED,
+                (rs, row) -> rs.getBytes(1), key, System.currentTimeMillis());
+        if (payloads.isEmpty()) {
+            return null;
+        }
+        return ForecastSnapshotCodec.decode(ByteBuffer.wrap(payloads.get(0))).get(0).series();
+    }
+
+    private boolean tryAcquire(String key) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + properties.getLeaseDuration().toMillis();
+        try {
+            return jdbcTemplate.update(INSERT_LEASE, key, nodeId, expiresAt) == 1;
+        } catch (DuplicateKeyException e) {
+            return jdbcTemplate.update(TAKE_OVER_LEASE, nodeId, expiresAt, key, now) == 1;
+        }
+    }
+
+    private void publish(String key, UpstreamQuery query, HourlySeries series) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + cacheTtlMillis;
+        byte[] payload = ForecastSnapshotCodec.encode(List.of(
+                new CachedForecast(query, now, now, expiresAt, series))).array();
+        if (jdbcTemplate.update(UPDATE_SHARED, payload, now, expiresAt, key) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SHARED, key, payload, now, expiresAt);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(UPDATE_SHARED, payload, now, expiresAt, key);
+            }
+        }
+    }
+
+    private static String key(UpstreamQuery query) {
+        return query.latitude() + "," + query.longitude() + ":" + query.variables();
+    }
+}
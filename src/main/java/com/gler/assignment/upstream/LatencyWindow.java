@@ -0,0 +1,54 @@
+package com.gler.assignment.upstream;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The last {@code size} latencies in a ring buffer. Percentiles are computed from a sorted
+ * copy, refreshed at most once per {@code size / 8} new samples so reads stay cheap.
+ */
+class LatencyWindow {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final int refreshEvery;
+
+    private volatile long[] sorted = new long[0];
+    private volatile long sortedAt = -1;
+
+    LatencyWindow(int size) {
+        this.samples = new AtomicLongArray(size);
+        this.refreshEvery = Math.max(1, size / 8);
+    }
+
+    void record(long nanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+    }
+
+    long count() {
+        return Math.min(recorded.get(), samples.length());
+    }
+
+    /** The latency below which the given share of recorded calls completed, or -1 if none. */
+    long percentile(double quantile) {
+        long total = recorded.get();
+        if (total == 0) {
+            return -1;
+        }
+        long[] snapshot = sorted;
+        if (total - sortedAt >= refreshEvery || snapshot.length == 0) {
+            int n = (int) Math.min(total, samples.length());
+            snapshot = new long[n];
+            for (int i = 0; i < n; i++) {
+                snapshot[i] = samples.get(i);
+            }
+            Arrays.sort(snapshot);
+            sorted = snapshot;
+            sortedAt = total;
+        }
+        int rank = (int) Math.ceil(quantile * snapshot.length) - 1;
+        return snapshot[Math.max(0, Math.min(rank, snapshot.length - 1))];
+    }
+}
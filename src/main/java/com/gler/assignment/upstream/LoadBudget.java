@@ -0,0 +1,55 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extra upstream requests (hedges, retries) paid for by regular traffic: every call earns
+ * {@code ratio} of a request, up to {@code cap} requests saved. However bad the upstream
+ * gets, the extra load stays within that share of recent calls plus the cap. There is one
+ * budget for {@link UpstreamHedger} and {@link UpstreamRetrier} together; calls earn it
+ * through the retrier, which wraps the hedger.
+ */
+@Component
+public class LoadBudget {
+
+    private static final long UNIT = 1_000;
+
+    private final AtomicLong balance;
+    private final long earnPerCall;
+    private final long cap;
+
+    @Autowired
+    public LoadBudget(UpstreamProperties upstreamProperties) {
+        this(upstreamProperties.getBudget().getRatio(), upstreamProperties.getBudget().getCap(),
+                upstreamProperties.getBudget().getCap());
+    }
+
+    LoadBudget(double ratio, int cap, int initial) {
+        this.earnPerCall = Math.round(ratio * UNIT);
+        this.cap = cap * UNIT;
+        this.balance = new AtomicLong(Math.min(initial, cap) * UNIT);
+    }
+
+    void earn() {
+        balance.accumulateAndGet(earnPerCall, (current, earned) -> Math.min(cap, current + earned));
+    }
+
+    boolean trySpend() {
+        long available = balance.get();
+        while (available >= UNIT) {
+            if (balance.compareAndSet(available, available - UNIT)) {
+                return true;
+            }
+            available = balance.get();
+        }
+        return false;
+    }
+
+    void refund() {
+        balance.accumulateAndGet(UNIT, (current, refunded) -> Math.min(cap, current + refunded));
+    }
+}
@@ -0,0 +1,33 @@
+package com.gler.assignment.upstream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.OptionalLong;
+
+/**
+ * The point in time (on the {@link System#nanoTime()} clock) by which the current inbound
+ * request has to be answered, kept as a request attribute.
+ */
+public final class RequestDeadline {
+
+    static final String ATTRIBUTE = RequestDeadline.class.getName();
+
+    private RequestDeadline() {
+    }
+
+    public static void set(HttpServletRequest request, long deadlineNanos) {
+        request.setAttribute(ATTRIBUTE, deadlineNanos);
+    }
+
+    /** The deadline of the request bound to this thread, or empty outside a request. */
+    public static OptionalLong current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return OptionalLong.empty();
+        }
+        Object deadline = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return deadline instanceof Long nanos ? OptionalLong.of(nanos) : OptionalLong.empty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.gler.assignment.upstream;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Stamps every inbound request with its {@link RequestDeadline} as soon as it arrives, so
+ * time spent before the upstream call counts against it.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final Duration timeout;
+
+    public RequestDeadlineFilter(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestDeadline.set(request, System.nanoTime() + timeout.toNanos());
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,167 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs an upstream call and, if it has not answered within the recent
+ * {@code percentile} latency, starts an identical second attempt. The first successful
+ * answer wins and the other attempt is cancelled; interrupting a request made through the
+ * JDK HTTP client aborts the exchange. Hedges draw on the {@link LoadBudget} shared with
+ * retries, so together they can never add more than its share of load.
+ */
+@Component
+public class UpstreamHedger {
+
+    private static final int MIN_SAMPLES = 20;
+
+    private final UpstreamProperties.Hedge properties;
+    private final LatencyWindow latencies;
+    private final ExecutorService executor;
+    private final LoadBudget budget;
+
+    private final Counter calls;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesOverBudget;
+
+    public UpstreamHedger(UpstreamProperties upstreamProperties, LoadBudget budget, MeterRegistry meterRegistry) {
+        this.properties = upstreamProperties.getHedge();
+        this.latencies = new LatencyWindow(properties.getWindow());
+        this.budget = budget;
+        AtomicInteger threads = new AtomicInteger();
+        ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+        // Attempts carry the caller's trace context, so their client spans stay in its trace.
+        this.executor = ContextExecutorService.wrap(new ThreadPoolExecutor(0, properties.getMaxConcurrency(),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(), task -> {
+                    Thread thread = new Thread(task, "upstream-hedge-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }), snapshots::captureAll);
+
+        this.calls = Counter.builder("upstream.hedge.calls")
+                .description("Upstream calls made with hedging enabled")
+                .register(meterRegistry);
+        this.hedgesSent = hedgeCounter(meterRegistry, "sent", "Second attempts sent");
+        this.hedgesWon = hedgeCounter(meterRegistry, "won", "Second attempts that answered first");
+        this.hedgesOverBudget = hedgeCounter(meterRegistry, "over.budget", "Second attempts skipped for lack of budget");
+        Gauge.builder("upstream.hedge.delay", this, hedger -> hedger.hedgeDelay().toNanos() / 1e9)
+                .baseUnit("seconds")
+                .description("How long the first attempt may run before a second one is sent")
+                .register(meterRegistry);
+    }
+
+    private static Counter hedgeCounter(MeterRegistry registry, String outcome, String description) {
+        return Counter.builder("upstream.hedge.requests")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(registry);
+    }
+
+    public <T> T call(Supplier<T> attempt) {
+        if (!properties.isEnabled()) {
+            return attempt.get();
+        }
+        calls.increment();
+
+        long start = System.nanoTime();
+        ExecutorCompletionService<T> race = new ExecutorCompletionService<>(executor);
+        List<Future<T>> attempts = new ArrayList<>(2);
+        try {
+            attempts.add(race.submit(attempt::get));
+        } catch (RejectedExecutionException e) {
+            return attempt.get();
+        }
+
+        try {
+            Future<T> done = race.poll(hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+            if (done == null) {
+                sendHedge(race, attempt, attempts);
+            }
+            RuntimeException failure = null;
+            for (int pending = attempts.size(); pending > 0; pending--) {
+                if (done == null) {
+                    done = race.take();
+                }
+                try {
+                    T result = done.get();
+                    // A lost primary only tells us it took at least this long.
+                    latencies.record(System.nanoTime() - start);
+                    if (done != attempts.get(0)) {
+                        hedgesWon.increment();
+                    }
+                    return result;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = unwrap(e);
+                    }
+                }
+                done = null;
+            }
+            throw failure;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for the upstream");
+        } finally {
+            attempts.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private <T> void sendHedge(ExecutorCompletionService<T> race, Supplier<T> attempt, List<Future<T>> attempts) {
+        if (!budget.trySpend()) {
+            hedgesOverBudget.increment();
+            return;
+        }
+        try {
+            attempts.add(race.submit(attempt::get));
+            hedgesSent.increment();
+        } catch (RejectedExecutionException e) {
+            budget.refund();
+        }
+    }
+
+    Duration hedgeDelay() {
+        if (latencies.count() < Math.min(MIN_SAMPLES, properties.getWindow())) {
+            return properties.getInitialDelay();
+        }
+        Duration observed = Duration.ofNanos(latencies.percentile(properties.getPercentile()));
+        return observed.compareTo(properties.getMinDelay()) < 0 ? properties.getMinDelay() : observed;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,115 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retries transient upstream failures with decorrelated jitter: each pause is drawn
+ * between the base delay and three times the previous pause, capped at the max delay.
+ * A retry is only started if its pause ends before the inbound request's deadline and
+ * the shared {@link LoadBudget} can pay for it, which keeps an outage from turning into
+ * a retry storm. Every call earns the budget here, whether retries are enabled or not,
+ * so hedges are paid for once per call.
+ */
+@Component
+public class UpstreamRetrier {
+
+    private final UpstreamProperties.Retry properties;
+    private final LoadBudget budget;
+
+    private final Counter initialSuccesses;
+    private final Counter initialFailures;
+    private final Counter retrySuccesses;
+    private final Counter retryFailures;
+    private final Counter skippedAttempts;
+    private final Counter skippedDeadline;
+    private final Counter skippedBudget;
+
+    public UpstreamRetrier(UpstreamProperties upstreamProperties, LoadBudget budget, MeterRegistry meterRegistry) {
+        this.properties = upstreamProperties.getRetry();
+        this.budget = budget;
+
+        this.initialSuccesses = requestCounter(meterRegistry, "initial", "success");
+        this.initialFailures = requestCounter(meterRegistry, "initial", "failure");
+        this.retrySuccesses = requestCounter(meterRegistry, "retry", "success");
+        this.retryFailures = requestCounter(meterRegistry, "retry", "failure");
+        this.skippedAttempts = skippedCounter(meterRegistry, "attempts");
+        this.skippedDeadline = skippedCounter(meterRegistry, "deadline");
+        this.skippedBudget = skippedCounter(meterRegistry, "budget");
+    }
+
+    private static Counter requestCounter(MeterRegistry registry, String attempt, String result) {
+        return Counter.builder("upstream.requests")
+                .tag("attempt", attempt).tag("result", result)
+                .description("Upstream attempts, first tries and retries counted apart")
+                .register(registry);
+    }
+
+    private static Counter skippedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("upstream.retry.skipped")
+                .tag("reason", reason)
+                .description("Retryable failures given up on")
+                .register(registry);
+    }
+
+    public <T> T call(Supplier<T> attempt) {
+        budget.earn();
+        if (!properties.isEnabled()) {
+            return attempt.get();
+        }
+        long deadline = RequestDeadline.current()
+                .orElseGet(() -> System.nanoTime() + properties.getRequestTimeout().toNanos());
+        long baseNanos = properties.getBaseDelay().toNanos();
+        long pauseNanos = baseNanos;
+
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            boolean retry = attemptNumber > 1;
+            try {
+                T result = attempt.get();
+                (retry ? retrySuccesses : initialSuccesses).increment();
+                return result;
+            } catch (RestClientException e) {
+                (retry ? retryFailures : initialFailures).increment();
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                if (attemptNumber >= properties.getMaxAttempts()) {
+                    skippedAttempts.increment();
+                    throw e;
+                }
+                pauseNanos = Math.min(properties.getMaxDelay().toNanos(),
+                        ThreadLocalRandom.current().nextLong(baseNanos, Math.max(baseNanos, pauseNanos * 3) + 1));
+                if (System.nanoTime() + pauseNanos - deadline >= 0) {
+                    skippedDeadline.increment();
+                    throw e;
+                }
+                if (!budget.trySpend()) {
+                    skippedBudget.increment();
+                    throw e;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(pauseNanos);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    static boolean isTransient(RestClientException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || (e instanceof HttpClientErrorException clientError && clientError.getStatusCode().value() == 429);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gler.assignment.backfill;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchiveResponseReaderTest {
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final LocalDate JAN_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+
+    private static List<DailyMaxima> read(String json, LocalDate from, LocalDate to) throws IOException {
+        try (JsonParser parser = JSON.createParser(json)) {
+            return ArchiveResponseReader.read(parser, from, to);
+        }
+    }
+
+    @Test
+    void testRead_FoldsHoursIntoDailyMaxima() throws IOException {
+        String json = "{\"latitude\":52.52,\"hourly_units\":{\"time\":\"iso8601\"},\"hourly\":{"
+                + "\"time\":[\"2024-01-01T00:00\",\"2024-01-01T01:00\",\"2024-01-02T00:00\",\"2024-01-02T01:00\"],"
+                + "\"temperature_2m\":[1.5,-0.5,-3.0,-2.0],"
+                + "\"relative_humidity_2m\":[80,91,70,60],"
+                + "\"wind_speed_10m\":[5.0,12.5,null,7.25]}}";
+
+        List<DailyMaxima> maxima = read(json, JAN_1, JAN_2);
+
+        assertThat(maxima).containsExactly(
+                new DailyMaxima(JAN_1, 1.5, 91.0, 12.5),
+                new DailyMaxima(JAN_2, -2.0, 70.0, 7.25));
+    }
+
+    @Test
+    void testRead_VariablesBeforeTime_AreBuffered() throws IOException {
+        String json = "{\"hourly\":{\"temperature_2m\":[4.0,9.0],\"unknown\":[1,2],"
+                + "\"time\":[\"2024-01-01T10:00\",\"2024-01-02T10:00\"],\"wind_speed_10m\":[3.0,2.0]}}";
+
+        assertThat(read(json, JAN_1, JAN_2)).containsExactly(
+                new DailyMaxima(JAN_1, 4.0, null, 3.0),
+                new DailyMaxima(JAN_2, 9.0, null, 2.0));
+    }
+
+    @Test
+    void testRead_SkipsHoursOutsideRangeAndDaysWithoutSamples() throws IOException {
+        String json = "{\"hourly\":{"
+                + "\"time\":[\"2023-12-31T23:00\",\"2024-01-01T00:00\",\"2024-01-02T00:00\",\"2024-01-03T00:00\"],"
+                + "\"temperature_2m\":[30.0,null,2.0,40.0]}}";
+
+        assertThat(read(json, JAN_1, JAN_2)).containsExactly(new DailyMaxima(JAN_2, 2.0, null, null));
+    }
+
+    @Test
+    void testRead_NoHourlyBlock_ReturnsNothing() throws IOException {
+        assertThat(read("{\"latitude\":52.52,\"daily\":{\"time\":[]}}", JAN_1, JAN_2)).isEmpty();
+    }
+
+    @Test
+    void testRead_MalformedHour_Throws() {
+        assertThatThrownBy(() -> read("{\"hourly\":{\"time\":[\"2024-1-1T00:00\"]}}", JAN_1, JAN_2))
+                .isInstanceOf(JsonParseException.class);
+        assertThatThrownBy(() -> read("{\"hourly\":{\"time\":[\"2024-01-01\"],\"temperature_2m\":[\"x\"]}}",
+                JAN_1, JAN_2))
+                .isInstanceOf(JsonParseException.class);
+    }
+
+    @Test
+    void testSplit_CoversRangeWithBoundedChunks() {
+        List<ArchiveChunk> chunks = ArchiveChunk.split(1.0, 2.0, false, JAN_1, LocalDate.of(2024, 1, 10), 4);
+
+        assertThat(chunks).extracting(ArchiveChunk::from)
+                .containsExactly(JAN_1, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 9));
+        assertThat(chunks).extracting(ArchiveChunk::days).containsExactly(4, 4, 2);
+        assertThat(chunks.get(0).key()).isEqualTo("1.0,2.0:2024-01-01:2024-01-04");
+    }
+}
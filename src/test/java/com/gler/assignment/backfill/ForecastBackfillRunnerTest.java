@@ -0,0 +1,215 @@
+package com.gler.assignment.backfill;
+
+import com.gler.assignment.dto.ForecastSummary;
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.repositories.BackfillCheckpointRepository;
+import com.gler.assignment.repositories.ForecastRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the {@code backfill} profile against a local archive stub that serves 24 hours a day,
+ * answers one chunk with a 500 on its first request and records how many requests overlap.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:backfilldb",
+        "forecast.backfill.from=2024-01-01",
+        "forecast.backfill.to=2024-01-10",
+        "forecast.backfill.chunk-days=4",
+        "forecast.backfill.max-concurrency=2",
+        "forecast.backfill.exit-when-done=false",
+        "forecast.backfill.locations[0].latitude=52.52",
+        "forecast.backfill.locations[0].longitude=13.41",
+        "forecast.backfill.locations[1].latitude=48.85",
+        "forecast.backfill.locations[1].longitude=2.35"
+})
+@ActiveProfiles("backfill")
+class ForecastBackfillRunnerTest {
+
+    private static final String FAILING_CHUNK = "latitude=48.85&longitude=2.35&start_date=2024-01-05";
+
+    private static final Queue<String> REQUESTS = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean FAILED_ONCE = new AtomicBoolean();
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger MAX_IN_FLIGHT = new AtomicInteger();
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private ForecastBackfillJob job;
+
+    @Autowired
+    private ForecastBackfillRunner runner;
+
+    @Autowired
+    private ForecastBackfillWriter writer;
+
+    @Autowired
+    private BackfillCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private ForecastRepository forecastRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void archive(DynamicPropertyRegistry registry) {
+        registry.add("forecast.backfill.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/v1/archive");
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/archive", exchange -> {
+                int inFlight = IN_FLIGHT.incrementAndGet();
+                MAX_IN_FLIGHT.accumulateAndGet(inFlight, Math::max);
+                try {
+                    String query = exchange.getRequestURI().getQuery();
+                    REQUESTS.add(query);
+                    Thread.sleep(20);
+                    boolean fail = query.contains(FAILING_CHUNK) && FAILED_ONCE.compareAndSet(false, true);
+                    byte[] body = fail ? new byte[0] : archiveBody(query).getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(fail ? 500 : 200, fail ? -1 : body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    IN_FLIGHT.decrementAndGet();
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Hour h of day d peaks at d + 0.23 degrees, 73 % humidity and, far from Berlin, 20 km/h of wind. */
+    private static String archiveBody(String query) {
+        LocalDate from = LocalDate.parse(parameter(query, "start_date"));
+        LocalDate to = LocalDate.parse(parameter(query, "end_date"));
+        double wind = query.contains("latitude=52.52") ? 10.0 : 20.0;
+        StringBuilder time = new StringBuilder();
+        StringBuilder temperature = new StringBuilder();
+        StringBuilder humidity = new StringBuilder();
+        StringBuilder windSpeed = new StringBuilder();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            for (int hour = 0; hour < 24; hour++) {
+                String separator = time.isEmpty() ? "" : ",";
+                time.append(separator).append('"').append(day).append(String.format("T%02d:00", hour)).append('"');
+                temperature.append(separator).append(day.getDayOfMonth() + hour / 100.0);
+                humidity.append(separator).append(50 + hour);
+                windSpeed.append(separator).append(hour == 12 ? wind : 1.0);
+            }
+        }
+        return "{\"latitude\":" + parameter(query, "latitude") + ",\"hourly_units\":{\"time\":\"iso8601\"},"
+                + "\"hourly\":{\"time\":[" + time + "],\"temperature_2m\":[" + temperature
+                + "],\"relative_humidity_2m\":[" + humidity + "],\"wind_speed_10m\":[" + windSpeed + "]}}";
+    }
+
+    private static String parameter(String query, String name) {
+        for (String pair : query.split("&")) {
+            if (pair.startsWith(name + "=")) {
+                return pair.substring(name.length() + 1);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void testBackfill_StoresDailyMaximaAndResumesFromCheckpoint() {
+        // The startup run fetched all six chunks, two at a time, and lost one to the 500
+        assertThat(REQUESTS).hasSize(6);
+        assertThat(MAX_IN_FLIGHT.get()).isLessThanOrEqualTo(2);
+        assertThat(checkpointRepository.findCompletedKeys()).filteredOn(key -> key.contains(":2024-01-")).hasSize(5);
+
+        // Primary location: stored without coordinates, visible to the forecast endpoint
+        List<ForecastSummary> history = forecastRepository.findSummariesBetween(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10));
+        assertThat(history).hasSize(10);
+        assertThat(history.get(6)).isEqualTo(new ForecastSummary(LocalDate.of(2024, 1, 7), 7.23, 73.0, 10.0));
+        assertThat(forecastRepository.findByForecastDate(LocalDate.of(2024, 1, 10)))
+                .map(ForecastEntity::getMaxTemperature).contains(10.23);
+
+        // Second location: only the failed chunk is missing
+        assertThat(countRows(48.85)).isEqualTo(6);
+
+        BackfillResult resumed = job.run(runner.plan());
+
+        assertThat(resumed.chunks()).isEqualTo(6);
+        assertThat(resumed.skipped()).isEqualTo(5);
+        assertThat(resumed.failed()).isZero();
+        assertThat(resumed.daysWritten()).isEqualTo(4);
+        assertThat(REQUESTS).hasSize(7);
+        assertThat(REQUESTS).filteredOn(query -> query.contains(FAILING_CHUNK)).hasSize(2);
+        assertThat(countRows(48.85)).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("select max(max_wind_speed) from forecast_data where latitude = 48.85",
+                Double.class)).isEqualTo(20.0);
+
+        BackfillResult noop = job.run(runner.plan());
+        assertThat(noop.skipped()).isEqualTo(6);
+        assertThat(REQUESTS).hasSize(7);
+    }
+
+    @Test
+    void testWrite_UpsertsExistingDaysAndKeepsUnsampledVariables() {
+        LocalDate day = LocalDate.of(2023, 6, 1);
+        ForecastEntity live = forecastRepository.save(ForecastEntity.builder()
+                .forecastDate(day)
+                .maxTemperature(1.0)
+                .maxHumidity(2.0)
+                .maxWindSpeed(3.0)
+                .build());
+        assertThat(forecastRepository.findByForecastDate(day)).isPresent();
+        ArchiveChunk chunk = new ArchiveChunk(52.52, 13.41, true, day, day);
+
+        writer.write(chunk, List.of(new DailyMaxima(day, 25.5, null, 9.0)));
+        writer.write(chunk, List.of(new DailyMaxima(day, 26.5, null, null)));
+
+        // Read through the query cache: the JDBC upsert must have evicted the stale row
+        ForecastEntity stored = forecastRepository.findByForecastDate(day).orElseThrow();
+        assertThat(stored.getId()).isEqualTo(live.getId());
+        assertThat(stored.getMaxTemperature()).isEqualTo(26.5);
+        assertThat(stored.getMaxHumidity()).isEqualTo(2.0);
+        assertThat(stored.getMaxWindSpeed()).isEqualTo(9.0);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from forecast_data where forecast_date = ?",
+                Integer.class, day)).isEqualTo(1);
+        assertThat(checkpointRepository.existsById(chunk.key())).isTrue();
+    }
+
+    private int countRows(double latitude) {
+        return jdbcTemplate.queryForObject("select count(*) from forecast_data where latitude = ?",
+                Integer.class, latitude);
+    }
+}
@@ -0,0 +1,85 @@
+package com.gler.assignment.batch;
+
+import com.gler.assignment.text.TextUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextReplaceBatchJobTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testRun_TransformsEveryLineInOrder() throws Exception {
+        Path input = write("hello\nab\nx\n\nelephant\r\n😀 wide 😀\nno newline at end");
+
+        BatchResult result = new TextReplaceBatchJob(4, 3, TextUnit.CODE_POINT).run(input, dir.resolve("out.txt"));
+
+        assertThat(read(dir.resolve("out.txt")))
+                .isEqualTo("*ell$\n\nx\n\n*lephan$\r\n* wide $\n*o newline at en$");
+        assertThat(result.lines()).isEqualTo(7);
+        assertThat(result.rejectedLines()).isEqualTo(2);
+        assertThat(result.chunks()).isGreaterThan(1);
+        assertThat(result.bytesWritten()).isEqualTo(Files.size(dir.resolve("out.txt")));
+    }
+
+    @Test
+    void testRun_ManyChunks_MatchesLineByLineTransform() throws Exception {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        String[] words = {"Grüße", "世界", "😀", "lorem", "ipsum", "é"};
+        for (int line = 0; line < 5_000; line++) {
+            StringBuilder content = new StringBuilder();
+            int count = 1 + random.nextInt(8);
+            for (int w = 0; w < count; w++) {
+                content.append(words[random.nextInt(words.length)]);
+            }
+            String value = content.toString();
+            text.append(value).append('\n');
+            int codePoints = value.codePointCount(0, value.length());
+            expected.append(codePoints < 2 ? value : codePoints == 2 ? ""
+                    : "*" + value.substring(value.offsetByCodePoints(0, 1), value.offsetByCodePoints(0, codePoints - 1)) + "$")
+                    .append('\n');
+        }
+        Path input = write(text.toString());
+
+        BatchResult result = new TextReplaceBatchJob(1_000, 4, TextUnit.CODE_POINT).run(input, dir.resolve("out.txt"));
+
+        assertThat(read(dir.resolve("out.txt"))).isEqualTo(expected.toString());
+        assertThat(result.lines()).isEqualTo(5_000);
+        assertThat(result.megabytesPerSecond()).isPositive();
+    }
+
+    @Test
+    void testRun_EmptyFile() throws Exception {
+        BatchResult result = new TextReplaceBatchJob(1024, 2, TextUnit.CODE_POINT).run(write(""), dir.resolve("out.txt"));
+
+        assertThat(Files.size(dir.resolve("out.txt"))).isZero();
+        assertThat(result.lines()).isZero();
+    }
+
+    @Test
+    void testNew_ChunkSizeOutOfRange_Rejected() {
+        assertThatThrownBy(() -> new TextReplaceBatchJob(0, 1, TextUnit.CODE_POINT))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TextReplaceBatchJob(TextReplaceBatchJob.MAX_CHUNK + 1, 1, TextUnit.CODE_POINT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(String text) throws Exception {
+        return Files.writeString(dir.resolve("in.txt"), text, StandardCharsets.UTF_8);
+    }
+
+    private static String read(Path path) throws Exception {
+        return Files.readString(path, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,46 @@
+package com.gler.assignment.batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("batch")
+class TextReplaceBatchRunnerTest {
+
+    private static final Path DIR = createDirectory();
+
+    @DynamicPropertySource
+    static void batchFiles(DynamicPropertyRegistry registry) throws IOException {
+        Files.writeString(DIR.resolve("in.txt"), "elephant\nhome\nabc#20xyz\n", StandardCharsets.UTF_8);
+        registry.add("text.batch.input", () -> DIR.resolve("in.txt").toString());
+        registry.add("text.batch.output", () -> DIR.resolve("out.txt").toString());
+        registry.add("text.batch.exit-when-done", () -> "false");
+    }
+
+    private static Path createDirectory() {
+        try {
+            Path dir = Files.createTempDirectory("batch");
+            dir.toFile().deleteOnExit();
+            return dir;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Test
+    void testBatchProfile_WritesOutputOnStartup() throws IOException {
+        assertThat(Files.readString(DIR.resolve("out.txt"), StandardCharsets.UTF_8))
+                .isEqualTo("*lephan$\n*om$\n*bc#20xy$\n");
+    }
+}
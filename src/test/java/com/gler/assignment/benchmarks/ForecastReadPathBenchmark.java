@@ -0,0 +1,101 @@
+package com.gler.assignment.benchmarks;
+
+import com.gler.assignment.AssignmentApplication;
+import com.gler.assignment.dto.ForecastSummary;
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.services.ForecastHistoryService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading a large date range as managed {@link ForecastEntity} instances against
+ * the read-only {@link ForecastSummary} projection. Both run the same range query, so only
+ * the mapping differs. Run with {@code -prof gc} to see the allocation rate per operation
+ * next to the latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ForecastReadPathBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(1950, 1, 1);
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    private static final String ENTITY_RANGE = "select f from ForecastEntity f "
+            + "where f.forecastDate between :from and :to and f.latitude is null order by f.forecastDate";
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private ForecastHistoryService forecastHistoryService;
+    private TransactionTemplate transactionTemplate;
+    private LocalDate lastDay;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AssignmentApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:read-path-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.gler.assignment=WARN")
+                .run();
+        entityManager = context.getBean(EntityManager.class);
+        forecastHistoryService = context.getBean(ForecastHistoryService.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{Date.valueOf(FIRST_DAY.plusDays(i)), 10.0 + i % 20, 50.0 + i % 50, 5.0 + i % 30});
+        }
+        context.getBean(JdbcTemplate.class).batchUpdate(
+                "insert into forecast_data (forecast_date, location_key, max_temperature, max_humidity, max_wind_speed) "
+                        + "values (?, '', ?, ?, ?)",
+                batch);
+        lastDay = FIRST_DAY.plusDays(rows - 1L);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ForecastEntity> entityPath() {
+        return transactionTemplate.execute(status -> entityManager.createQuery(ENTITY_RANGE, ForecastEntity.class)
+                .setParameter("from", FIRST_DAY)
+                .setParameter("to", lastDay)
+                .getResultList());
+    }
+
+    @Benchmark
+    public List<ForecastSummary> projectionPath() {
+        return forecastHistoryService.findHistory(FIRST_DAY, lastDay);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ForecastReadPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,145 @@
+package com.gler.assignment.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import com.gler.assignment.AssignmentApplication;
+import com.gler.assignment.grpc.GrpcServerLifecycle;
+import com.gler.assignment.grpc.v1.ForecastRpcGrpc;
+import com.gler.assignment.grpc.v1.ForecastRpcRequest;
+import com.gler.assignment.grpc.v1.ForecastRpcResponse;
+import com.gler.assignment.grpc.v1.ReplaceRequest;
+import com.gler.assignment.grpc.v1.ReplaceResponse;
+import com.gler.assignment.grpc.v1.TextReplaceRpcGrpc;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip on the loopback interface for the same service calls over REST (JSON or query
+ * string over HTTP/1.1 keep-alive) and over gRPC (Protobuf over HTTP/2). The forecast call
+ * requests no variables, so no upstream call is made and only the database write remains.
+ * Payload sizes are printed once at setup: bodies for both, plus REST response headers;
+ * HTTP/2 headers are HPACK-compressed and mostly indexed after the first call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrpcVsRestBenchmark {
+
+    private static final String TEXT = "Grüße aus Berlin 😀 — the quick brown fox jumps over the lazy dog, 世界 ✓";
+    private static final String FORECAST_JSON = "{\"addTemprature\":false,\"addHumidity\":false,\"addWindSpeed\":false}";
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest restReplaceRequest;
+    private HttpRequest restForecastRequest;
+    private ManagedChannel channel;
+    private TextReplaceRpcGrpc.TextReplaceRpcBlockingStub textStub;
+    private ForecastRpcGrpc.ForecastRpcBlockingStub forecastStub;
+    private ReplaceRequest grpcReplaceRequest;
+    private ForecastRpcRequest grpcForecastRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(AssignmentApplication.class)
+                .properties(
+                        "server.port=0",
+                        "grpc.server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:grpc-benchmark",
+                        "spring.jpa.show-sql=false",
+                        "forecast.rate-limit.enabled=false")
+                .run();
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).detachAndStopAllAppenders();
+        String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        restReplaceRequest = HttpRequest.newBuilder(URI.create(base + "/?text=" + URLEncoder.encode(TEXT, StandardCharsets.UTF_8)))
+                .GET().build();
+        restForecastRequest = HttpRequest.newBuilder(URI.create(base + "/api/v1/forcast"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(FORECAST_JSON)).build();
+
+        channel = NettyChannelBuilder.forAddress("localhost", context.getBean(GrpcServerLifecycle.class).getPort())
+                .usePlaintext().build();
+        textStub = TextReplaceRpcGrpc.newBlockingStub(channel);
+        forecastStub = ForecastRpcGrpc.newBlockingStub(channel);
+        grpcReplaceRequest = ReplaceRequest.newBuilder().setText(ByteString.copyFrom(TEXT, StandardCharsets.UTF_8)).build();
+        grpcForecastRequest = ForecastRpcRequest.getDefaultInstance();
+
+        printPayloadSizes();
+    }
+
+    private void printPayloadSizes() throws IOException, InterruptedException {
+        HttpResponse<byte[]> replace = httpClient.send(restReplaceRequest, HttpResponse.BodyHandlers.ofByteArray());
+        HttpResponse<byte[]> forecast = httpClient.send(restForecastRequest, HttpResponse.BodyHandlers.ofByteArray());
+        ReplaceResponse grpcReplace = textStub.replace(grpcReplaceRequest);
+        ForecastRpcResponse grpcForecast = forecastStub.processForecast(grpcForecastRequest);
+        System.out.printf("%nPayload bytes         request  response  (+ REST response headers)%n");
+        System.out.printf("REST replace   %14d %9d   %d%n", restReplaceRequest.uri().getRawQuery().length(),
+                replace.body().length, headerBytes(replace.headers().map()));
+        System.out.printf("gRPC replace   %14d %9d%n", grpcReplaceRequest.getSerializedSize() + 5,
+                grpcReplace.getSerializedSize() + 5);
+        System.out.printf("REST forecast  %14d %9d   %d%n", FORECAST_JSON.length(), forecast.body().length,
+                headerBytes(forecast.headers().map()));
+        System.out.printf("gRPC forecast  %14d %9d%n", grpcForecastRequest.getSerializedSize() + 5,
+                grpcForecast.getSerializedSize() + 5);
+    }
+
+    private static int headerBytes(Map<String, List<String>> headers) {
+        return headers.entrySet().stream()
+                .mapToInt(header -> header.getValue().stream().mapToInt(value -> header.getKey().length() + value.length() + 4).sum())
+                .sum();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] restReplace() throws IOException, InterruptedException {
+        return httpClient.send(restReplaceRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public ReplaceResponse grpcReplace() {
+        return textStub.replace(grpcReplaceRequest);
+    }
+
+    @Benchmark
+    public byte[] restForecast() throws IOException, InterruptedException {
+        return httpClient.send(restForecastRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public ForecastRpcResponse grpcForecast() {
+        return forecastStub.processForecast(grpcForecastRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GrpcVsRestBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.gler.assignment.benchmarks;
+
+import com.gler.assignment.text.MaskingAutomaton;
+import com.gler.assignment.text.MaskingRule;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Masking a 16 KB text (random words, about one in fifty a pattern) against rule sets of
+ * growing size. {@code apply} should stay flat as the pattern count grows, since the pass over
+ * the input is linear whatever the rule set; {@code compile} is the cost of a hot swap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@State(Scope.Benchmark)
+public class MaskingBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int patternCount;
+
+    private List<MaskingRule> rules;
+    private MaskingAutomaton automaton;
+    private byte[] text;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(7);
+        rules = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            rules.add(i % 2 == 0 ? MaskingRule.mask(word(random)) : new MaskingRule(word(random), "[X]"));
+        }
+        automaton = MaskingAutomaton.compile(rules);
+
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 16 * 1024) {
+            sb.append(random.nextInt(50) == 0 ? rules.get(random.nextInt(patternCount)).pattern() : word(random)).append(' ');
+        }
+        text = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String word(Random random) {
+        char[] chars = new char[5 + random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+
+    @Benchmark
+    public byte[] apply() {
+        return automaton.apply(text);
+    }
+
+    @Benchmark
+    public MaskingAutomaton compile() {
+        return MaskingAutomaton.compile(rules);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MaskingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
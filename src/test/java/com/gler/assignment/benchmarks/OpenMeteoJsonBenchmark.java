@@ -0,0 +1,110 @@
+package com.gler.assignment.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.gler.assignment.configs.JacksonConfig;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.OpenMeteoResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization throughput of realistic Open-Meteo payloads (7 and 16 forecast days of
+ * hourly data) with the stock Spring mapper against the Blackbird + pooled-buffer mapper
+ * and its pre-built reader, plus serialization of the forecast answer.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenMeteoJsonBenchmark {
+
+    @Param({"7", "16"})
+    private int days;
+
+    private byte[] payload;
+    private ObjectMapper defaultMapper;
+    private ObjectReader optimizedReader;
+    private ObjectWriter optimizedWriter;
+    private ForecastResponse answer;
+
+    @Setup
+    public void setUp() {
+        payload = payload(days * 24).getBytes(StandardCharsets.UTF_8);
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper optimized = JsonMapper.builder(JacksonConfig.pooledJsonFactory())
+                .addModule(new BlackbirdModule())
+                .build();
+        optimizedReader = optimized.readerFor(OpenMeteoResponse.class);
+        optimizedWriter = optimized.writerFor(ForecastResponse.class);
+        answer = ForecastResponse.builder()
+                .message("Forecast data processed successfully")
+                .maxTemperature(15.8)
+                .maxHumidity(87.0)
+                .maxWindSpeed(12.5)
+                .date("2025-02-07")
+                .build();
+    }
+
+    @Benchmark
+    public OpenMeteoResponse readDefaultMapper() throws IOException {
+        return defaultMapper.readValue(payload, OpenMeteoResponse.class);
+    }
+
+    @Benchmark
+    public OpenMeteoResponse readOptimizedReader() throws IOException {
+        return optimizedReader.readValue(payload);
+    }
+
+    @Benchmark
+    public byte[] writeDefaultMapper() throws IOException {
+        return defaultMapper.writeValueAsBytes(answer);
+    }
+
+    @Benchmark
+    public byte[] writeOptimizedWriter() throws IOException {
+        return optimizedWriter.writeValueAsBytes(answer);
+    }
+
+    static String payload(int hours) {
+        Random random = new Random(42);
+        StringBuilder time = new StringBuilder();
+        StringBuilder temperature = new StringBuilder();
+        StringBuilder humidity = new StringBuilder();
+        StringBuilder wind = new StringBuilder();
+        LocalDateTime start = LocalDateTime.of(2025, 2, 7, 0, 0);
+        for (int i = 0; i < hours; i++) {
+            String separator = i == 0 ? "" : ",";
+            time.append(separator).append('"').append(start.plusHours(i)).append('"');
+            temperature.append(separator).append(Math.round((random.nextGaussian() * 6 + 8) * 10) / 10.0);
+            humidity.append(separator).append(40 + random.nextInt(60));
+            wind.append(separator).append(Math.round(random.nextDouble() * 300) / 10.0);
+        }
+        return "{\"latitude\":52.52,\"longitude\":13.419998,\"generationtime_ms\":0.0590085983276367,"
+                + "\"utc_offset_seconds\":0,\"timezone\":\"GMT\",\"timezone_abbreviation\":\"GMT\",\"elevation\":38.0,"
+                + "\"hourly_units\":{\"time\":\"iso8601\",\"temperature_2m\":\"°C\",\"relative_humidity_2m\":\"%\","
+                + "\"wind_speed_10m\":\"km/h\"},"
+                + "\"hourly\":{\"time\":[" + time + "],\"temperature_2m\":[" + temperature
+                + "],\"relative_humidity_2m\":[" + humidity + "],\"wind_speed_10m\":[" + wind + "]}}";
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OpenMeteoJsonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
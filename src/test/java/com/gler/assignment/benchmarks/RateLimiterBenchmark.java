@@ -0,0 +1,54 @@
+package com.gler.assignment.benchmarks;
+
+import com.gler.assignment.ratelimit.ClientRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one admission decision with every core hammering the limiter. With a single
+ * client all threads race on one bucket, which is the worst case for the compare-and-set
+ * loop; with many clients they mostly touch different buckets. The limit is set high
+ * enough that requests are admitted, so the full update path is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "1024", "65536"})
+    private int clientCount;
+
+    private ClientRateLimiter limiter;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        limiter = new ClientRateLimiter("benchmark", 1e9, 1_000_000, clientCount * 2,
+                new SimpleMeterRegistry(), System::nanoTime);
+        clients = new String[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = "10." + (i >> 16 & 0xff) + "." + (i >> 8 & 0xff) + "." + (i & 0xff);
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        return limiter.tryAcquire(clients[ThreadLocalRandom.current().nextInt(clients.length)]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RateLimiterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gler.assignment.benchmarks;
+
+import com.gler.assignment.backfill.BackfillChunkStoredEvent;
+import com.gler.assignment.backfill.DailyMaxima;
+import com.gler.assignment.configs.SpatialProperties;
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.ViewportForecasts;
+import com.gler.assignment.spatial.ForecastSpatialIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Viewport and nearest-location queries against one day of locations spread uniformly over
+ * the sphere. The index is filled through backfill events, so no database is involved; a
+ * 5x5 degree viewport and a nearest lookup should both stay in the tens of microseconds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialIndexBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Param({"10000", "100000"})
+    private int locations;
+
+    private ForecastSpatialIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new ForecastSpatialIndex(new SpatialProperties(), new UpstreamProperties(), null);
+        Random random = new Random(11);
+        for (int i = 0; i < locations; i++) {
+            double latitude = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            double longitude = random.nextDouble() * 360 - 180;
+            index.onBackfillChunkStored(new BackfillChunkStoredEvent(latitude, longitude,
+                    List.of(new DailyMaxima(TODAY, random.nextDouble() * 40, null, null))));
+        }
+        index.flush().join();
+    }
+
+    @TearDown
+    public void tearDown() {
+        index.destroy();
+    }
+
+    @Benchmark
+    public ViewportForecasts within() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double south = random.nextDouble(-80, 80);
+        double west = random.nextDouble(-180, 170);
+        return index.within(TODAY, south, west, south + 5, west + 5, 1000);
+    }
+
+    @Benchmark
+    public Optional<?> nearest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return index.nearest(TODAY, random.nextDouble(-80, 80), random.nextDouble(-180, 180));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SpatialIndexBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
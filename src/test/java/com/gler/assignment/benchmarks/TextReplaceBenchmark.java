@@ -0,0 +1,82 @@
+package com.gler.assignment.benchmarks;
+
+import com.gler.assignment.text.TextUnit;
+import com.gler.assignment.text.Utf8TextReplacer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text replacement from request bytes to response bytes. {@code utf16} is the old
+ * char-index implementation including the decode and encode around it, {@code viaString}
+ * is today's {@code replace(String)}, and the {@code utf8*} benchmarks are the byte engine
+ * as used by the POST endpoint, allocating or writing into a reused buffer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextReplaceBenchmark {
+
+    @Param({"ascii", "multilingual"})
+    private String text;
+
+    @Param({"16", "4096"})
+    private int length;
+
+    private byte[] input;
+    private byte[] buffer;
+
+    @Setup
+    public void setUp() {
+        String unit = text.equals("ascii") ? "The quick brown fox jumps over the lazy dog. " : "Grüße, 世界! Привет 😀 مرحبا ";
+        StringBuilder sb = new StringBuilder();
+        while (sb.codePointCount(0, sb.length()) < length) {
+            sb.append(unit);
+        }
+        String value = sb.substring(0, sb.offsetByCodePoints(0, length));
+        input = value.getBytes(StandardCharsets.UTF_8);
+        buffer = new byte[input.length];
+    }
+
+    @Benchmark
+    public byte[] utf16() {
+        String value = new String(input, StandardCharsets.UTF_8);
+        String result = "*" + value.substring(1, value.length() - 1) + "$";
+        return result.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] viaString() {
+        String value = new String(input, StandardCharsets.UTF_8);
+        byte[] result = Utf8TextReplacer.replace(value.getBytes(StandardCharsets.UTF_8), TextUnit.CODE_POINT);
+        return new String(result, StandardCharsets.UTF_8).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] utf8() {
+        return Utf8TextReplacer.replace(input, TextUnit.CODE_POINT);
+    }
+
+    @Benchmark
+    public int utf8IntoBuffer() {
+        return Utf8TextReplacer.replace(input, 0, input.length, TextUnit.CODE_POINT, buffer, 0);
+    }
+
+    @Benchmark
+    public byte[] utf8Graphemes() {
+        return Utf8TextReplacer.replace(input, TextUnit.GRAPHEME);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TextReplaceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
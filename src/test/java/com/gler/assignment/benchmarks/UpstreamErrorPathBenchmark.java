@@ -0,0 +1,119 @@
+package com.gler.assignment.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.AssignmentApplication;
+import com.gler.assignment.dto.ErrorResponse;
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.OpenMeteoResponse;
+import com.gler.assignment.exception.GlobalExceptionHandler;
+import com.gler.assignment.exception.UpstreamApiException;
+import com.gler.assignment.services.ForecastService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a request that fails because the upstream refuses connections, from the
+ * service call to the serialized 502 body. {@code legacyErrorPath} rebuilds what every
+ * failure used to cost: a filled-in stack trace, an unthrottled error log and a freshly
+ * serialized body. Root appenders are detached so console I/O is not what gets measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UpstreamErrorPathBenchmark {
+
+    private static final org.slf4j.Logger LEGACY_LOG = LoggerFactory.getLogger("legacy-error-path");
+
+    private ConfigurableApplicationContext context;
+    private ForecastService forecastService;
+    private GlobalExceptionHandler exceptionHandler;
+    private RestTemplate restTemplate;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private ForecastRequest forecastRequest;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(AssignmentApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:error-path-benchmark",
+                        "spring.jpa.show-sql=false",
+                        // Measure a single failing attempt, not the retry pauses.
+                        "forecast.upstream.retry.enabled=false")
+                .run();
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).detachAndStopAllAppenders();
+
+        restTemplate = context.getBean(RestTemplate.class);
+        restTemplate.setRequestFactory((uri, method) -> {
+            throw new ConnectException("Connection refused");
+        });
+        forecastService = context.getBean(ForecastService.class);
+        exceptionHandler = context.getBean(GlobalExceptionHandler.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        request = new MockHttpServletRequest("POST", "/api/v1/forcast");
+        forecastRequest = new ForecastRequest(true, true, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ResponseEntity<byte[]> outageErrorPath() throws IOException {
+        try {
+            forecastService.processForecast(forecastRequest);
+            throw new IllegalStateException("Upstream call unexpectedly succeeded");
+        } catch (UpstreamApiException e) {
+            return exceptionHandler.handleUpstreamApiException(e, request);
+        }
+    }
+
+    @Benchmark
+    public byte[] legacyErrorPath() throws IOException {
+        UpstreamApiException failure;
+        try {
+            restTemplate.getForObject("https://api.open-meteo.com/v1/forecast", OpenMeteoResponse.class);
+            throw new IllegalStateException("Upstream call unexpectedly succeeded");
+        } catch (RestClientException e) {
+            LEGACY_LOG.error("Failed to call Open-Meteo API", e);
+            failure = new UpstreamApiException("Connection to the upstream is unreachable", e);
+        }
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_GATEWAY.value())
+                .error("Upstream API Unreachable")
+                .message(failure.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UpstreamErrorPathBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,138 @@
+package com.gler.assignment.cache;
+
+import com.gler.assignment.configs.SnapshotProperties;
+import com.gler.assignment.configs.UpstreamProperties;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ForecastCacheSnapshotterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private UpstreamProperties upstreamProperties;
+    private SnapshotProperties snapshotProperties;
+
+    private final UpstreamQuery allVariables = new UpstreamQuery(52.52, 13.41, HourlyVariable.ALL);
+    private final UpstreamQuery windOnly = new UpstreamQuery(48.85, 2.35, HourlyVariable.WIND_SPEED_10M.bit());
+
+    @BeforeEach
+    void setUp() {
+        upstreamProperties = new UpstreamProperties();
+        snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setPath(tempDir.resolve("nested").resolve("forecast-cache.snapshot"));
+    }
+
+    @Test
+    void testWriteThenLoad_RestoresEntriesIntoFreshCache() {
+        // Arrange
+        UpstreamForecastCache source = new UpstreamForecastCache(upstreamProperties, event -> { });
+        CachedForecast first = source.put(allVariables, new HourlySeries(
+                new double[]{10.0, Double.NaN, 15.8}, new double[]{70, 87, 80}, new double[]{8.0, 12.5, 9.0}));
+        CachedForecast second = source.put(windOnly, new HourlySeries(null, null, new double[]{3.5}));
+        new ForecastCacheSnapshotter(source, snapshotProperties).write();
+
+        // Act
+        UpstreamForecastCache restored = new UpstreamForecastCache(upstreamProperties, event -> { });
+        new ForecastCacheSnapshotter(restored, snapshotProperties).load();
+
+        // Assert
+        Optional<CachedForecast> hit = restored.lookup(allVariables.withVariables(HourlyVariable.TEMPERATURE_2M.bit()));
+        assertThat(hit).isPresent();
+        assertThat(hit.get().version()).isEqualTo(first.version());
+        assertThat(hit.get().series().max(HourlyVariable.TEMPERATURE_2M)).isEqualTo(15.8);
+        assertThat(hit.get().series().temperature2m()).containsExactly(10.0, Double.NaN, 15.8);
+
+        Optional<CachedForecast> wind = restored.lookup(windOnly);
+        assertThat(wind).isPresent();
+        assertThat(wind.get().series().temperature2m()).isNull();
+        assertThat(wind.get().series().windSpeed10m()).containsExactly(3.5);
+        assertThat(restored.currentVersion()).isGreaterThanOrEqualTo(second.version());
+    }
+
+    @Test
+    void testLoad_SkipsExpiredEntries() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        CachedForecast expired = new CachedForecast(allVariables, 7, now - 60_000, now - 1_000,
+                new HourlySeries(new double[]{1.0}, null, null));
+        writeSnapshot(ForecastSnapshotCodec.encode(List.of(expired)));
+
+        // Act
+        UpstreamForecastCache restored = new UpstreamForecastCache(upstreamProperties, event -> { });
+        new ForecastCacheSnapshotter(restored, snapshotProperties).load();
+
+        // Assert
+        assertThat(restored.entries()).isEmpty();
+    }
+
+    @Test
+    void testLoad_CorruptedSnapshotIsIgnored() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        ByteBuffer encoded = ForecastSnapshotCodec.encode(List.of(new CachedForecast(allVariables, 1, now,
+                now + 60_000, new HourlySeries(new double[]{1.0}, null, null))));
+        encoded.put(20, (byte) (encoded.get(20) ^ 0x1));
+        writeSnapshot(encoded);
+
+        // Act
+        UpstreamForecastCache restored = new UpstreamForecastCache(upstreamProperties, event -> { });
+        new ForecastCacheSnapshotter(restored, snapshotProperties).load();
+
+        // Assert
+        assertThat(restored.entries()).isEmpty();
+    }
+
+    @Test
+    void testDecode_RejectsChecksumMismatch() {
+        // Arrange
+        ByteBuffer encoded = ForecastSnapshotCodec.encode(List.of());
+        encoded.put(4, (byte) 2);
+
+        // Act & Assert
+        assertThatThrownBy(() -> ForecastSnapshotCodec.decode(encoded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Snapshot checksum mismatch");
+    }
+
+    @Test
+    void testWrite_SkipsUnchangedCache() throws Exception {
+        // Arrange
+        UpstreamForecastCache cache = new UpstreamForecastCache(upstreamProperties, event -> { });
+        cache.put(allVariables, HourlySeries.EMPTY);
+        ForecastCacheSnapshotter snapshotter = new ForecastCacheSnapshotter(cache, snapshotProperties);
+        snapshotter.write();
+        Files.delete(snapshotProperties.getPath());
+
+        // Act
+        snapshotter.write();
+
+        // Assert
+        assertThat(snapshotProperties.getPath()).doesNotExist();
+    }
+
+    private void writeSnapshot(ByteBuffer encoded) {
+        try {
+            Files.createDirectories(snapshotProperties.getPath().getParent());
+            byte[] bytes = new byte[encoded.remaining()];
+            encoded.duplicate().get(bytes);
+            Files.write(snapshotProperties.getPath(), bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.gler.assignment.configs;
+
+import com.gler.assignment.cache.CachedForecast;
+import com.gler.assignment.cache.ForecastSnapshotCodec;
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import org.junit.jupiter.api.Test;
+import org.springdoc.api.AbstractOpenApiResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("faststart")
+class FastStartConfigTest {
+
+    private static final UpstreamQuery QUERY = new UpstreamQuery(52.52, 13.41, HourlyVariable.ALL);
+    private static final Path SNAPSHOT = writeSnapshot();
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void testFastStart_HotPathEager_RestLazy() {
+        assertThat(beanFactory.getBeanDefinition("forcastController").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("textReplaceController").isLazyInit()).isFalse();
+        assertThat(beanFactory.getBeanDefinition("forecastHistoryController").isLazyInit()).isTrue();
+        assertThat(beanFactory.containsSingleton("forecastHistoryController")).isFalse();
+    }
+
+    @Test
+    void testFastStart_SnapshotRestoredOnStartup() {
+        assertThat(beanFactory.getBeanDefinition("forecastCacheSnapshotter").isLazyInit()).isFalse();
+        assertThat(beanFactory.containsSingleton("forecastCacheSnapshotter")).isTrue();
+        assertThat(upstreamForecastCache.lookup(QUERY))
+                .hasValueSatisfying(cached -> assertThat(cached.version()).isEqualTo(42));
+    }
+
+    @Test
+    void testFastStart_SpringdocAndH2ConsoleDisabled() {
+        assertThat(beanFactory.getBeanNamesForType(AbstractOpenApiResource.class)).isEmpty();
+        assertThat(beanFactory.containsBean("h2Console")).isFalse();
+    }
+
+    @Test
+    void testFastStart_FirstRequestServed() throws Exception {
+        mockMvc.perform(get("/").param("text", "abc"))
+                .andExpect(status().isOk());
+    }
+
+    @DynamicPropertySource
+    static void snapshot(DynamicPropertyRegistry registry) {
+        registry.add("forecast.snapshot.enabled", () -> "true");
+        registry.add("forecast.snapshot.path", SNAPSHOT::toString);
+    }
+
+    private static Path writeSnapshot() {
+        long now = System.currentTimeMillis();
+        CachedForecast cached = new CachedForecast(QUERY, 42, now, now + 600_000,
+                new HourlySeries(new double[]{10.0, 15.8}, new double[]{70, 87}, new double[]{8.0, 12.5}));
+        try {
+            Path path = Files.createTempDirectory("faststart").resolve("forecast-cache.snapshot");
+            ByteBuffer encoded = ForecastSnapshotCodec.encode(List.of(cached));
+            byte[] bytes = new byte[encoded.remaining()];
+            encoded.get(bytes);
+            Files.write(path, bytes);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.gler.assignment.configs;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.OpenMeteoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class JacksonConfigTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private PrebuiltJsonHttpMessageConverter prebuiltJsonHttpMessageConverter;
+
+    @Test
+    void testObjectMapper_HasBlackbirdModule() {
+        assertThat(objectMapper.getRegisteredModuleIds()).contains("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
+    }
+
+    @Test
+    void testRestTemplate_PrefersPrebuiltConverterForUpstreamResponse() {
+        assertThat(restTemplate.getMessageConverters())
+                .filteredOn(converter -> converter.canRead(OpenMeteoResponse.class, MediaType.APPLICATION_JSON))
+                .first()
+                .isSameAs(prebuiltJsonHttpMessageConverter);
+    }
+
+    @Test
+    void testConverter_ReadsNestedUpstreamTypes() throws Exception {
+        // Arrange
+        String json = """
+                {"latitude":52.52,"longitude":13.41,"generationtime_ms":0.05,"timezone":"GMT",
+                 "hourly_units":{"time":"iso8601","temperature_2m":"°C"},
+                 "hourly":{"time":["2025-02-07T00:00"],"temperature_2m":[15.8],
+                           "relative_humidity_2m":[87],"wind_speed_10m":[12.5]},
+                 "unknown_field":true}
+                """;
+        MockHttpInputMessage input = new MockHttpInputMessage(json.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        OpenMeteoResponse response = (OpenMeteoResponse) prebuiltJsonHttpMessageConverter.read(OpenMeteoResponse.class, input);
+
+        // Assert
+        assertThat(response.getGenerationtimeMs()).isEqualTo(0.05);
+        assertThat(response.getHourlyUnits().getTemperature2m()).isEqualTo("°C");
+        assertThat(response.getHourly().getTemperature2m()).containsExactly(15.8);
+        assertThat(response.getHourly().getRelativeHumidity2m()).containsExactly(87);
+    }
+
+    @Test
+    void testConverter_WritesForecastResponse() throws Exception {
+        // Arrange
+        ForecastResponse response = ForecastResponse.builder()
+                .message("Forecast data processed successfully")
+                .maxTemperature(15.8)
+                .date("2025-02-07")
+                .build();
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        prebuiltJsonHttpMessageConverter.write(response, MediaType.APPLICATION_JSON, output);
+
+        // Assert
+        assertThat(output.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(output.getBodyAsString()).contains("\"maxTemperature\":15.8", "\"date\":\"2025-02-07\"");
+    }
+}
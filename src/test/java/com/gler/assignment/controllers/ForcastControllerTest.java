@@ -1,6 +1,10 @@
 package com.gler.assignment.controllers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.cache.ForecastETag;
+import com.gler.assignment.cache.ForecastETagResolver;
+import com.gler.assignment.cache.ForecastResponseCache;
+import com.gler.assignment.cache.ForecastResponseKey;
 import com.gler.assignment.controllers.ForcastController;
 import com.gler.assignment.dto.ForecastRequest;
 import com.gler.assignment.dto.ForecastResponse;
@@ -11,18 +15,26 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ForcastController.class)
+@ImportAutoConfiguration(ObservationAutoConfiguration.class)
 @ExtendWith(MockitoExtension.class)
 class ForcastControllerTest {
 
@@ -36,6 +48,16 @@ class ForcastControllerTest {
     @SuppressWarnings("removal")  // Suppress deprecation warning
     private ForecastService forecastService;
 
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastETagResolver forecastETagResolver;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastResponseCache forecastResponseCache;
+
+    private static final ForecastResponseKey KEY = new ForecastResponseKey(52.52, 13.41, LocalDate.of(2025, 2, 7), 7, 1);
+
     private ForecastRequest validRequest;
     private ForecastResponse mockResponse;
 
@@ -269,4 +291,153 @@ class ForcastControllerTest {
 
         verify(forecastService, times(1)).processForecast(any(ForecastRequest.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetForecastQuery_Success_ReturnsETagAndCacheControl() throws Exception {
+        // Arrange
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(mockResponse);
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.empty(), Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 600, KEY)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2025-02-07-7-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=600, public"))
+                .andExpect(jsonPath("$.maxTemperature").value(15.8))
+                .andExpect(jsonPath("$.maxHumidity").value(87.0))
+                .andExpect(jsonPath("$.maxWindSpeed").value(12.5));
+
+        verify(forecastService, times(1)).processForecast(new ForecastRequest(true, true, true));
+    }
+
+    @Test
+    void testGetForecastQuery_MatchingIfNoneMatch_Returns304WithoutProcessing() throws Exception {
+        // Arrange
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.of(new ForecastETag("\"2025-02-07-5-1\"", 300, KEY)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "false")
+                        .param("addWindSpeed", "true")
+                        .header("If-None-Match", "\"2025-02-07-5-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2025-02-07-5-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(content().string(""));
+
+        verify(forecastService, never()).processForecast(any(ForecastRequest.class));
+    }
+
+    @Test
+    void testGetForecastQuery_StaleIfNoneMatch_ReturnsFreshBody() throws Exception {
+        // Arrange
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(mockResponse);
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.of(new ForecastETag("\"2025-02-07-7-2\"", 300, KEY)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true")
+                        .header("If-None-Match", "\"2025-02-07-7-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2025-02-07-7-2\""))
+                .andExpect(jsonPath("$.date").value("2025-02-07"));
+
+        verify(forecastService, times(1)).processForecast(any(ForecastRequest.class));
+    }
+
+    @Test
+    void testGetForecastQuery_CachedBytes_WrittenWithoutProcessing() throws Exception {
+        // Arrange
+        byte[] body = "{\"message\":\"cached\",\"date\":\"2025-02-07\"}".getBytes(StandardCharsets.UTF_8);
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 600, KEY)));
+        when(forecastResponseCache.get(KEY)).thenReturn(Optional.of(body));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().bytes(body))
+                .andExpect(header().string("ETag", "\"2025-02-07-7-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=600, public"));
+
+        verify(forecastService, never()).processForecast(any(ForecastRequest.class));
+        verify(forecastResponseCache, never()).put(any(), any());
+    }
+
+    @Test
+    void testGetForecastQuery_TagChangedDuringProcessing_DoesNotCacheAnswer() throws Exception {
+        // Arrange
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(mockResponse);
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.empty(), Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 600, KEY)));
+
+        // Act
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk());
+
+        // Assert
+        verify(forecastResponseCache, never()).put(any(), any());
+    }
+
+    @Test
+    void testGetForecastQuery_MaxAgeTicksDuringProcessing_CachesAnswerAndRevalidates() throws Exception {
+        // Arrange: the same data version, resolved a second apart
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(mockResponse);
+        when(forecastETagResolver.resolve(any(ForecastRequest.class)))
+                .thenReturn(Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 600, KEY)),
+                        Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 599, KEY)),
+                        Optional.of(new ForecastETag("\"2025-02-07-7-1\"", 598, KEY)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true")
+                        .header("If-None-Match", "\"2025-02-07-7-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2025-02-07-7-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=599, public"));
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true")
+                        .header("If-None-Match", "\"2025-02-07-7-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("Cache-Control", "max-age=598, public"));
+
+        verify(forecastResponseCache, times(1)).put(KEY, mockResponse);
+        verify(forecastService, times(1)).processForecast(any(ForecastRequest.class));
+    }
+
+    @Test
+    void testGetForecastQuery_MissingParameter_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("addWindSpeed parameter is mandatory"));
+
+        verify(forecastService, never()).processForecast(any(ForecastRequest.class));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.HistoryConfig;
+import com.gler.assignment.dto.ForecastSummary;
+import com.gler.assignment.services.ForecastHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ForecastHistoryController.class)
+@Import(HistoryConfig.class)
+class ForecastHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastHistoryService forecastHistoryService;
+
+    @Test
+    void testGetHistory_Success() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 7);
+        when(forecastHistoryService.findHistory(from, to)).thenReturn(List.of(
+                new ForecastSummary(LocalDate.of(2025, 2, 6), 14.0, 80.0, 10.0),
+                new ForecastSummary(LocalDate.of(2025, 2, 7), 15.8, 87.0, 12.5)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-02-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].forecastDate").value("2025-02-07"))
+                .andExpect(jsonPath("$[1].maxTemperature").value(15.8))
+                .andExpect(jsonPath("$[1].maxHumidity").value(87.0))
+                .andExpect(jsonPath("$[1].maxWindSpeed").value(12.5));
+
+        verify(forecastHistoryService, times(1)).findHistory(from, to);
+    }
+
+    @Test
+    void testGetHistory_EmptyRange() throws Exception {
+        // Arrange
+        when(forecastHistoryService.findHistory(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-02-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    void testGetHistory_FromAfterTo_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .param("from", "2025-02-07")
+                        .param("to", "2025-02-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(forecastHistoryService, never()).findHistory(any(LocalDate.class), any(LocalDate.class));
+    }
+
+    @Test
+    void testGetHistory_RangeLongerThanMaxDays_ReturnsBadRequest() throws Exception {
+        // Arrange
+        when(forecastHistoryService.findHistory(any(LocalDate.class), any(LocalDate.class)))
+                .thenReturn(List.of());
+
+        // Act & Assert: 2024 is a leap year, so it is exactly the default 366 days
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-12-31"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .param("from", "2024-01-01")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+
+        verify(forecastHistoryService, times(1)).findHistory(any(LocalDate.class), any(LocalDate.class));
+    }
+}
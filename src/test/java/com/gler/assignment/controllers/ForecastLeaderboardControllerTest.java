@@ -0,0 +1,89 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.LeaderboardConfig;
+import com.gler.assignment.dto.LeaderboardEntry;
+import com.gler.assignment.leaderboard.ForecastLeaderboard;
+import com.gler.assignment.leaderboard.LeaderboardMetric;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ForecastLeaderboardController.class)
+@Import(LeaderboardConfig.class)
+class ForecastLeaderboardControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastLeaderboard forecastLeaderboard;
+
+    @Test
+    void testGetLeaderboard_DefaultsToToday() throws Exception {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        when(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, today, today, 50)).thenReturn(List.of(
+                new LeaderboardEntry(53.55, 9.99, 35.0),
+                new LeaderboardEntry(48.14, 11.58, 20.0)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/leaderboard")
+                        .param("metric", "wind_speed")
+                        .param("limit", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metric").value("wind_speed"))
+                .andExpect(jsonPath("$.from").value(today.toString()))
+                .andExpect(jsonPath("$.to").value(today.toString()))
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[0].latitude").value(53.55))
+                .andExpect(jsonPath("$.entries[0].value").value(35.0));
+    }
+
+    @Test
+    void testGetLeaderboard_Range() throws Exception {
+        // Arrange
+        LocalDate from = LocalDate.of(2025, 2, 1);
+        LocalDate to = LocalDate.of(2025, 2, 7);
+        when(forecastLeaderboard.top(LeaderboardMetric.TEMPERATURE, from, to, 10)).thenReturn(List.of());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/leaderboard")
+                        .param("metric", "temperature")
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-02-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries").isEmpty());
+
+        verify(forecastLeaderboard, times(1)).top(LeaderboardMetric.TEMPERATURE, from, to, 10);
+    }
+
+    @Test
+    void testGetLeaderboard_InvalidParameters_ReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/leaderboard").param("metric", "pressure"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/leaderboard").param("metric", "humidity").param("limit", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/leaderboard")
+                        .param("metric", "humidity")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31"))
+                .andExpect(status().isBadRequest());
+
+        verify(forecastLeaderboard, never()).top(any(LeaderboardMetric.class), any(LocalDate.class),
+                any(LocalDate.class), anyInt());
+    }
+}
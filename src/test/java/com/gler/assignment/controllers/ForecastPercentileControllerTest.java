@@ -0,0 +1,104 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.PercentileQuery;
+import com.gler.assignment.dto.PercentileSummary;
+import com.gler.assignment.services.ForecastPercentileService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ForecastPercentileController.class)
+class ForecastPercentileControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastPercentileService forecastPercentileService;
+
+    @Test
+    void testGetPercentiles_DefaultQuantiles_Success() throws Exception {
+        // Arrange
+        PercentileQuery query = new PercentileQuery(HourlyVariable.TEMPERATURE_2M, FROM, TO,
+                List.of(0.5, 0.9, 0.99));
+        when(forecastPercentileService.findPercentiles(query)).thenReturn(new PercentileSummary(
+                "temperature_2m", FROM, TO, 31, 744, -8.0, 11.5, List.of(
+                        new PercentileSummary.Percentile(0.5, 1.5),
+                        new PercentileSummary.Percentile(0.9, 6.0),
+                        new PercentileSummary.Percentile(0.99, 10.0))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/percentiles")
+                        .param("variable", "temperature_2m")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.variable").value("temperature_2m"))
+                .andExpect(jsonPath("$.sketches").value(31))
+                .andExpect(jsonPath("$.samples").value(744))
+                .andExpect(jsonPath("$.percentiles.length()").value(3))
+                .andExpect(jsonPath("$.percentiles[1].quantile").value(0.9))
+                .andExpect(jsonPath("$.percentiles[1].value").value(6.0));
+
+        verify(forecastPercentileService, times(1)).findPercentiles(query);
+    }
+
+    @Test
+    void testGetPercentiles_Quantiles_PassedThrough() throws Exception {
+        // Arrange
+        PercentileQuery query = new PercentileQuery(HourlyVariable.WIND_SPEED_10M, FROM, TO,
+                List.of(0.25, 0.75));
+        when(forecastPercentileService.findPercentiles(query)).thenReturn(new PercentileSummary(
+                "wind_speed_10m", FROM, TO, 0, 0, null, null, List.of(
+                        new PercentileSummary.Percentile(0.25, null),
+                        new PercentileSummary.Percentile(0.75, null))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/percentiles")
+                        .param("variable", "wind_speed_10m")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .param("q", "0.25,0.75"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.samples").value(0))
+                .andExpect(jsonPath("$.percentiles[0].value").doesNotExist());
+    }
+
+    @Test
+    void testGetPercentiles_InvalidParameters_ReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/percentiles")
+                        .param("variable", "pressure_msl")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/percentiles")
+                        .param("variable", "temperature_2m")
+                        .param("from", "2025-01-31")
+                        .param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/percentiles")
+                        .param("variable", "temperature_2m")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .param("q", "0.5,1.5"))
+                .andExpect(status().isBadRequest());
+
+        verify(forecastPercentileService, never()).findPercentiles(any(PercentileQuery.class));
+    }
+}
@@ -0,0 +1,115 @@
+package com.gler.assignment.controllers;
+
+import com.gler.assignment.configs.SpatialConfig;
+import com.gler.assignment.dto.LocationForecast;
+import com.gler.assignment.dto.NearestForecast;
+import com.gler.assignment.dto.ViewportForecasts;
+import com.gler.assignment.spatial.ForecastSpatialIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ForecastSpatialController.class)
+@Import(SpatialConfig.class)
+class ForecastSpatialControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 2, 7);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastSpatialIndex forecastSpatialIndex;
+
+    @Test
+    void testGetWithin_Success() throws Exception {
+        // Arrange
+        when(forecastSpatialIndex.within(DAY, 47.0, 5.0, 55.0, 15.0, 1000)).thenReturn(new ViewportForecasts(DAY, false,
+                List.of(new LocationForecast(52.52, 13.41, 15.8, 87.0, 12.5))));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/within")
+                        .param("south", "47")
+                        .param("west", "5")
+                        .param("north", "55")
+                        .param("east", "15")
+                        .param("date", "2025-02-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.truncated").value(false))
+                .andExpect(jsonPath("$.forecasts.length()").value(1))
+                .andExpect(jsonPath("$.forecasts[0].latitude").value(52.52))
+                .andExpect(jsonPath("$.forecasts[0].maxWindSpeed").value(12.5));
+    }
+
+    @Test
+    void testGetWithin_InvalidBox_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/within")
+                        .param("south", "55")
+                        .param("west", "5")
+                        .param("north", "47")
+                        .param("east", "15"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/within")
+                        .param("south", "47")
+                        .param("west", "5")
+                        .param("north", "55")
+                        .param("east", "190"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/forcast/within")
+                        .param("south", "47")
+                        .param("west", "5")
+                        .param("north", "55")
+                        .param("east", "15")
+                        .param("limit", "100000"))
+                .andExpect(status().isBadRequest());
+
+        verify(forecastSpatialIndex, never()).within(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void testGetNearest_Found() throws Exception {
+        // Arrange
+        when(forecastSpatialIndex.nearest(DAY, 48.14, 11.58)).thenReturn(Optional.of(new NearestForecast(DAY,
+                new LocationForecast(52.52, 13.41, 15.8, null, null), 504.2)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/nearest")
+                        .param("latitude", "48.14")
+                        .param("longitude", "11.58")
+                        .param("date", "2025-02-07"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.date").value("2025-02-07"))
+                .andExpect(jsonPath("$.forecast.latitude").value(52.52))
+                .andExpect(jsonPath("$.distanceKm").value(504.2));
+    }
+
+    @Test
+    void testGetNearest_NothingStored_ReturnsNotFound() throws Exception {
+        // Arrange
+        when(forecastSpatialIndex.nearest(any(LocalDate.class), anyDouble(), anyDouble())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/nearest")
+                        .param("latitude", "48.14")
+                        .param("longitude", "11.58"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/forcast/nearest")
+                        .param("latitude", "91")
+                        .param("longitude", "11.58"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,54 @@
+package com.gler.assignment.exception;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RateLimitedLoggerTest {
+
+    private final Logger log = mock(Logger.class);
+
+    @Test
+    void testError_BurstWithinInterval_LogsOnceAndCountsTheRest() {
+        // Arrange
+        RateLimitedLogger logger = new RateLimitedLogger(log, Duration.ofHours(1));
+        RuntimeException failure = new RuntimeException("down");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            logger.error("Failed to call Open-Meteo API", failure);
+        }
+
+        // Assert
+        verify(log, times(1)).error("Failed to call Open-Meteo API", failure);
+        assertThat(logger.suppressedCount()).isEqualTo(99);
+    }
+
+    @Test
+    void testError_AfterInterval_ReportsSuppressedCount() {
+        // Arrange
+        AtomicLong clock = new AtomicLong(1_000_000_000L);
+        RateLimitedLogger logger = new RateLimitedLogger(log, Duration.ofMillis(20), clock::get);
+        RuntimeException failure = new RuntimeException("down");
+        logger.error("Failed to call Open-Meteo API", failure);
+        logger.error("Failed to call Open-Meteo API", failure);
+        logger.error("Failed to call Open-Meteo API", failure);
+
+        // Act
+        clock.addAndGet(Duration.ofMillis(40).toNanos());
+        logger.error("Failed to call Open-Meteo API", failure);
+
+        // Assert
+        verify(log).error(eq("{} ({} similar failures suppressed)"), eq("Failed to call Open-Meteo API"), eq(2L), any(RuntimeException.class));
+        assertThat(logger.suppressedCount()).isZero();
+        verify(log, times(1)).error(anyString(), any(Throwable.class));
+    }
+}
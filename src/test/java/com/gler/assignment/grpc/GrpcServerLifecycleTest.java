@@ -0,0 +1,55 @@
+package com.gler.assignment.grpc;
+
+import com.gler.assignment.grpc.v1.ForecastRpcGrpc;
+import com.gler.assignment.grpc.v1.ForecastRpcRequest;
+import com.gler.assignment.grpc.v1.ForecastRpcResponse;
+import com.gler.assignment.grpc.v1.ReplaceRequest;
+import com.gler.assignment.grpc.v1.TextReplaceRpcGrpc;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "grpc.server.port=0")
+class GrpcServerLifecycleTest {
+
+    @Autowired
+    private GrpcServerLifecycle grpcServerLifecycle;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServerLifecycle.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testServer_StartedWithWebServer_ServesBothServices() {
+        assertThat(grpcServerLifecycle.isRunning()).isTrue();
+
+        String replaced = TextReplaceRpcGrpc.newBlockingStub(channel)
+                .replace(ReplaceRequest.newBuilder().setText(ByteString.copyFrom("elephant", StandardCharsets.UTF_8)).build())
+                .getText().toStringUtf8();
+        // No variables requested, so no upstream call is made
+        ForecastRpcResponse forecast = ForecastRpcGrpc.newBlockingStub(channel)
+                .processForecast(ForecastRpcRequest.getDefaultInstance());
+
+        assertThat(replaced).isEqualTo("*lephan$");
+        assertThat(forecast.getMessage()).isEqualTo("Forecast data processed successfully");
+        assertThat(forecast.hasMaxTemperature()).isFalse();
+    }
+}
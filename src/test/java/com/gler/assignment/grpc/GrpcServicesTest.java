@@ -0,0 +1,175 @@
+package com.gler.assignment.grpc;
+
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.exception.UpstreamApiException;
+import com.gler.assignment.grpc.v1.ForecastRpcGrpc;
+import com.gler.assignment.grpc.v1.ForecastRpcRequest;
+import com.gler.assignment.grpc.v1.ForecastRpcResponse;
+import com.gler.assignment.grpc.v1.ReplaceRequest;
+import com.gler.assignment.grpc.v1.ReplaceResponse;
+import com.gler.assignment.grpc.v1.TextReplaceRpcGrpc;
+import com.gler.assignment.grpc.v1.TextUnit;
+import com.gler.assignment.impl.TextReplaceServiceImpl;
+import com.gler.assignment.services.ForecastService;
+import com.google.protobuf.ByteString;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GrpcServicesTest {
+
+    @Mock
+    private ForecastService forecastService;
+
+    @Spy
+    private TextReplaceServiceImpl textReplaceService = new TextReplaceServiceImpl();
+
+    @InjectMocks
+    private ForecastGrpcService forecastGrpcService;
+
+    @InjectMocks
+    private TextReplaceGrpcService textReplaceGrpcService;
+
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor()
+                .addService(forecastGrpcService)
+                .addService(textReplaceGrpcService)
+                .build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void testReplace_Unary() {
+        ReplaceResponse response = TextReplaceRpcGrpc.newBlockingStub(channel).replace(request("😀hello😀", TextUnit.CODE_POINT));
+
+        assertThat(response.getText().toStringUtf8()).isEqualTo("*hello$");
+        assertThat(response.getRejected()).isFalse();
+    }
+
+    @Test
+    void testReplace_TooShort_InvalidArgument() {
+        StatusRuntimeException error = catchThrowableOfType(StatusRuntimeException.class,
+                () -> TextReplaceRpcGrpc.newBlockingStub(channel).replace(request("a", TextUnit.CODE_POINT)));
+
+        assertThat(error.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void testReplaceStream_RejectedItemsDoNotEndTheStream() throws Exception {
+        Collector<ReplaceResponse> responses = new Collector<>();
+        StreamObserver<ReplaceRequest> requests = TextReplaceRpcGrpc.newStub(channel).replaceStream(responses);
+
+        requests.onNext(request("elephant", TextUnit.CODE_POINT));
+        requests.onNext(request("x", TextUnit.CODE_POINT));
+        requests.onNext(request("🇩🇪abc🇫🇷", TextUnit.GRAPHEME));
+        requests.onCompleted();
+
+        assertThat(responses.done.get(5, TimeUnit.SECONDS)).extracting(ReplaceResponse::getRejected)
+                .containsExactly(false, true, false);
+        assertThat(responses.items.get(0).getText().toStringUtf8()).isEqualTo("*lephan$");
+        assertThat(responses.items.get(2).getText().toStringUtf8()).isEqualTo("*abc$");
+    }
+
+    @Test
+    void testProcessForecast_MapsResponseAndUnsetValues() {
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(new ForecastResponse("Forecast data processed successfully", 15.8, null, 12.5, "2025-02-07"));
+
+        ForecastRpcResponse response = ForecastRpcGrpc.newBlockingStub(channel).processForecast(
+                ForecastRpcRequest.newBuilder().setAddTemperature(true).setAddWindSpeed(true).build());
+
+        assertThat(response.getMaxTemperature()).isEqualTo(15.8);
+        assertThat(response.hasMaxHumidity()).isFalse();
+        assertThat(response.getMaxWindSpeed()).isEqualTo(12.5);
+        assertThat(response.getDate()).isEqualTo("2025-02-07");
+    }
+
+    @Test
+    void testProcessForecast_UpstreamFailure_Unavailable() {
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenThrow(new UpstreamApiException("Failed to fetch forecast data from upstream API"));
+
+        StatusRuntimeException error = catchThrowableOfType(StatusRuntimeException.class,
+                () -> ForecastRpcGrpc.newBlockingStub(channel).processForecast(ForecastRpcRequest.getDefaultInstance()));
+
+        assertThat(error.getStatus().getCode()).isEqualTo(Status.Code.UNAVAILABLE);
+        assertThat(error.getStatus().getDescription()).isEqualTo("Failed to fetch forecast data from upstream API");
+    }
+
+    @Test
+    void testProcessForecasts_Streaming() throws Exception {
+        when(forecastService.processForecast(any(ForecastRequest.class)))
+                .thenReturn(new ForecastResponse("Forecast data processed successfully", null, 87.0, null, "2025-02-07"));
+        Collector<ForecastRpcResponse> responses = new Collector<>();
+        StreamObserver<ForecastRpcRequest> requests = ForecastRpcGrpc.newStub(channel).processForecasts(responses);
+
+        for (int i = 0; i < 3; i++) {
+            requests.onNext(ForecastRpcRequest.newBuilder().setAddHumidity(true).build());
+        }
+        requests.onCompleted();
+
+        assertThat(responses.done.get(5, TimeUnit.SECONDS)).hasSize(3)
+                .allSatisfy(response -> assertThat(response.getMaxHumidity()).isEqualTo(87.0));
+    }
+
+    private static ReplaceRequest request(String text, TextUnit unit) {
+        return ReplaceRequest.newBuilder().setText(ByteString.copyFrom(text, StandardCharsets.UTF_8)).setUnit(unit).build();
+    }
+
+    private static final class Collector<T> implements StreamObserver<T> {
+
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<List<T>> done = new CompletableFuture<>();
+
+        @Override
+        public void onNext(T value) {
+            items.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            done.complete(items);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.AssignmentApplication;
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import com.gler.assignment.services.ForecastService;
+import com.gler.assignment.upstream.ClusterSingleFlight;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Three application contexts, standing in for three replicas, share one H2 database served
+ * over TCP and one Open-Meteo stub.
+ */
+class ClusterSingleFlightIntegrationTest {
+
+    private static final String BODY = "{\"latitude\":52.52,\"longitude\":13.41,\"hourly\":{"
+            + "\"time\":[\"2025-02-07T00:00\",\"2025-02-07T01:00\"],"
+            + "\"temperature_2m\":[10.0,15.8],\"relative_humidity_2m\":[70,87],\"wind_speed_10m\":[8.0,12.5]}}";
+
+    private static final AtomicInteger UPSTREAM_CALLS = new AtomicInteger();
+    private static final List<ConfigurableApplicationContext> NODES = new ArrayList<>();
+
+    private static Server database;
+    private static HttpServer upstream;
+
+    @BeforeAll
+    static void startCluster() throws IOException, SQLException {
+        upstream = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        upstream.createContext("/v1/forecast", exchange -> {
+            UPSTREAM_CALLS.incrementAndGet();
+            byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        upstream.start();
+
+        database = Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-ifNotExists").start();
+        for (int i = 0; i < 3; i++) {
+            NODES.add(new SpringApplicationBuilder(AssignmentApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=jdbc:h2:tcp://localhost:" + database.getPort()
+                                    + "/mem:cluster;DB_CLOSE_DELAY=-1",
+                            "--spring.jpa.show-sql=false",
+                            "--forecast.upstream.base-url=http://localhost:" + upstream.getAddress().getPort()
+                                    + "/v1/forecast",
+                            "--forecast.upstream.cluster.enabled=true",
+                            "--forecast.upstream.cluster.wait-timeout=1s",
+                            "--forecast.upstream.cluster.poll-interval=10ms"));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @AfterAll
+    static void stopCluster() {
+        NODES.forEach(ConfigurableApplicationContext::close);
+        database.stop();
+        upstream.stop(0);
+    }
+
+    private static ClusterSingleFlight singleFlight(int node) {
+        return NODES.get(node).getBean(ClusterSingleFlight.class);
+    }
+
+    private static double fetches(int node, String role) {
+        return NODES.get(node).getBean(MeterRegistry.class)
+                .get("upstream.cluster.fetches").tag("role", role).counter().count();
+    }
+
+    private static HourlySeries series(double temperature) {
+        return new HourlySeries(new double[]{temperature}, null, null);
+    }
+
+    @Test
+    void testConcurrentFetchesOnAllNodes_LoadOnce() throws Exception {
+        UpstreamQuery query = new UpstreamQuery(1.0, 1.0, HourlyVariable.TEMPERATURE_2M.bit());
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(9);
+        try {
+            List<Future<HourlySeries>> results = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                ClusterSingleFlight node = singleFlight(i % 3);
+                results.add(callers.submit(() -> {
+                    start.await();
+                    return node.fetch(query, () -> {
+                        loads.incrementAndGet();
+                        sleep(300);
+                        return series(21.5);
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<HourlySeries> result : results) {
+                assertThat(result.get().temperature2m()).containsExactly(21.5);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void testForecastService_OtherNodeReadsSharedAnswer() {
+        ForecastRequest request = new ForecastRequest(true, true, true);
+        int callsBefore = UPSTREAM_CALLS.get();
+        double followerReadsBefore = fetches(1, "follower");
+
+        ForecastResponse first = NODES.get(0).getBean(ForecastService.class).processForecast(request);
+        ForecastResponse second = NODES.get(1).getBean(ForecastService.class).processForecast(request);
+
+        assertThat(UPSTREAM_CALLS.get() - callsBefore).isEqualTo(1);
+        assertThat(fetches(1, "follower") - followerReadsBefore).isEqualTo(1.0);
+        assertThat(second.getMaxTemperature()).isEqualTo(first.getMaxTemperature()).isEqualTo(15.8);
+        assertThat(second.getMaxWindSpeed()).isEqualTo(12.5);
+    }
+
+    @Test
+    void testExpiredLease_IsTakenOver() {
+        UpstreamQuery query = new UpstreamQuery(2.0, 2.0, HourlyVariable.TEMPERATURE_2M.bit());
+        NODES.get(0).getBean(JdbcTemplate.class).update(
+                "insert into upstream_lease (lease_key, owner, expires_at) values (?, ?, ?)",
+                "2.0,2.0:1", "crashed-node", System.currentTimeMillis() - 1);
+        double leadsBefore = fetches(2, "leader");
+
+        long start = System.nanoTime();
+        HourlySeries series = singleFlight(2).fetch(query, () -> series(7.0));
+
+        assertThat(series.temperature2m()).containsExactly(7.0);
+        assertThat(fetches(2, "leader") - leadsBefore).isEqualTo(1.0);
+        assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+    }
+
+    @Test
+    void testLeaseHeldBySilentNode_FallsBackAfterWaitTimeout() {
+        UpstreamQuery query = new UpstreamQuery(3.0, 3.0, HourlyVariable.TEMPERATURE_2M.bit());
+        NODES.get(0).getBean(JdbcTemplate.class).update(
+                "insert into upstream_lease (lease_key, owner, expires_at) values (?, ?, ?)",
+                "3.0,3.0:1", "stuck-node", System.currentTimeMillis() + 60_000);
+        double fallbacksBefore = fetches(1, "fallback");
+
+        long start = System.nanoTime();
+        HourlySeries series = singleFlight(1).fetch(query, () -> series(3.5));
+
+        assertThat(series.temperature2m()).containsExactly(3.5);
+        assertThat(fetches(1, "fallback") - fallbacksBefore).isEqualTo(1.0);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(1_000_000_000L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.gler.assignment.integration;
+
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts a recording through {@code /actuator/jfr} on the management port, drives the forecast
+ * and text pipelines and reads the pipeline events back from the dump.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "forecast.rate-limit.enabled=false",
+        "management.server.port=0",
+        "management.endpoints.web.exposure.include=jfr",
+        "forecast.jfr.max-duration=1m"
+})
+@DirtiesContext
+class FlightRecordingIntegrationTest {
+
+    private static final String BODY = "{\"latitude\":52.52,\"longitude\":13.41,\"hourly\":{"
+            + "\"time\":[\"2025-02-07T00:00\",\"2025-02-07T01:00\"],"
+            + "\"temperature_2m\":[10.0,15.8],\"relative_humidity_2m\":[70,87],\"wind_speed_10m\":[8.0,12.5]}}";
+
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("forecast.upstream.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/v1/forecast");
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1/forecast", exchange -> {
+                byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void testRecording_CapturesPipelineEvents() throws IOException {
+        assertThat(restTemplate.getForEntity(jfr(), byte[].class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+
+        ResponseEntity<Map> started = restTemplate.postForEntity(jfr(),
+                json("{\"configuration\":\"default\",\"threshold\":\"0ms\"}"), Map.class);
+        assertThat(started.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(started.getBody()).containsEntry("state", "RUNNING");
+        assertThat(restTemplate.postForEntity(jfr(), json("{}"), Map.class).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+
+        assertThat(restTemplate.postForEntity("/api/v1/forcast",
+                json("{\"addTemprature\":true,\"addHumidity\":false,\"addWindSpeed\":true}"), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+        HttpHeaders textHeaders = new HttpHeaders();
+        textHeaders.setContentType(MediaType.TEXT_PLAIN);
+        assertThat(restTemplate.postForEntity("/", new HttpEntity<>("elephant", textHeaders), String.class)
+                .getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<byte[]> dump = restTemplate.getForEntity(jfr(), byte[].class);
+        assertThat(dump.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Path file = Files.createTempFile("recording", ".jfr");
+        try {
+            Files.write(file, dump.getBody());
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("com.gler.assignment."))
+                    .toList();
+
+            RecordedEvent fetch = single(events, "com.gler.assignment.UpstreamFetch");
+            assertThat(fetch.getInt("status")).isEqualTo(200);
+            assertThat(fetch.getLong("contentLength")).isEqualTo(BODY.length());
+            assertThat(fetch.getString("urlKey"))
+                    .isEqualTo("localhost/v1/forecast?latitude=52.52&longitude=13.41&hourly=temperature_2m,wind_speed_10m");
+            assertThat(single(events, "com.gler.assignment.Deserialization").getLong("bytes"))
+                    .isEqualTo(BODY.length());
+            RecordedEvent aggregation = single(events, "com.gler.assignment.Aggregation");
+            assertThat(aggregation.getInt("samples")).isEqualTo(4);
+            assertThat(aggregation.getString("metrics")).isEqualTo("temperature_2m,wind_speed_10m");
+            assertThat(events).filteredOn(event -> event.getEventType().getName().equals("com.gler.assignment.Repository"))
+                    .extracting(event -> event.getString("operation"))
+                    .containsExactly("load", "save");
+            RecordedEvent transform = single(events, "com.gler.assignment.TextTransform");
+            assertThat(transform.getString("operation")).isEqualTo("replace");
+            assertThat(transform.getLong("inputBytes")).isEqualTo(8);
+            assertThat(transform.getBoolean("rejected")).isFalse();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        assertThat(restTemplate.exchange(jfr(), HttpMethod.DELETE, null, Void.class).getStatusCode())
+                .isEqualTo(HttpStatus.NO_CONTENT);
+        assertThat(restTemplate.getForEntity(jfr(), byte[].class).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void testRecording_NotServedOnApplicationPort() {
+        assertThat(restTemplate.postForEntity("/actuator/jfr", json("{}"), String.class).getStatusCode().value())
+                .isGreaterThanOrEqualTo(400);
+    }
+
+    @Test
+    void testRecording_DurationCappedAtMaxDuration() {
+        try {
+            ResponseEntity<Map> started = restTemplate.postForEntity(jfr(),
+                    json("{\"configuration\":\"default\",\"duration\":\"2h\"}"), Map.class);
+            assertThat(started.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(started.getBody().get("duration")).hasToString("PT1M");
+        } finally {
+            restTemplate.delete(jfr());
+        }
+    }
+
+    private String jfr() {
+        return "http://localhost:" + managementPort + "/actuator/jfr";
+    }
+
+    private static HttpEntity<String> json(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertThat(matching).as(name).hasSize(1);
+        return matching.get(0);
+    }
+}
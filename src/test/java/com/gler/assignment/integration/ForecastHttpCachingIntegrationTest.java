@@ -0,0 +1,189 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.cache.ForecastResponseCache;
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.dto.OpenMeteoResponse;
+import com.gler.assignment.repositories.ForecastRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ForecastHttpCachingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
+    @Autowired
+    private ForecastResponseCache forecastResponseCache;
+
+    @SpyBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private ForecastRepository forecastRepository;
+
+    @MockBean
+    @SuppressWarnings("removal")  // Suppress deprecation warning
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() {
+        forecastRepository.deleteAll();
+        upstreamForecastCache.clear();
+
+        OpenMeteoResponse apiResponse = new OpenMeteoResponse();
+        OpenMeteoResponse.Hourly hourly = new OpenMeteoResponse.Hourly();
+        hourly.setTemperature2m(Arrays.asList(10.0, 15.8, 11.0));
+        hourly.setRelativeHumidity2m(Arrays.asList(70, 87, 72));
+        hourly.setWindSpeed10m(Arrays.asList(8.0, 12.5, 7.5));
+        apiResponse.setHourly(hourly);
+        when(restTemplate.getForObject(anyString(), eq(OpenMeteoResponse.class))).thenReturn(apiResponse);
+        clearInvocations(forecastRepository);
+    }
+
+    @Test
+    void testConditionalGet_UnchangedData_Returns304WithoutTouchingRepository() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", startsWith("max-age=")))
+                .andExpect(jsonPath("$.maxTemperature").value(15.8))
+                .andReturn().getResponse().getHeader("ETag");
+        clearInvocations(forecastRepository);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+        verifyNoInteractions(forecastRepository);
+    }
+
+    @Test
+    void testConditionalGet_RefreshedData_ReturnsNewBodyAndTag() throws Exception {
+        // Arrange
+        String etag = mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "false")
+                        .param("addWindSpeed", "false"))
+                .andReturn().getResponse().getHeader("ETag");
+        upstreamForecastCache.clear();
+
+        // Act
+        String refreshed = mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "false")
+                        .param("addWindSpeed", "false")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxTemperature").value(15.8))
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Assert
+        assertThat(refreshed).isNotEqualTo(etag);
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+    }
+
+    @Test
+    void testConditionalGet_SubsetOfCachedVariables_SharesDataVersion() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "false")
+                        .param("addHumidity", "false")
+                        .param("addWindSpeed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.maxWindSpeed").value(12.5));
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+    }
+
+    @Test
+    void testGet_RepeatedRequest_ServedFromResponseBytes() throws Exception {
+        // Arrange: the first call fetches upstream, the second computes and stores the answer.
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/forcast")
+                            .param("addTemprature", "true")
+                            .param("addHumidity", "true")
+                            .param("addWindSpeed", "false"))
+                    .andExpect(status().isOk());
+        }
+        assertThat(forecastResponseCache.size()).isEqualTo(1);
+        clearInvocations(forecastRepository);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "true")
+                        .param("addWindSpeed", "false"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.maxTemperature").value(15.8))
+                .andExpect(jsonPath("$.maxHumidity").value(87.0))
+                .andExpect(jsonPath("$.maxWindSpeed").isEmpty());
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+        verifyNoInteractions(forecastRepository);
+    }
+
+    @Test
+    void testGet_UpstreamRefreshed_DropsCachedResponseBytes() throws Exception {
+        // Arrange
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/forcast")
+                            .param("addTemprature", "true")
+                            .param("addHumidity", "false")
+                            .param("addWindSpeed", "false"))
+                    .andExpect(status().isOk());
+        }
+        assertThat(forecastResponseCache.size()).isEqualTo(1);
+
+        // Act
+        upstreamForecastCache.clear();
+
+        // Assert
+        assertThat(forecastResponseCache.size()).isZero();
+        mockMvc.perform(get("/api/v1/forcast")
+                        .param("addTemprature", "true")
+                        .param("addHumidity", "false")
+                        .param("addWindSpeed", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.maxTemperature").value(15.8));
+        verify(restTemplate, times(2)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+    }
+}
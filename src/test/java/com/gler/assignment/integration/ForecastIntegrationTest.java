@@ -1,6 +1,7 @@
 package com.gler.assignment.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gler.assignment.cache.UpstreamForecastCache;
 import com.gler.assignment.dto.ForecastRequest;
 import com.gler.assignment.dto.OpenMeteoResponse;
 import com.gler.assignment.models.ForecastEntity;
@@ -23,6 +24,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,18 +43,25 @@ class ForecastIntegrationTest {
     @Autowired
     private ForecastRepository forecastRepository;
 
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
     @MockBean
     @SuppressWarnings("removal")  // Suppress deprecation warning
     private RestTemplate restTemplate;
 
     private static final String API_URL =
-            "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&current=temperature_2m,wind_speed_10m&hourly=temperature_2m,relative_humidity_2m,wind_speed_10m";
+            "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&hourly=temperature_2m,relative_humidity_2m,wind_speed_10m";
+
+    private static final String TEMPERATURE_AND_WIND_SPEED_URL =
+            "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&hourly=temperature_2m,wind_speed_10m";
 
     private OpenMeteoResponse mockApiResponse;
 
     @BeforeEach
     void setUp() {
         forecastRepository.deleteAll();
+        upstreamForecastCache.clear();
 
         // Create mock API response
         mockApiResponse = new OpenMeteoResponse();
@@ -96,7 +106,7 @@ class ForecastIntegrationTest {
     void testEndToEndFlow_PartialDataRequest() throws Exception {
         // Arrange
         ForecastRequest request = new ForecastRequest(true, false, true);
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+        when(restTemplate.getForObject(eq(TEMPERATURE_AND_WIND_SPEED_URL), eq(OpenMeteoResponse.class)))
                 .thenReturn(mockApiResponse);
 
         // Act & Assert
@@ -204,8 +214,6 @@ class ForecastIntegrationTest {
     void testEndToEndFlow_AllParametersFalse() throws Exception {
         // Arrange
         ForecastRequest request = new ForecastRequest(false, false, false);
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
-                .thenReturn(mockApiResponse);
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/forcast")
@@ -216,6 +224,9 @@ class ForecastIntegrationTest {
                 .andExpect(jsonPath("$.maxHumidity").isEmpty())
                 .andExpect(jsonPath("$.maxWindSpeed").isEmpty());
 
+        // No variables requested, so the upstream is never called
+        verify(restTemplate, never()).getForObject(anyString(), eq(OpenMeteoResponse.class));
+
         // Verify database record with null values
         Optional<ForecastEntity> savedEntity = forecastRepository.findByForecastDate(LocalDate.now());
         assertThat(savedEntity).isPresent();
@@ -231,7 +242,7 @@ class ForecastIntegrationTest {
         ForecastRequest request2 = new ForecastRequest(false, true, false);
         ForecastRequest request3 = new ForecastRequest(false, false, true);
 
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+        when(restTemplate.getForObject(anyString(), eq(OpenMeteoResponse.class)))
                 .thenReturn(mockApiResponse);
 
         // Act - First request (temperature only)
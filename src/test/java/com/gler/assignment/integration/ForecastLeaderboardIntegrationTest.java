@@ -0,0 +1,142 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.backfill.BackfillChunkStoredEvent;
+import com.gler.assignment.backfill.DailyMaxima;
+import com.gler.assignment.dto.LeaderboardEntry;
+import com.gler.assignment.leaderboard.ForecastLeaderboard;
+import com.gler.assignment.leaderboard.LeaderboardMetric;
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.repositories.ForecastRepository;
+import com.gler.assignment.services.ForecastStoredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boards of two locations each, loaded from {@code forecast_data} and then kept current
+ * through the events of the forecast service and the backfill.
+ */
+@SpringBootTest(properties = {
+        "forecast.leaderboard.capacity=2",
+        "spring.datasource.url=jdbc:h2:mem:leaderboarddb;DB_CLOSE_DELAY=-1"
+})
+class ForecastLeaderboardIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ForecastLeaderboard forecastLeaderboard;
+
+    @Autowired
+    private ForecastRepository forecastRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        forecastRepository.deleteAll();
+        forecastRepository.saveAll(List.of(
+                row(TODAY, null, null, 12.0),
+                row(TODAY, 48.14, 11.58, 20.0),
+                row(TODAY, 53.55, 9.99, 35.0),
+                row(TODAY.minusDays(1), 48.14, 11.58, 40.0),
+                row(TODAY.minusDays(30), 50.11, 8.68, 99.0)));
+        forecastLeaderboard.rebuild();
+        forecastLeaderboard.flush().join();
+    }
+
+    @Test
+    void testRebuild_LoadsTopLocationsOfTheRetentionWindow() {
+        // Act
+        List<LeaderboardEntry> today = forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY, 10);
+        List<LeaderboardEntry> week = forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED,
+                TODAY.minusDays(6), TODAY, 10);
+
+        // Assert: the configured location is shown with the upstream coordinates
+        assertThat(today).containsExactly(
+                new LeaderboardEntry(53.55, 9.99, 35.0),
+                new LeaderboardEntry(48.14, 11.58, 20.0));
+        assertThat(week).containsExactly(
+                new LeaderboardEntry(48.14, 11.58, 40.0),
+                new LeaderboardEntry(53.55, 9.99, 35.0));
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY.minusDays(30), 10)).isEmpty();
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.TEMPERATURE, TODAY, 10)).isEmpty();
+    }
+
+    @Test
+    void testEvents_UpdateBoardsInPlace() {
+        // Act
+        eventPublisher.publishEvent(new ForecastStoredEvent(TODAY, 3.5, null, 50.0));
+        eventPublisher.publishEvent(new BackfillChunkStoredEvent(40.42, -3.70, List.of(
+                new DailyMaxima(TODAY, 30.0, null, 1.0))));
+        forecastLeaderboard.flush().join();
+
+        // Assert
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY, 1))
+                .containsExactly(new LeaderboardEntry(52.52, 13.41, 50.0));
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.TEMPERATURE, TODAY, 10)).containsExactly(
+                new LeaderboardEntry(40.42, -3.70, 30.0),
+                new LeaderboardEntry(52.52, 13.41, 3.5));
+    }
+
+    @Test
+    void testLoweredValue_ReloadsBoardFromTheTable() {
+        // Arrange: Hamburg's stored maximum drops below the configured location's
+        ForecastEntity hamburg = forecastRepository.findAll().stream()
+                .filter(row -> row.getLatitude() != null && row.getLatitude() == 53.55)
+                .findFirst().orElseThrow();
+        hamburg.setMaxWindSpeed(5.0);
+        forecastRepository.save(hamburg);
+        double repairsBefore = meterRegistry.get("forecast.leaderboard.repairs").counter().count();
+
+        // Act
+        eventPublisher.publishEvent(new BackfillChunkStoredEvent(53.55, 9.99, List.of(
+                new DailyMaxima(TODAY, null, null, 5.0))));
+        forecastLeaderboard.flush().join();
+
+        // Assert: the location that was turned away is back on the board
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY, 10)).containsExactly(
+                new LeaderboardEntry(48.14, 11.58, 20.0),
+                new LeaderboardEntry(52.52, 13.41, 12.0));
+        assertThat(meterRegistry.get("forecast.leaderboard.repairs").counter().count())
+                .isEqualTo(repairsBefore + 1);
+    }
+
+    @Test
+    void testReconcile_PicksUpRowsWrittenWithoutEvents() {
+        // Arrange: another process stores Madrid; no event reaches this one
+        forecastRepository.save(row(TODAY, 40.42, -3.70, 60.0));
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY, 1))
+                .containsExactly(new LeaderboardEntry(53.55, 9.99, 35.0));
+
+        // Act
+        forecastLeaderboard.reconcile();
+        forecastLeaderboard.flush().join();
+
+        // Assert
+        assertThat(forecastLeaderboard.top(LeaderboardMetric.WIND_SPEED, TODAY, 10)).containsExactly(
+                new LeaderboardEntry(40.42, -3.70, 60.0),
+                new LeaderboardEntry(53.55, 9.99, 35.0));
+    }
+
+    private static ForecastEntity row(LocalDate date, Double latitude, Double longitude, double windSpeed) {
+        return ForecastEntity.builder()
+                .forecastDate(date)
+                .latitude(latitude)
+                .longitude(longitude)
+                .maxWindSpeed(windSpeed)
+                .build();
+    }
+}
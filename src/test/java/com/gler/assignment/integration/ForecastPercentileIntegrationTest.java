@@ -0,0 +1,126 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.PercentileQuery;
+import com.gler.assignment.dto.PercentileSummary;
+import com.gler.assignment.models.ForecastSketch;
+import com.gler.assignment.repositories.ForecastSketchRepository;
+import com.gler.assignment.services.ForecastPercentileService;
+import com.gler.assignment.sketch.TDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Stores daily sketches for the configured location and for a second one, then merges
+ * them over date ranges through the repository's streaming queries.
+ */
+@SpringBootTest
+class ForecastPercentileIntegrationTest {
+
+    private static final LocalDate JAN_1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate JAN_2 = LocalDate.of(2025, 1, 2);
+    private static final List<Double> MEDIAN = List.of(0.5);
+
+    @Autowired
+    private ForecastPercentileService forecastPercentileService;
+
+    @Autowired
+    private ForecastSketchRepository forecastSketchRepository;
+
+    @BeforeEach
+    void setUp() {
+        forecastSketchRepository.deleteAll();
+    }
+
+    @Test
+    void testFindPercentiles_MergesDaysOfTheConfiguredLocation() {
+        // Arrange: the second record of a day replaces the first
+        forecastPercentileService.recordSketches(Map.of(JAN_1, new HourlySeries(new double[]{9, 9, 9}, null, null)));
+        forecastPercentileService.recordSketches(Map.of(JAN_1, new HourlySeries(new double[]{1, 2, 3}, null, new double[]{5})));
+        forecastPercentileService.recordSketches(Map.of(JAN_2, new HourlySeries(new double[]{4, 5, Double.NaN}, null, null)));
+
+        // Act
+        PercentileSummary summary = forecastPercentileService.findPercentiles(new PercentileQuery(
+                HourlyVariable.TEMPERATURE_2M, JAN_1, JAN_2, List.of(0.0, 0.5, 1.0)));
+
+        // Assert
+        assertThat(forecastSketchRepository.count()).isEqualTo(3);
+        assertThat(summary.sketches()).isEqualTo(2);
+        assertThat(summary.samples()).isEqualTo(5);
+        assertThat(summary.min()).isEqualTo(1.0);
+        assertThat(summary.max()).isEqualTo(5.0);
+        assertThat(summary.percentiles()).extracting(PercentileSummary.Percentile::value)
+                .containsExactly(1.0, 3.0, 5.0);
+    }
+
+    @Test
+    void testFindPercentiles_IgnoresSketchesOfOtherLocations() {
+        // Arrange
+        forecastPercentileService.recordSketches(Map.of(JAN_1, new HourlySeries(null, null, new double[]{2, 4})));
+        forecastSketchRepository.save(locationSketch(JAN_1, new double[]{10, 12}));
+
+        // Act
+        PercentileSummary summary = forecastPercentileService.findPercentiles(new PercentileQuery(
+                HourlyVariable.WIND_SPEED_10M, JAN_1, JAN_2, MEDIAN));
+
+        // Assert
+        assertThat(summary.sketches()).isEqualTo(1);
+        assertThat(summary.samples()).isEqualTo(2);
+        assertThat(summary.percentiles().get(0).value()).isEqualTo(3.0);
+    }
+
+    @Test
+    void testRecordSketches_ConcurrentWritersForSameDay_KeepOneRowPerVariable() throws Exception {
+        // Arrange
+        int writers = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < writers; i++) {
+            double value = i;
+            done.add(pool.submit(() -> {
+                start.await();
+                forecastPercentileService.recordSketches(Map.of(JAN_1,
+                        new HourlySeries(new double[]{value, value + 1}, new double[]{value}, null)));
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : done) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Assert
+        assertThat(forecastSketchRepository.count()).isEqualTo(2);
+        assertThat(forecastPercentileService.findPercentiles(new PercentileQuery(
+                HourlyVariable.TEMPERATURE_2M, JAN_1, JAN_1, MEDIAN)).samples()).isEqualTo(2);
+    }
+
+    private static ForecastSketch locationSketch(LocalDate date, double[] values) {
+        return ForecastSketch.builder()
+                .forecastDate(date)
+                .latitude(48.14)
+                .longitude(11.58)
+                .variable(HourlyVariable.WIND_SPEED_10M.apiName())
+                .sketch(TDigest.of(values).toBytes())
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.backfill.BackfillChunkStoredEvent;
+import com.gler.assignment.backfill.DailyMaxima;
+import com.gler.assignment.dto.LocationForecast;
+import com.gler.assignment.dto.NearestForecast;
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.repositories.ForecastRepository;
+import com.gler.assignment.services.ForecastStoredEvent;
+import com.gler.assignment.spatial.ForecastSpatialIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads the spatial index from {@code forecast_data} and keeps it current through the events
+ * of the forecast service and the backfill.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:spatialdb;DB_CLOSE_DELAY=-1")
+class ForecastSpatialIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private ForecastSpatialIndex forecastSpatialIndex;
+
+    @Autowired
+    private ForecastRepository forecastRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        forecastRepository.deleteAll();
+        forecastRepository.saveAll(List.of(
+                row(TODAY, null, null, 12.0),
+                row(TODAY, 48.14, 11.58, 20.0),
+                row(TODAY, 40.42, -3.70, 30.0),
+                row(TODAY.minusDays(30), 50.11, 8.68, 99.0)));
+        forecastSpatialIndex.rebuild();
+        forecastSpatialIndex.flush().join();
+    }
+
+    @Test
+    void testRebuild_IndexesStoredRowsOfTheRetentionWindow() {
+        // Act: a viewport over Germany
+        List<LocationForecast> germany = forecastSpatialIndex.within(TODAY, 47, 5, 55, 15, 100).forecasts();
+        NearestForecast nearFrankfurt = forecastSpatialIndex.nearest(TODAY, 50.11, 8.68).orElseThrow();
+
+        // Assert: the configured location is indexed at the upstream coordinates
+        assertThat(germany).containsExactlyInAnyOrder(
+                new LocationForecast(52.52, 13.41, null, null, 12.0),
+                new LocationForecast(48.14, 11.58, null, null, 20.0));
+        assertThat(nearFrankfurt.forecast().latitude()).isEqualTo(48.14);
+        assertThat(forecastSpatialIndex.nearest(TODAY.minusDays(30), 50.11, 8.68)).isEmpty();
+    }
+
+    @Test
+    void testEvents_UpdateTheIndex() {
+        // Act
+        eventPublisher.publishEvent(new ForecastStoredEvent(TODAY, 3.5, 80.0, 14.0));
+        eventPublisher.publishEvent(new BackfillChunkStoredEvent(48.14, 11.58, List.of(
+                new DailyMaxima(TODAY, 9.0, null, null))));
+        eventPublisher.publishEvent(new BackfillChunkStoredEvent(53.55, 9.99, List.of(
+                new DailyMaxima(TODAY, 6.0, null, 35.0))));
+        forecastSpatialIndex.flush().join();
+
+        // Assert: a null backfilled maximum keeps the indexed value
+        assertThat(forecastSpatialIndex.within(TODAY, 47, 5, 55, 15, 100).forecasts()).containsExactlyInAnyOrder(
+                new LocationForecast(52.52, 13.41, 3.5, 80.0, 14.0),
+                new LocationForecast(48.14, 11.58, 9.0, null, 20.0),
+                new LocationForecast(53.55, 9.99, 6.0, null, 35.0));
+        assertThat(forecastSpatialIndex.nearest(TODAY, 53.0, 10.0).orElseThrow().forecast().latitude())
+                .isEqualTo(53.55);
+    }
+
+    @Test
+    void testReconcile_PicksUpRowsWrittenWithoutEvents() {
+        // Arrange: another process stores Frankfurt; no event reaches this one
+        forecastRepository.save(row(TODAY, 50.11, 8.68, 25.0));
+        assertThat(forecastSpatialIndex.nearest(TODAY, 50.11, 8.68).orElseThrow().distanceKm()).isPositive();
+
+        // Act
+        forecastSpatialIndex.reconcile();
+        forecastSpatialIndex.flush().join();
+
+        // Assert
+        NearestForecast frankfurt = forecastSpatialIndex.nearest(TODAY, 50.11, 8.68).orElseThrow();
+        assertThat(frankfurt.forecast()).isEqualTo(new LocationForecast(50.11, 8.68, null, null, 25.0));
+        assertThat(frankfurt.distanceKm()).isZero();
+    }
+
+    private static ForecastEntity row(LocalDate date, Double latitude, Double longitude, double windSpeed) {
+        return ForecastEntity.builder()
+                .forecastDate(date)
+                .latitude(latitude)
+                .longitude(longitude)
+                .maxWindSpeed(windSpeed)
+                .build();
+    }
+}
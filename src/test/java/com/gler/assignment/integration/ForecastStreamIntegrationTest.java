@@ -0,0 +1,82 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.services.ForecastStoredEvent;
+import com.gler.assignment.stream.ForecastUpdateBroadcaster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "forecast.stream.max-subscribers=1")
+@DirtiesContext
+class ForecastStreamIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ForecastUpdateBroadcaster broadcaster;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private HttpRequest streamRequest() {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/forcast/stream"))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @Test
+    void testStream_PushesStoredForecastAndRefusesSubscribersBeyondCap() throws Exception {
+        HttpResponse<InputStream> response = client.send(streamRequest(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+        assertThat(client.send(streamRequest(), HttpResponse.BodyHandlers.discarding()).statusCode())
+                .isEqualTo(503);
+
+        eventPublisher.publishEvent(new ForecastStoredEvent(LocalDate.of(2025, 2, 7), 15.8, 87.0, 12.5));
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            List<String> lines = readEvent(reader);
+            assertThat(lines).containsExactly(":heartbeat");
+            lines = readEvent(reader);
+            assertThat(lines).contains("event:forecast",
+                    "data:{\"date\":\"2025-02-07\",\"maxTemperature\":15.8,\"maxHumidity\":87.0,\"maxWindSpeed\":12.5}");
+            assertThat(lines).anySatisfy(line -> assertThat(line).startsWith("id:"));
+        }
+        assertThat(broadcaster.subscriberCount()).isLessThanOrEqualTo(1);
+    }
+
+    private static List<String> readEvent(BufferedReader reader) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,196 @@
+package com.gler.assignment.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends a forecast request with every trace sampled and checks that the handler, the
+ * upstream fetch and the repository calls form one trace whose context reaches the
+ * Open-Meteo stub. The upstream attempt runs on a hedge thread. Span names are the
+ * contextual names in the kebab case the OpenTelemetry bridge gives them.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "forecast.rate-limit.enabled=false",
+        "forecast.upstream.hedge.enabled=true",
+        "forecast.upstream.hedge.initial-delay=10s",
+        "management.tracing.sampling.probability=1.0"
+})
+@AutoConfigureObservability(metrics = false)
+@DirtiesContext
+class ForecastTracingIntegrationTest {
+
+    private static final String BODY = "{\"latitude\":52.52,\"longitude\":13.41,\"hourly\":{"
+            + "\"time\":[\"2025-02-07T00:00\",\"2025-02-07T01:00\"],"
+            + "\"temperature_2m\":[10.0,15.8],\"relative_humidity_2m\":[70,87],\"wind_speed_10m\":[8.0,12.5]}}";
+
+    private static final List<String> TRACEPARENTS = new CopyOnWriteArrayList<>();
+    private static final HttpServer STUB = startStub();
+    private static final Path SPAN_FILE = tempFile();
+
+    @TestConfiguration
+    static class InMemoryExport {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("forecast.upstream.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/v1/forecast");
+        registry.add("forecast.tracing.export-file", SPAN_FILE::toString);
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1/forecast", exchange -> {
+                TRACEPARENTS.add(exchange.getRequestHeaders().getFirst("traceparent"));
+                byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path tempFile() {
+        try {
+            Path file = Files.createTempFile("spans", ".jsonl");
+            file.toFile().deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @Test
+    void testGetForecast_SpansShareOneTraceWithTheUpstream() throws Exception {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/v1/forcast", new HttpEntity<>(
+                "{\"addTemprature\":true,\"addHumidity\":true,\"addWindSpeed\":false}", headers), String.class);
+        List<SpanData> spans = awaitSpan("http post /api/v1/forcast");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        SpanData server = span(spans, "http post /api/v1/forcast");
+        SpanData handler = span(spans, "forcast-controller.get-forecast");
+        SpanData fetch = span(spans, "call-open-meteo-api");
+        SpanData client = span(spans, "http get");
+        SpanData load = span(spans, "forecast-repository.find-by-forecast-date");
+        SpanData save = span(spans, "forecast-repository.save");
+
+        assertThat(List.of(handler, fetch, client, load, save))
+                .allSatisfy(span -> assertThat(span.getTraceId()).isEqualTo(server.getTraceId()));
+        assertThat(handler.getParentSpanId()).isEqualTo(server.getSpanId());
+        assertThat(fetch.getParentSpanId()).isEqualTo(handler.getSpanId());
+        assertThat(client.getParentSpanId()).isEqualTo(fetch.getSpanId());
+        assertThat(load.getParentSpanId()).isEqualTo(handler.getSpanId());
+        assertThat(save.getParentSpanId()).isEqualTo(handler.getSpanId());
+
+        // The stub sees the client span as the parent of whatever it would record.
+        assertThat(TRACEPARENTS).containsExactly(
+                "00-" + client.getTraceId() + "-" + client.getSpanId() + "-01");
+
+        // The file exporter receives the same spans.
+        List<JsonNode> lines = Files.readAllLines(SPAN_FILE).stream()
+                .map(this::parse)
+                .toList();
+        assertThat(lines).anySatisfy(line -> {
+            assertThat(line.get("name").asText()).isEqualTo("call-open-meteo-api");
+            assertThat(line.get("traceId").asText()).isEqualTo(fetch.getTraceId());
+            assertThat(line.get("parentSpanId").asText()).isEqualTo(handler.getSpanId());
+            assertThat(line.get("attributes").get("hourly").asText()).contains("temperature_2m");
+        });
+    }
+
+    private List<SpanData> awaitSpan(String name) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            // The server span ends after the response is written, so it may lag the client.
+            tracerProvider.forceFlush().join(1, TimeUnit.SECONDS);
+            List<SpanData> spans = spanExporter.getFinishedSpanItems();
+            if (spans.stream().anyMatch(span -> span.getName().equals(name))) {
+                return spans;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No span named " + name);
+    }
+
+    private static SpanData span(List<SpanData> spans, String name) {
+        List<SpanData> named = spans.stream().filter(span -> span.getName().equals(name)).toList();
+        assertThat(named).as(name + " in " + spans.stream().map(SpanData::getName).toList()).hasSize(1);
+        return named.get(0);
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.services.ForecastService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the forecast service against a local Open-Meteo stub with bimodal latency: every
+ * other request stalls for seconds, the rest answer in a few milliseconds.
+ */
+@SpringBootTest(properties = {
+        "forecast.upstream.hedge.enabled=true",
+        "forecast.upstream.hedge.initial-delay=200ms",
+        "forecast.upstream.budget.ratio=1"
+})
+class HedgedUpstreamIntegrationTest {
+
+    private static final String BODY = "{\"latitude\":52.52,\"longitude\":13.41,\"hourly\":{"
+            + "\"time\":[\"2025-02-07T00:00\",\"2025-02-07T01:00\"],"
+            + "\"temperature_2m\":[10.0,15.8],\"relative_humidity_2m\":[70,87],\"wind_speed_10m\":[8.0,12.5]}}";
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private ForecastService forecastService;
+
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("forecast.upstream.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/v1/forecast");
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/forecast", exchange -> {
+                boolean slow = REQUESTS.getAndIncrement() % 2 == 0;
+                try {
+                    Thread.sleep(slow ? 3_000 : 5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                try (OutputStream out = exchange.getResponseBody()) {
+                    exchange.sendResponseHeaders(200, body.length);
+                    out.write(body);
+                } catch (IOException e) {
+                    // The client gave up on this attempt.
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        // Warm up the HTTP client on a fast slot, so the first attempt is sent before the hedge.
+        REQUESTS.set(1);
+        forecastService.processForecast(new ForecastRequest(true, false, false));
+        upstreamForecastCache.clear();
+        REQUESTS.set(0);
+    }
+
+    @Test
+    void testProcessForecast_SlowFirstAttempt_AnsweredByHedge() {
+        // Arrange
+        double wonBefore = meterRegistry.get("upstream.hedge.requests").tag("outcome", "won").counter().count();
+
+        // Act
+        long start = System.nanoTime();
+        ForecastResponse response = forecastService.processForecast(new ForecastRequest(true, true, true));
+        long elapsed = System.nanoTime() - start;
+
+        // Assert
+        assertThat(response.getMaxTemperature()).isEqualTo(15.8);
+        assertThat(elapsed).isLessThan(TimeUnit.MILLISECONDS.toNanos(1_500));
+        assertThat(REQUESTS.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("upstream.hedge.requests").tag("outcome", "won").counter().count())
+                .isEqualTo(wonBefore + 1);
+    }
+
+    @Test
+    void testProcessForecast_FastFirstAttempt_SendsSingleRequest() {
+        // Arrange: skip the slow slot so the first attempt is fast.
+        REQUESTS.set(1);
+
+        // Act
+        ForecastResponse response = forecastService.processForecast(new ForecastRequest(false, true, false));
+
+        // Assert
+        assertThat(response.getMaxHumidity()).isEqualTo(87.0);
+        assertThat(REQUESTS.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gler.assignment.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "forecast.rate-limit.endpoints.forecast.permits-per-second=0.1",
+        "forecast.rate-limit.endpoints.forecast.burst=2",
+        "forecast.rate-limit.endpoints.text-replace.permits-per-second=0.1",
+        "forecast.rate-limit.endpoints.text-replace.burst=1"
+})
+@AutoConfigureMockMvc
+class RateLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testRateLimit_OverBurst_Returns429WithRetryAfter() throws Exception {
+        // Arrange
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/forcast/history")
+                            .with(request -> { request.setRemoteAddr("10.0.0.1"); return request; })
+                            .param("from", "2025-02-01")
+                            .param("to", "2025-02-07"))
+                    .andExpect(status().isOk());
+        }
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .with(request -> { request.setRemoteAddr("10.0.0.1"); return request; })
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-02-07"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "10"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.path").value("/api/v1/forcast/history"));
+
+        assertThat(meterRegistry.get("rate.limit.requests").tag("endpoint", "forecast").tag("result", "rejected")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testRateLimit_EndpointsAndClients_AreLimitedSeparately() throws Exception {
+        // Arrange
+        mockMvc.perform(get("/")
+                        .with(request -> { request.setRemoteAddr("10.0.0.2"); return request; })
+                        .param("text", "abc"))
+                .andExpect(status().isOk());
+
+        // Act & Assert
+        mockMvc.perform(get("/")
+                        .with(request -> { request.setRemoteAddr("10.0.0.2"); return request; })
+                        .param("text", "abc"))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/")
+                        .with(request -> { request.setRemoteAddr("10.0.0.3"); return request; })
+                        .param("text", "abc"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/forcast/history")
+                        .with(request -> { request.setRemoteAddr("10.0.0.2"); return request; })
+                        .param("from", "2025-02-01")
+                        .param("to", "2025-02-07"))
+                .andExpect(status().isOk());
+    }
+}
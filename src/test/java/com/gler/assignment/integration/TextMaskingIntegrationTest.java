@@ -0,0 +1,134 @@
+package com.gler.assignment.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "text.masking.rules[0].pattern=password",
+        "forecast.rate-limit.enabled=false",
+        "management.endpoints.web.exposure.include=masking"
+})
+@AutoConfigureMockMvc
+class TextMaskingIntegrationTest {
+
+    private static final String RULES_A = "[{\"pattern\":\"alpha\",\"replacement\":\"A\"},{\"pattern\":\"beta\",\"replacement\":\"A\"}]";
+    private static final String RULES_B = "[{\"pattern\":\"alpha\",\"replacement\":\"B\"},{\"pattern\":\"beta\",\"replacement\":\"B\"}]";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @AfterEach
+    void restoreRules() throws Exception {
+        putRules("[{\"pattern\":\"password\"}]");
+    }
+
+    @Test
+    void mask_EndToEnd_ConfiguredRules() throws Exception {
+        assertThat(mask("my password is hunter2")).isEqualTo("my ******** is hunter2");
+    }
+
+    @Test
+    void mask_EndToEnd_RulesReplacedAtRuntime() throws Exception {
+        putRules("[{\"pattern\":\"hunter2\",\"replacement\":\"[REDACTED]\"},{\"pattern\":\"Grüße\"}]");
+
+        assertThat(mask("my password is hunter2, Grüße")).isEqualTo("my password is [REDACTED], *****");
+    }
+
+    @Test
+    void mask_EndToEnd_EmptyPatternRejected_PreviousRulesKept() throws Exception {
+        mockMvc.perform(post("/actuator/masking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("[{\"pattern\":\"\"}]")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/actuator/masking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body("[{\"pattern\":")))
+                .andExpect(status().isBadRequest());
+
+        assertThat(mask("password")).isEqualTo("********");
+    }
+
+    @Test
+    void mask_PublicRulesEndpointRemoved() throws Exception {
+        mockMvc.perform(put("/mask/rules")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isGreaterThanOrEqualTo(400));
+
+        assertThat(mask("password")).isEqualTo("********");
+    }
+
+    @Test
+    void mask_EndToEnd_HotSwap_RequestsSeeOneRuleSetOrTheOther() throws Exception {
+        putRules(RULES_A);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        List<Future<Set<String>>> seen = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            seen.add(readers.submit(() -> {
+                Set<String> results = new HashSet<>();
+                while (running.get()) {
+                    results.add(mask("alpha beta"));
+                }
+                return results;
+            }));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            putRules(i % 2 == 0 ? RULES_B : RULES_A);
+        }
+        running.set(false);
+
+        for (Future<Set<String>> results : seen) {
+            assertThat(results.get()).isSubsetOf("A A", "B B");
+        }
+        readers.shutdown();
+    }
+
+    private void putRules(String json) throws Exception {
+        mockMvc.perform(post("/actuator/masking")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body(json)))
+                .andExpect(status().isNoContent());
+    }
+
+    private String body(String rules) throws Exception {
+        return objectMapper.writeValueAsString(Map.of("rules", rules));
+    }
+
+    private String mask(String text) throws Exception {
+        byte[] body = mockMvc.perform(post("/mask")
+                        .contentType(MediaType.TEXT_PLAIN)
+                        .content(text.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andReturn().getResponse().getContentAsByteArray();
+        return new String(body, StandardCharsets.UTF_8);
+    }
+}
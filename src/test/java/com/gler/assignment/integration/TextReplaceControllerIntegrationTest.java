@@ -7,10 +7,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.hamcrest.Matchers.emptyString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -271,4 +275,40 @@ class TextReplaceControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(content().string("*.!?$"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void replace_EndToEnd_WithLeadingEmoji_ReplacesWholeCodePoint() throws Exception {
+        mockMvc.perform(get("/")
+                .param("text", "😀ab😀"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("*ab$"));
+    }
+
+    @Test
+    void replace_EndToEnd_PostUtf8Body() throws Exception {
+        mockMvc.perform(post("/")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("😀héllo😀".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andExpect(content().bytes("*héllo$".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void replace_EndToEnd_PostUtf8Body_Graphemes() throws Exception {
+        mockMvc.perform(post("/")
+                .param("unit", "GRAPHEME")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("🇩🇪abc🇫🇷".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes("*abc$".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void replace_EndToEnd_PostUtf8Body_SingleCharacter() throws Exception {
+        mockMvc.perform(post("/")
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("😀".getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isBadRequest());
+    }
+}
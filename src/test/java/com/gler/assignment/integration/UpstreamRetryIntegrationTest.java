@@ -0,0 +1,150 @@
+package com.gler.assignment.integration;
+
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.dto.ForecastRequest;
+import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.exception.UpstreamApiException;
+import com.gler.assignment.services.ForecastService;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the forecast service against a local Open-Meteo stub that answers 503 for as long
+ * as it is told to.
+ */
+@SpringBootTest(properties = {
+        "forecast.upstream.retry.base-delay=1ms",
+        "forecast.upstream.retry.max-delay=5ms",
+        "forecast.upstream.budget.ratio=0.1",
+        "forecast.upstream.budget.cap=5"
+})
+class UpstreamRetryIntegrationTest {
+
+    private static final String BODY = "{\"latitude\":52.52,\"longitude\":13.41,\"hourly\":{"
+            + "\"time\":[\"2025-02-07T00:00\",\"2025-02-07T01:00\"],"
+            + "\"temperature_2m\":[10.0,15.8],\"relative_humidity_2m\":[70,87],\"wind_speed_10m\":[8.0,12.5]}}";
+
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final AtomicInteger FAILURES_LEFT = new AtomicInteger();
+    private static final HttpServer STUB = startStub();
+
+    @Autowired
+    private ForecastService forecastService;
+
+    @Autowired
+    private UpstreamForecastCache upstreamForecastCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void upstream(DynamicPropertyRegistry registry) {
+        registry.add("forecast.upstream.base-url",
+                () -> "http://localhost:" + STUB.getAddress().getPort() + "/v1/forecast");
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/forecast", exchange -> {
+                REQUESTS.incrementAndGet();
+                boolean fail = FAILURES_LEFT.getAndUpdate(left -> Math.max(0, left - 1)) > 0;
+                byte[] body = fail ? new byte[0] : BODY.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(fail ? 503 : 200, fail ? -1 : body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        upstreamForecastCache.clear();
+        REQUESTS.set(0);
+        FAILURES_LEFT.set(0);
+    }
+
+    @Test
+    void testProcessForecast_TransientFailure_RecoveredByRetry() {
+        // Arrange
+        FAILURES_LEFT.set(1);
+        double retriesBefore = retries("success");
+
+        // Act
+        ForecastResponse response = forecastService.processForecast(new ForecastRequest(true, false, false));
+
+        // Assert
+        assertThat(response.getMaxTemperature()).isEqualTo(15.8);
+        assertThat(REQUESTS.get()).isEqualTo(2);
+        assertThat(retries("success")).isEqualTo(retriesBefore + 1);
+    }
+
+    @Test
+    @DirtiesContext // the spike drains the shared retry budget
+    void testProcessForecast_OutageUnderLoadSpike_RetriesStayWithinBudget() throws Exception {
+        // Arrange
+        FAILURES_LEFT.set(Integer.MAX_VALUE);
+        int calls = 40;
+        ExecutorService clients = Executors.newFixedThreadPool(calls);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < calls; i++) {
+            results.add(clients.submit(() -> {
+                start.await();
+                return forecastService.processForecast(new ForecastRequest(false, false, true));
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            assertThatThrownBy(result::get).hasCauseInstanceOf(UpstreamApiException.class);
+        }
+        clients.shutdown();
+
+        // Assert: without a budget three attempts each would mean 120 requests; the budget
+        // allows the saved-up cap plus a tenth of the calls on top of the first attempts.
+        assertThat(REQUESTS.get()).isBetween(calls, calls + 5 + calls / 10);
+        assertThat(meterRegistry.get("upstream.retry.skipped").tag("reason", "budget").counter().count())
+                .isPositive();
+    }
+
+    private double retries(String result) {
+        return meterRegistry.get("upstream.requests").tag("attempt", "retry").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.gler.assignment.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedTopKTest {
+
+    @Test
+    void testOffer_RandomIncreases_MatchesFullSort() {
+        // Arrange
+        Random random = new Random(3);
+        IndexedTopK<Integer> topK = new IndexedTopK<>(10);
+        Map<Integer, Double> all = new HashMap<>();
+
+        // Act: maxima only grow, so the board never needs rebuilding
+        for (int i = 0; i < 5_000; i++) {
+            int key = random.nextInt(500);
+            double value = all.getOrDefault(key, 0.0) + random.nextDouble();
+            all.put(key, value);
+            assertThat(topK.offer(key, value)).isTrue();
+        }
+
+        // Assert
+        List<Double> expected = all.values().stream().sorted(Comparator.reverseOrder()).limit(10).toList();
+        assertThat(topK.sorted()).extracting(IndexedTopK.Entry::value).containsExactlyElementsOf(expected);
+        assertThat(topK.sorted()).allSatisfy(entry -> assertThat(all.get(entry.key())).isEqualTo(entry.value()));
+    }
+
+    @Test
+    void testOffer_UpdateInPlace_KeepsOneEntryPerKey() {
+        // Arrange
+        IndexedTopK<String> topK = new IndexedTopK<>(3);
+        topK.offer("berlin", 10);
+        topK.offer("munich", 20);
+
+        // Act
+        boolean exact = topK.offer("berlin", 30);
+
+        // Assert
+        assertThat(exact).isTrue();
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.sorted()).containsExactly(
+                new IndexedTopK.Entry<>("berlin", 30.0), new IndexedTopK.Entry<>("munich", 20.0));
+    }
+
+    @Test
+    void testOffer_DecreaseBelowTurnedAwayValue_ReportsRebuildNeeded() {
+        // Arrange
+        IndexedTopK<String> topK = new IndexedTopK<>(2);
+        topK.offer("berlin", 10);
+        topK.offer("munich", 20);
+        topK.offer("hamburg", 5);
+
+        // Act & Assert: still above everything turned away
+        assertThat(topK.offer("munich", 8)).isTrue();
+        // hamburg at 5 may now belong on the board
+        assertThat(topK.offer("berlin", 4)).isFalse();
+    }
+
+    @Test
+    void testClear_ForgetsTurnedAwayValues() {
+        // Arrange
+        IndexedTopK<String> topK = new IndexedTopK<>(1);
+        topK.offer("berlin", 10);
+        topK.offer("munich", 20);
+
+        // Act
+        topK.clear();
+        topK.offer("hamburg", 15);
+
+        // Assert
+        assertThat(topK.offer("hamburg", 1)).isTrue();
+        assertThat(topK.sorted()).containsExactly(new IndexedTopK.Entry<>("hamburg", 1.0));
+    }
+}
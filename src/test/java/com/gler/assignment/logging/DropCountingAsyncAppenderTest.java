@@ -0,0 +1,68 @@
+package com.gler.assignment.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DropCountingAsyncAppenderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final LoggerContext context = new LoggerContext();
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        context.stop();
+    }
+
+    @Test
+    void testAppend_StalledWorker_DropsAndCountsWithoutBlocking() {
+        // Arrange: the downstream appender never finishes, so the queue fills up.
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        AppenderBase<ILoggingEvent> stalled = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        stalled.setContext(context);
+        stalled.start();
+
+        DropCountingAsyncAppender async = new DropCountingAsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8);
+        async.setDiscardingThreshold(0);
+        async.setNeverBlock(true);
+        async.addAppender(stalled);
+        async.start();
+
+        Logger logger = context.getLogger("com.gler.assignment.requests");
+        logger.setLevel(Level.INFO);
+        logger.addAppender(async);
+        long droppedBefore = DropCountingAsyncAppender.droppedEvents();
+
+        // Act & Assert
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 1_000; i++) {
+                logger.info("Forecast data saved");
+            }
+        });
+        // Up to one queue's worth can sit in the worker's drained batch next to a full queue.
+        assertThat(DropCountingAsyncAppender.droppedEvents() - droppedBefore).isGreaterThanOrEqualTo(1_000 - 2 * 8 - 1);
+    }
+}
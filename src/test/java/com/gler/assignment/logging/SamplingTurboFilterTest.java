@@ -0,0 +1,82 @@
+package com.gler.assignment.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext context;
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setLoggerName("com.gler.assignment.requests");
+        filter.setLevel("INFO");
+        filter.setRate(10);
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+
+        appender = new ListAppender<>();
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        root.addAppender(appender);
+    }
+
+    @Test
+    void testDecide_SampledLogger_KeepsOneInRate() {
+        // Arrange
+        org.slf4j.Logger logger = context.getLogger("com.gler.assignment.requests");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            logger.atInfo().setMessage("Forecast data saved").addKeyValue("variables", i).log();
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(10);
+        assertThat(appender.list.get(1).getKeyValuePairs()).first()
+                .satisfies(pair -> assertThat(pair.value).isEqualTo(10));
+    }
+
+    @Test
+    void testDecide_MoreSevereEventsAndOtherLoggers_AlwaysPass() {
+        // Arrange
+        org.slf4j.Logger sampled = context.getLogger("com.gler.assignment.requests");
+        org.slf4j.Logger sibling = context.getLogger("com.gler.assignment.requestsAudit");
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            sampled.warn("Slow forecast request");
+            sibling.info("Unrelated event");
+        }
+
+        // Assert
+        assertThat(appender.list).hasSize(40);
+    }
+
+    @Test
+    void testDecide_DisabledLevel_StaysDisabled() {
+        // Arrange
+        org.slf4j.Logger logger = context.getLogger("com.gler.assignment.requests");
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            logger.atDebug().setMessage("Processing forecast request").log();
+        }
+
+        // Assert
+        assertThat(appender.list).isEmpty();
+    }
+}
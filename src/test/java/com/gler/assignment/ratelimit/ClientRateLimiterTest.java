@@ -0,0 +1,161 @@
+package com.gler.assignment.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry registry;
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // 10 per second (one every 100 ms) with bursts of 3.
+        limiter = new ClientRateLimiter("forecast", 10, 3, 2, registry, clock::get);
+    }
+
+    @Test
+    void testTryAcquire_BurstThenReject_ReturnsWaitForNextPermit() {
+        // Act
+        long first = limiter.tryAcquire("10.0.0.1");
+        long second = limiter.tryAcquire("10.0.0.1");
+        long third = limiter.tryAcquire("10.0.0.1");
+        long fourth = limiter.tryAcquire("10.0.0.1");
+
+        // Assert
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void testTryAcquire_AfterEmissionInterval_AdmitsAgain() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Act
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        // Assert
+        assertThat(limiter.tryAcquire("10.0.0.1")).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void testTryAcquire_SeparateClients_HaveSeparateBuckets() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Act & Assert
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void testTryAcquire_TooManyClients_SweepsIdleBuckets() {
+        // Arrange
+        limiter.tryAcquire("10.0.0.1");
+        limiter.tryAcquire("10.0.0.2");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        // Act
+        limiter.tryAcquire("10.0.0.3");
+
+        // Assert
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void testTryAcquire_TooManyBusyClients_RejectsNewClientAndKeepsState() {
+        // Arrange: .1 has used its whole burst, .2 a single permit
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+        limiter.tryAcquire("10.0.0.2");
+
+        // Act
+        long wait = limiter.tryAcquire("10.0.0.3");
+
+        // Assert: no slot is free, and .1 is still held to its limit
+        assertThat(wait).isPositive();
+        assertThat(limiter.trackedClients()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("10.0.0.1")).isPositive();
+
+        // Once the buckets have refilled, the next sweep frees their slots
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(limiter.tryAcquire("10.0.0.3")).isZero();
+        assertThat(limiter.trackedClients()).isEqualTo(1);
+    }
+
+    @Test
+    void testTryAcquire_ConcurrentNewClients_NeverExceedMaxClients() throws Exception {
+        // Arrange
+        ClientRateLimiter bounded = new ClientRateLimiter("forecast", 10, 3, 100, registry, clock::get);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger peak = new AtomicInteger();
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        bounded.tryAcquire("10." + offset + "." + i);
+                        peak.accumulateAndGet(bounded.trackedClients(), Math::max);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(peak.get()).isLessThanOrEqualTo(100);
+        assertThat(bounded.trackedClients()).isEqualTo(100);
+    }
+
+    @Test
+    void testTryAcquire_PublishesAllowedAndRejectedCounts() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Assert
+        assertThat(registry.get("rate.limit.requests").tag("endpoint", "forecast").tag("result", "allowed")
+                .counter().count()).isEqualTo(3);
+        assertThat(registry.get("rate.limit.requests").tag("endpoint", "forecast").tag("result", "rejected")
+                .counter().count()).isEqualTo(2);
+        assertThat(registry.get("rate.limit.clients").tag("endpoint", "forecast").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void testConstructor_NonPositiveRate_Throws() {
+        assertThatThrownBy(() -> new ClientRateLimiter("forecast", 0, 3, 2, registry, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
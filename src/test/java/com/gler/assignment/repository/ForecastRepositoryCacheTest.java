@@ -0,0 +1,121 @@
+package com.gler.assignment.repository;
+
+import com.gler.assignment.models.ForecastEntity;
+import com.gler.assignment.repositories.ForecastRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ForecastRepositoryCacheTest {
+
+    @Autowired
+    private ForecastRepository forecastRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        forecastRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindByForecastDate_SecondLookupServedFromQueryCache() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 2, 7);
+        forecastRepository.save(ForecastEntity.builder()
+                .forecastDate(date)
+                .maxTemperature(15.8)
+                .build());
+
+        // Act
+        forecastRepository.findByForecastDate(date);
+        Optional<ForecastEntity> cached = forecastRepository.findByForecastDate(date);
+
+        // Assert
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getMaxTemperature()).isEqualTo(15.8);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testFindById_ServedFromEntityRegion() {
+        // Arrange
+        ForecastEntity saved = forecastRepository.save(ForecastEntity.builder()
+                .forecastDate(LocalDate.of(2025, 2, 10))
+                .maxHumidity(87.0)
+                .build());
+        forecastRepository.findById(saved.getId());
+
+        // Act
+        Optional<ForecastEntity> cached = forecastRepository.findById(saved.getId());
+
+        // Assert
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getMaxHumidity()).isEqualTo(87.0);
+        assertThat(statistics.getCacheRegionStatistics(ForecastEntity.CACHE_REGION).getHitCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void testFindByForecastDate_UpsertInvalidatesCachedResult() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 2, 8);
+        ForecastEntity entity = forecastRepository.save(ForecastEntity.builder()
+                .forecastDate(date)
+                .maxTemperature(15.8)
+                .build());
+        forecastRepository.findByForecastDate(date);
+
+        // Act
+        entity.setMaxTemperature(21.3);
+        forecastRepository.save(entity);
+        Optional<ForecastEntity> reloaded = forecastRepository.findByForecastDate(date);
+
+        // Assert
+        assertThat(reloaded).isPresent();
+        assertThat(reloaded.get().getMaxTemperature()).isEqualTo(21.3);
+    }
+
+    @Test
+    void testFindByForecastDate_NewRowInvalidatesCachedMiss() {
+        // Arrange
+        LocalDate date = LocalDate.of(2025, 2, 9);
+        assertThat(forecastRepository.findByForecastDate(date)).isEmpty();
+
+        // Act
+        forecastRepository.save(ForecastEntity.builder()
+                .forecastDate(date)
+                .maxWindSpeed(12.5)
+                .build());
+
+        // Assert
+        assertThat(forecastRepository.findByForecastDate(date)).isPresent();
+    }
+
+    @Test
+    void testHitRatioMetricsAreRegistered() {
+        assertThat(meterRegistry.find("hibernate.second.level.cache.hit.ratio")
+                .tag("region", ForecastEntity.CACHE_REGION).gauge()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.query.cache.requests")
+                .tag("result", "hit").functionCounter()).isNotNull();
+    }
+}
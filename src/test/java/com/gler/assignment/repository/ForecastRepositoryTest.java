@@ -1,5 +1,6 @@
 package com.gler.assignment.repository;
 
+import com.gler.assignment.dto.ForecastSummary;
 import com.gler.assignment.models.ForecastEntity;
 import com.gler.assignment.repositories.ForecastRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,6 +16,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 class ForecastRepositoryTest {
@@ -319,4 +322,84 @@ class ForecastRepositoryTest {
         assertThat(exists).isTrue();
         assertThat(notExists).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindSummariesBetween_ReturnsOrderedProjections() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        entityManager.persist(testEntity);
+        entityManager.persist(ForecastEntity.builder()
+                .forecastDate(today.minusDays(2))
+                .maxTemperature(10.0)
+                .build());
+        entityManager.persist(ForecastEntity.builder()
+                .forecastDate(today.minusDays(10))
+                .maxTemperature(5.0)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ForecastSummary> summaries = forecastRepository.findSummariesBetween(today.minusDays(3), today);
+
+        // Assert
+        assertThat(summaries).extracting(ForecastSummary::forecastDate)
+                .containsExactly(today.minusDays(2), today);
+        assertThat(summaries.get(1).maxTemperature()).isEqualTo(15.8);
+        assertThat(summaries.get(1).maxHumidity()).isEqualTo(87.0);
+        assertThat(summaries.get(1).maxWindSpeed()).isEqualTo(12.5);
+    }
+
+    @Test
+    void testFindSummariesBetween_DoesNotManageEntities() {
+        // Arrange
+        entityManager.persist(testEntity);
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<ForecastSummary> summaries = forecastRepository.findSummariesBetween(LocalDate.now(), LocalDate.now());
+
+        // Assert
+        assertThat(summaries).hasSize(1);
+        assertThat(entityManager.getEntityManager().contains(testEntity)).isFalse();
+        assertThat(entityManager.getEntityManager().unwrap(org.hibernate.Session.class)
+                .getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void testSave_SecondRowForConfiguredLocationSameDay_Rejected() {
+        // Arrange
+        entityManager.persist(testEntity);
+        entityManager.flush();
+        ForecastEntity duplicate = ForecastEntity.builder()
+                .forecastDate(LocalDate.now())
+                .maxTemperature(1.0)
+                .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> forecastRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void testSave_SameDayAtOtherLocation_Allowed() {
+        // Arrange
+        entityManager.persist(testEntity);
+        entityManager.flush();
+        ForecastEntity elsewhere = ForecastEntity.builder()
+                .forecastDate(LocalDate.now())
+                .latitude(48.85)
+                .longitude(2.35)
+                .maxTemperature(1.0)
+                .build();
+
+        // Act
+        ForecastEntity saved = forecastRepository.saveAndFlush(elsewhere);
+
+        // Assert
+        assertThat(saved.getLocationKey()).isEqualTo("48.85,2.35");
+        assertThat(testEntity.getLocationKey()).isEqualTo(ForecastEntity.CONFIGURED_LOCATION_KEY);
+        assertThat(forecastRepository.findByForecastDate(LocalDate.now())).contains(testEntity);
+    }
+}
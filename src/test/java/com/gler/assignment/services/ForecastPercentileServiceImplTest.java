@@ -0,0 +1,79 @@
+package com.gler.assignment.services;
+
+import com.gler.assignment.dto.HourlySeries;
+import com.gler.assignment.impl.ForecastPercentileServiceImpl;
+import com.gler.assignment.repositories.ForecastSketchRepository;
+import com.gler.assignment.sketch.TDigest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ForecastPercentileServiceImplTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 2, 7);
+
+    @Mock
+    private ForecastSketchRepository forecastSketchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ForecastPercentileServiceImpl percentileService;
+
+    @BeforeEach
+    void setUp() {
+        percentileService = new ForecastPercentileServiceImpl(forecastSketchRepository,
+                new TransactionTemplate(transactionManager), meterRegistry);
+    }
+
+    @Test
+    void testRecordSketches_WriteFails_IsCountedNotThrown() {
+        // Arrange
+        when(forecastSketchRepository.findConfiguredLocation(eq(DATE), anyString())).thenReturn(Optional.empty());
+        doThrow(new DataIntegrityViolationException("uk_forecast_sketch_date_location_variable"))
+                .when(forecastSketchRepository).upsertConfiguredLocation(eq(DATE), anyString(), any(), any());
+
+        // Act & Assert
+        assertThatCode(() -> percentileService.recordSketches(
+                Map.of(DATE, new HourlySeries(new double[]{1, 2}, null, null))))
+                .doesNotThrowAnyException();
+        assertThat(meterRegistry.get("forecast.sketch.failures").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void testRecordSketches_UnchangedSketch_IsNotRewritten() {
+        // Arrange
+        double[] temperatures = {1, 2};
+        when(forecastSketchRepository.findConfiguredLocation(DATE, "temperature_2m"))
+                .thenReturn(Optional.of(TDigest.of(temperatures).toBytes()));
+
+        // Act
+        percentileService.recordSketches(Map.of(DATE, new HourlySeries(temperatures, null, null)));
+
+        // Assert
+        verify(forecastSketchRepository, never()).upsertConfiguredLocation(any(), anyString(), any(), any());
+        assertThat(meterRegistry.get("forecast.sketch.failures").counter().count()).isZero();
+    }
+}
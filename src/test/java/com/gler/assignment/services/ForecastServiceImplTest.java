@@ -1,29 +1,45 @@
 package com.gler.assignment.services;
 
+import com.gler.assignment.cache.UpstreamForecastCache;
+import com.gler.assignment.configs.UpstreamProperties;
 import com.gler.assignment.dto.ForecastRequest;
 import com.gler.assignment.dto.ForecastResponse;
+import com.gler.assignment.dto.HourlySeries;
 import com.gler.assignment.dto.OpenMeteoResponse;
 import com.gler.assignment.models.ForecastEntity;
 import com.gler.assignment.exception.UpstreamApiException;
 import com.gler.assignment.impl.ForecastServiceImpl;
 import com.gler.assignment.repositories.ForecastRepository;
+import com.gler.assignment.services.ForecastPercentileService;
+import com.gler.assignment.upstream.ClusterSingleFlight;
+import com.gler.assignment.upstream.LoadBudget;
+import com.gler.assignment.upstream.UpstreamHedger;
+import com.gler.assignment.upstream.UpstreamRetrier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -36,11 +52,46 @@ class ForecastServiceImplTest {
     @Mock
     private ForecastRepository forecastRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ForecastPercentileService forecastPercentileService;
+
+    @Spy
+    private UpstreamProperties upstreamProperties = new UpstreamProperties();
+
+    @Spy
+    private UpstreamForecastCache upstreamForecastCache = new UpstreamForecastCache(upstreamProperties, event -> { });
+
+    private final LoadBudget loadBudget = new LoadBudget(upstreamProperties);
+
+    @Spy
+    private UpstreamHedger upstreamHedger = new UpstreamHedger(upstreamProperties, loadBudget, new SimpleMeterRegistry());
+
+    @Spy
+    private UpstreamRetrier upstreamRetrier = new UpstreamRetrier(upstreamProperties, loadBudget, new SimpleMeterRegistry());
+
+    @Spy
+    private ClusterSingleFlight clusterSingleFlight =
+            new ClusterSingleFlight(upstreamProperties, new JdbcTemplate(), new SimpleMeterRegistry());
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
     @InjectMocks
     private ForecastServiceImpl forecastService;
 
-    private static final String API_URL = 
-        "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&current=temperature_2m,wind_speed_10m&hourly=temperature_2m,relative_humidity_2m,wind_speed_10m";
+    private static final String BASE_URL =
+        "https://api.open-meteo.com/v1/forecast?latitude=52.52&longitude=13.41&hourly=";
+
+    private static final String API_URL = BASE_URL + "temperature_2m,relative_humidity_2m,wind_speed_10m";
+
+    private static final String TEMPERATURE_URL = BASE_URL + "temperature_2m";
+
+    private static final String HUMIDITY_URL = BASE_URL + "relative_humidity_2m";
+
+    private static final String WIND_SPEED_URL = BASE_URL + "wind_speed_10m";
 
     private OpenMeteoResponse mockApiResponse;
     private ForecastRequest request;
@@ -55,6 +106,8 @@ class ForecastServiceImplTest {
         mockApiResponse.setLongitude(13.41);
         
         OpenMeteoResponse.Hourly hourly = new OpenMeteoResponse.Hourly();
+        hourly.setTime(Arrays.asList("2025-01-01T22:00", "2025-01-01T23:00",
+                "2025-01-02T00:00", "2025-01-02T01:00", "2025-01-02T02:00"));
         hourly.setTemperature2m(Arrays.asList(10.0, 12.0, 15.8, 14.0, 11.0));
         hourly.setRelativeHumidity2m(Arrays.asList(70, 75, 87, 80, 72));
         hourly.setWindSpeed10m(Arrays.asList(8.0, 10.0, 12.5, 9.0, 7.5));
@@ -88,12 +141,59 @@ class ForecastServiceImplTest {
         verify(forecastRepository, times(1)).save(any(ForecastEntity.class));
     }
 
+    @Test
+    void testProcessForecast_PublishesStoredEventOnlyWhenMaximaChange() {
+        // Arrange
+        ForecastEntity existing = ForecastEntity.builder()
+                .forecastDate(LocalDate.now())
+                .maxTemperature(15.8)
+                .maxHumidity(87.0)
+                .maxWindSpeed(12.5)
+                .build();
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(existing));
+        when(forecastRepository.save(any(ForecastEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        forecastService.processForecast(request);
+        forecastService.processForecast(request);
+
+        // Assert
+        verify(eventPublisher, times(1))
+                .publishEvent(new ForecastStoredEvent(LocalDate.now(), 15.8, 87.0, 12.5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testProcessForecast_RecordsOneSketchPerDayOnlyForFreshUpstreamData() {
+        // Arrange
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+        ArgumentCaptor<Map<LocalDate, HourlySeries>> days = ArgumentCaptor.forClass(Map.class);
+
+        // Act: the second request is answered from the upstream cache
+        forecastService.processForecast(request);
+        forecastService.processForecast(request);
+
+        // Assert: each day's sketch holds only that day's hours
+        verify(forecastPercentileService, times(1)).recordSketches(days.capture());
+        assertThat(days.getValue()).containsOnlyKeys(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 2));
+        assertThat(days.getValue().get(LocalDate.of(2025, 1, 1)).temperature2m()).containsExactly(10.0, 12.0);
+        assertThat(days.getValue().get(LocalDate.of(2025, 1, 2)).windSpeed10m()).containsExactly(12.5, 9.0, 7.5);
+    }
+
     @Test
     void testProcessForecast_OnlyTemperatureTrue() {
         // Arrange
         ForecastRequest tempOnlyRequest = new ForecastRequest(true, false, false);
         
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+        when(restTemplate.getForObject(eq(TEMPERATURE_URL), eq(OpenMeteoResponse.class)))
                 .thenReturn(mockApiResponse);
         when(forecastRepository.findByForecastDate(any(LocalDate.class)))
                 .thenReturn(Optional.empty());
@@ -122,7 +222,7 @@ class ForecastServiceImplTest {
         // Arrange
         ForecastRequest humidityOnlyRequest = new ForecastRequest(false, true, false);
         
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+        when(restTemplate.getForObject(eq(HUMIDITY_URL), eq(OpenMeteoResponse.class)))
                 .thenReturn(mockApiResponse);
         when(forecastRepository.findByForecastDate(any(LocalDate.class)))
                 .thenReturn(Optional.empty());
@@ -143,7 +243,7 @@ class ForecastServiceImplTest {
         // Arrange
         ForecastRequest windOnlyRequest = new ForecastRequest(false, false, true);
         
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+        when(restTemplate.getForObject(eq(WIND_SPEED_URL), eq(OpenMeteoResponse.class)))
                 .thenReturn(mockApiResponse);
         when(forecastRepository.findByForecastDate(any(LocalDate.class)))
                 .thenReturn(Optional.empty());
@@ -164,8 +264,6 @@ class ForecastServiceImplTest {
         // Arrange
         ForecastRequest allFalseRequest = new ForecastRequest(false, false, false);
         
-        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
-                .thenReturn(mockApiResponse);
         when(forecastRepository.findByForecastDate(any(LocalDate.class)))
                 .thenReturn(Optional.empty());
         when(forecastRepository.save(any(ForecastEntity.class)))
@@ -178,6 +276,70 @@ class ForecastServiceImplTest {
         assertThat(response.getMaxTemperature()).isNull();
         assertThat(response.getMaxHumidity()).isNull();
         assertThat(response.getMaxWindSpeed()).isNull();
+
+        verifyNoInteractions(restTemplate);
+    }
+
+    @Test
+    void testProcessForecast_RepeatedRequest_ServedFromUpstreamCache() {
+        // Arrange
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+        when(forecastRepository.save(any(ForecastEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        forecastService.processForecast(request);
+        ForecastResponse response = forecastService.processForecast(request);
+
+        // Assert
+        assertThat(response.getMaxTemperature()).isEqualTo(15.8);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+    }
+
+    @Test
+    void testProcessForecast_SubsetRequest_ServedFromCachedSuperset() {
+        // Arrange
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+        when(forecastRepository.save(any(ForecastEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        forecastService.processForecast(request);
+        ForecastResponse response = forecastService.processForecast(new ForecastRequest(false, true, true));
+
+        // Assert
+        assertThat(response.getMaxTemperature()).isNull();
+        assertThat(response.getMaxHumidity()).isEqualTo(87.0);
+        assertThat(response.getMaxWindSpeed()).isEqualTo(12.5);
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(OpenMeteoResponse.class));
+    }
+
+    @Test
+    void testProcessForecast_SupersetRequest_NotServedFromCachedSubset() {
+        // Arrange
+        when(restTemplate.getForObject(eq(TEMPERATURE_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+        when(forecastRepository.save(any(ForecastEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        forecastService.processForecast(new ForecastRequest(true, false, false));
+        ForecastResponse response = forecastService.processForecast(request);
+
+        // Assert
+        assertThat(response.getMaxWindSpeed()).isEqualTo(12.5);
+        verify(restTemplate, times(1)).getForObject(eq(TEMPERATURE_URL), eq(OpenMeteoResponse.class));
+        verify(restTemplate, times(1)).getForObject(eq(API_URL), eq(OpenMeteoResponse.class));
     }
 
     @Test
@@ -216,6 +378,35 @@ class ForecastServiceImplTest {
         assertThat(updatedEntity.getMaxWindSpeed()).isEqualTo(12.5);
     }
 
+    @Test
+    void testProcessForecast_ConcurrentInsertForSameDay_UpdatesWinningRow() {
+        // Arrange
+        ForecastEntity winner = ForecastEntity.builder()
+                .id(7L)
+                .forecastDate(LocalDate.now())
+                .maxTemperature(10.0)
+                .build();
+
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenReturn(mockApiResponse);
+        when(forecastRepository.findByForecastDate(any(LocalDate.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(forecastRepository.save(any(ForecastEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_forecast_data_date_location"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ForecastResponse response = forecastService.processForecast(request);
+
+        // Assert
+        assertThat(response.getMaxTemperature()).isEqualTo(15.8);
+        ArgumentCaptor<ForecastEntity> entityCaptor = ArgumentCaptor.forClass(ForecastEntity.class);
+        verify(forecastRepository, times(2)).save(entityCaptor.capture());
+        assertThat(entityCaptor.getAllValues().get(1)).isSameAs(winner);
+        assertThat(winner.getMaxTemperature()).isEqualTo(15.8);
+    }
+
     @Test
     void testProcessForecast_ApiReturnsNull_ThrowsUpstreamApiException() {
         // Arrange
@@ -245,6 +436,24 @@ class ForecastServiceImplTest {
         verify(forecastRepository, never()).save(any(ForecastEntity.class));
     }
 
+    @Test
+    void testProcessForecast_UpstreamFailures_AreStackless() {
+        // Arrange
+        when(restTemplate.getForObject(eq(API_URL), eq(OpenMeteoResponse.class)))
+                .thenThrow(new RestClientException("Connection timeout"))
+                .thenReturn(null);
+
+        // Act
+        Throwable unreachable = catchThrowable(() -> forecastService.processForecast(request));
+        Throwable empty = catchThrowable(() -> forecastService.processForecast(request));
+
+        // Assert
+        assertThat(unreachable).isInstanceOf(UpstreamApiException.class);
+        assertThat(unreachable.getStackTrace()).isEmpty();
+        assertThat(empty).isSameAs(UpstreamApiException.EMPTY_RESPONSE);
+        assertThat(empty.getStackTrace()).isEmpty();
+    }
+
     @Test
     void testProcessForecast_EmptyHourlyData_ReturnsNullValues() {
         // Arrange
@@ -0,0 +1,154 @@
+package com.gler.assignment.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class TDigestTest {
+
+    private static final double[] QUANTILES = {0.01, 0.1, 0.5, 0.9, 0.99};
+
+    @Test
+    void testQuantile_DayOfHourlySamples_IsExact() {
+        // Arrange: NaN marks a missing hour
+        double[] day = {3.0, 1.0, Double.NaN, 4.0, 1.5, 9.0, 2.5, 6.0};
+
+        // Act
+        TDigest digest = TDigest.of(day);
+
+        // Assert: seven samples at ranks 0.5 .. 6.5, interpolated between neighbours
+        assertThat(digest.count()).isEqualTo(7);
+        assertThat(digest.min()).isEqualTo(1.0);
+        assertThat(digest.max()).isEqualTo(9.0);
+        assertThat(digest.quantile(0)).isEqualTo(1.0);
+        assertThat(digest.quantile(0.5)).isEqualTo(3.0);
+        assertThat(digest.quantile(1)).isEqualTo(9.0);
+    }
+
+    @Test
+    void testQuantile_WeekOfHourlySamples_WithinDocumentedRankError() {
+        // Arrange: more samples than fit into singleton centroids
+        Random random = new Random(11);
+        double[] week = new double[7 * 24];
+        for (int i = 0; i < week.length; i++) {
+            week[i] = random.nextGaussian() * 5 + 10;
+        }
+
+        // Act
+        TDigest digest = TDigest.of(week);
+
+        // Assert
+        double[] sorted = week.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            double bound = 2 * Math.PI * Math.sqrt(q * (1 - q)) / TDigest.DEFAULT_COMPRESSION;
+            assertThat(rank(sorted, digest.quantile(q))).as("q=%s", q).isCloseTo(q, within(bound));
+        }
+        assertThat(digest.min()).isEqualTo(sorted[0]);
+        assertThat(digest.max()).isEqualTo(sorted[sorted.length - 1]);
+    }
+
+    @Test
+    void testQuantile_LargeStream_WithinRankError() {
+        // Arrange
+        Random random = new Random(42);
+        double[] values = new double[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian() * 5 + 10;
+        }
+
+        // Act
+        TDigest digest = TDigest.of(values);
+
+        // Assert
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (double q : QUANTILES) {
+            assertThat(rank(sorted, digest.quantile(q))).as("q=%s", q).isCloseTo(q, within(0.005));
+        }
+    }
+
+    @Test
+    void testMerge_ManyDailySketches_MatchesSingleDigest() {
+        // Arrange: a year of hourly temperatures with a seasonal swing
+        Random random = new Random(7);
+        double[] all = new double[365 * 24];
+        TDigest merged = new TDigest(TDigest.DEFAULT_COMPRESSION);
+
+        // Act: each day is sketched, serialized and merged back the way range queries do
+        for (int day = 0; day < 365; day++) {
+            double[] hours = new double[24];
+            for (int hour = 0; hour < 24; hour++) {
+                hours[hour] = 10 - 12 * Math.cos(2 * Math.PI * day / 365) + 4 * random.nextGaussian();
+                all[day * 24 + hour] = hours[hour];
+            }
+            merged.merge(TDigest.fromBytes(TDigest.of(hours).toBytes()));
+        }
+
+        // Assert
+        Arrays.sort(all);
+        assertThat(merged.count()).isEqualTo(all.length);
+        assertThat(merged.min()).isEqualTo(all[0]);
+        assertThat(merged.max()).isEqualTo(all[all.length - 1]);
+        for (double q : QUANTILES) {
+            assertThat(rank(all, merged.quantile(q))).as("q=%s", q).isCloseTo(q, within(0.01));
+        }
+    }
+
+    @Test
+    void testToBytes_SizeBoundedByCompression() {
+        // Arrange
+        Random random = new Random(1);
+        TDigest digest = new TDigest(TDigest.DEFAULT_COMPRESSION);
+        for (int i = 0; i < 1_000_000; i++) {
+            digest.add(random.nextDouble() * 40);
+        }
+
+        // Act
+        byte[] bytes = digest.toBytes();
+        TDigest restored = TDigest.fromBytes(bytes);
+
+        // Assert
+        assertThat(bytes.length).isLessThan(2048);
+        assertThat(restored.count()).isEqualTo(digest.count());
+        for (double q : QUANTILES) {
+            assertThat(restored.quantile(q)).isEqualTo(digest.quantile(q));
+        }
+    }
+
+    @Test
+    void testQuantile_EmptyDigest_IsNaN() {
+        // Arrange
+        TDigest digest = TDigest.fromBytes(TDigest.of(new double[]{Double.NaN}).toBytes());
+
+        // Act & Assert
+        assertThat(digest.count()).isZero();
+        assertThat(digest.quantile(0.5)).isNaN();
+        assertThat(digest.min()).isNaN();
+    }
+
+    @Test
+    void testFromBytes_CorruptInput_Rejected() {
+        // Arrange
+        byte[] bytes = TDigest.of(new double[]{1, 2, 3}).toBytes();
+
+        // Act & Assert
+        assertThatThrownBy(() -> TDigest.fromBytes(Arrays.copyOf(bytes, bytes.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        bytes[0] = 9;
+        assertThatThrownBy(() -> TDigest.fromBytes(bytes))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("format");
+    }
+
+    /** Share of the sorted values below {@code value}. */
+    private static double rank(double[] sorted, double value) {
+        int index = Arrays.binarySearch(sorted, value);
+        return (index >= 0 ? index : -index - 1) / (double) sorted.length;
+    }
+}
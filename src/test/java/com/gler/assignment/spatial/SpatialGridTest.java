@@ -0,0 +1,149 @@
+package com.gler.assignment.spatial;
+
+import com.gler.assignment.dto.LocationForecast;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SpatialGridTest {
+
+    private static final int LOCATIONS = 100_000;
+
+    private static final List<LocationForecast> ALL = new ArrayList<>();
+    private static final SpatialGrid GRID = new SpatialGrid(0.5);
+
+    @BeforeAll
+    static void fill() {
+        Random random = new Random(11);
+        for (int i = 0; i < LOCATIONS; i++) {
+            // Uniform over the sphere, so the polar cells are as sparse as the real ones.
+            double latitude = Math.toDegrees(Math.asin(2 * random.nextDouble() - 1));
+            double longitude = random.nextDouble() * 360 - 180;
+            LocationForecast forecast = new LocationForecast(latitude, longitude, random.nextDouble() * 40, null, null);
+            ALL.add(forecast);
+            GRID.put(forecast);
+        }
+    }
+
+    @Test
+    void testWithin_MatchesBruteForce() {
+        // Arrange
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            double south = random.nextDouble() * 170 - 90;
+            double north = Math.min(90, south + random.nextDouble() * 20);
+            double west = random.nextDouble() * 360 - 180;
+            double wrapped = west + random.nextDouble() * 30;
+            double east = wrapped > 180 ? wrapped - 360 : wrapped;
+
+            // Act
+            List<LocationForecast> found = new ArrayList<>();
+            boolean truncated = GRID.within(south, west, north, east, Integer.MAX_VALUE, found);
+
+            // Assert
+            List<LocationForecast> expected = ALL.stream()
+                    .filter(f -> f.latitude() >= south && f.latitude() <= north)
+                    .filter(f -> west <= east
+                            ? f.longitude() >= west && f.longitude() <= east
+                            : f.longitude() >= west || f.longitude() <= east)
+                    .toList();
+            assertThat(truncated).isFalse();
+            assertThat(found).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void testWithin_WholeWorld_StopsAtLimit() {
+        // Act
+        List<LocationForecast> found = new ArrayList<>();
+        boolean truncated = GRID.within(-90, -180, 90, 180, 500, found);
+
+        // Assert
+        assertThat(truncated).isTrue();
+        assertThat(found).hasSize(500);
+    }
+
+    @Test
+    void testNearest_MatchesBruteForce() {
+        // Arrange: including points near the poles and the antimeridian
+        Random random = new Random(9);
+        List<double[]> points = new ArrayList<>(List.of(new double[]{89.9, 0}, new double[]{-89.99, 120},
+                new double[]{10, 179.99}, new double[]{-10, -180}));
+        for (int i = 0; i < 300; i++) {
+            points.add(new double[]{random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180});
+        }
+
+        for (double[] point : points) {
+            // Act
+            SpatialGrid.Nearest nearest = GRID.nearest(point[0], point[1]);
+
+            // Assert
+            double expected = ALL.stream()
+                    .mapToDouble(f -> SpatialGrid.distanceKm(point[0], point[1], f.latitude(), f.longitude()))
+                    .min().orElseThrow();
+            assertThat(nearest.distanceKm()).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    void testNearest_SparseGrid_FindsFarAwayLocation() {
+        // Arrange
+        SpatialGrid grid = new SpatialGrid(0.5);
+        grid.put(new LocationForecast(-33.87, 151.21, 25.0, null, null));
+        grid.put(new LocationForecast(52.52, 13.41, 10.0, null, null));
+
+        // Act
+        SpatialGrid.Nearest nearest = grid.nearest(48.14, 11.58);
+
+        // Assert
+        assertThat(nearest.forecast().latitude()).isEqualTo(52.52);
+        assertThat(nearest.distanceKm()).isCloseTo(504, within(2.0));
+        assertThat(new SpatialGrid(0.5).nearest(0, 0)).isNull();
+    }
+
+    @Test
+    void testPut_SameCoordinates_ReplacesEntry() {
+        // Arrange
+        SpatialGrid grid = new SpatialGrid(0.5);
+        grid.put(new LocationForecast(52.52, 13.41, 10.0, null, null));
+
+        // Act
+        grid.put(new LocationForecast(52.52, 13.41, 12.0, 80.0, null));
+
+        // Assert
+        List<LocationForecast> found = new ArrayList<>();
+        grid.within(52, 13, 53, 14, 10, found);
+        assertThat(found).containsExactly(new LocationForecast(52.52, 13.41, 12.0, 80.0, null));
+    }
+
+    @Test
+    void testAntimeridian_Longitude180_FoundByBoxesEndingThere() {
+        // Arrange
+        SpatialGrid grid = new SpatialGrid(0.5);
+        LocationForecast east = new LocationForecast(-17.0, 180.0, 28.0, null, null);
+        LocationForecast west = new LocationForecast(-17.0, -180.0, 27.0, null, null);
+        grid.put(east);
+        grid.put(west);
+
+        // Act
+        List<LocationForecast> upToAntimeridian = new ArrayList<>();
+        grid.within(-18, 179.5, -16, 180, 10, upToAntimeridian);
+        List<LocationForecast> fromAntimeridian = new ArrayList<>();
+        grid.within(-18, -180, -16, -179.5, 10, fromAntimeridian);
+        List<LocationForecast> crossing = new ArrayList<>();
+        grid.within(-18, 179.9, -16, -179.9, 10, crossing);
+
+        // Assert
+        assertThat(grid.get(-17.0, 180.0)).isEqualTo(east);
+        assertThat(upToAntimeridian).containsExactly(east);
+        assertThat(fromAntimeridian).containsExactly(west);
+        assertThat(crossing).containsExactlyInAnyOrder(east, west);
+        assertThat(grid.nearest(-17.0, -179.99).distanceKm()).isLessThan(2);
+    }
+}
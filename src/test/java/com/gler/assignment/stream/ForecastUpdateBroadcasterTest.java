@@ -0,0 +1,339 @@
+package com.gler.assignment.stream;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gler.assignment.cache.ForecastDataRefreshedEvent;
+import com.gler.assignment.configs.StreamProperties;
+import com.gler.assignment.dto.HourlyVariable;
+import com.gler.assignment.dto.UpstreamQuery;
+import com.gler.assignment.services.ForecastStoredEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ForecastUpdateBroadcasterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ForecastUpdateBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.destroy();
+        }
+    }
+
+    private ForecastUpdateBroadcaster broadcaster(int bufferSize, int senderThreads, int maxSubscribers) {
+        return broadcaster(bufferSize, senderThreads, maxSubscribers, Duration.ofSeconds(5));
+    }
+
+    private ForecastUpdateBroadcaster broadcaster(int bufferSize, int senderThreads, int maxSubscribers,
+                                                  Duration sendTimeout) {
+        StreamProperties properties = new StreamProperties();
+        properties.setSendTimeout(sendTimeout);
+        properties.setBufferSize(bufferSize);
+        properties.setSenderThreads(senderThreads);
+        properties.setMaxSubscribers(maxSubscribers);
+        broadcaster = new ForecastUpdateBroadcaster(properties, Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build(), meterRegistry);
+        return broadcaster;
+    }
+
+    private static ForecastStoredEvent stored(double temperature) {
+        return new ForecastStoredEvent(LocalDate.of(2025, 2, 7), temperature, 87.0, 12.5);
+    }
+
+    private double evicted(String reason) {
+        return meterRegistry.get("forecast.stream.evicted").tag("reason", reason).counter().count();
+    }
+
+    /** Records the events it receives, ignoring heartbeats, and checks that ids only go up. */
+    private static final class CountingSink implements UpdateSink {
+
+        final AtomicLong received = new AtomicLong();
+        final AtomicLong lastId = new AtomicLong();
+        final AtomicBoolean outOfOrder = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        final List<ForecastUpdate> updates = new CopyOnWriteArrayList<>();
+        final boolean keep;
+        final CountDownLatch done;
+
+        CountingSink(boolean keep, CountDownLatch done) {
+            this.keep = keep;
+            this.done = done;
+        }
+
+        @Override
+        public void send(ForecastUpdate update) {
+            if (update.isHeartbeat()) {
+                return;
+            }
+            if (update.id() <= lastId.getAndSet(update.id())) {
+                outOfOrder.set(true);
+            }
+            if (keep) {
+                updates.add(update);
+            }
+            received.incrementAndGet();
+            if (done != null) {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    /** Takes {@code delay} per event, like a client on a congested link. */
+    private static final class SlowSink implements UpdateSink {
+
+        final Duration delay;
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        SlowSink(Duration delay) {
+            this.delay = delay;
+        }
+
+        @Override
+        public void send(ForecastUpdate update) {
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    @Test
+    void testPublish_DeliversSerializedEventsAndReplaysLatestToNewSubscribers() throws InterruptedException {
+        ForecastUpdateBroadcaster broadcaster = broadcaster(16, 1, 10);
+        CountDownLatch firstTwo = new CountDownLatch(2);
+        CountingSink early = new CountingSink(true, firstTwo);
+        broadcaster.subscribe(early);
+
+        broadcaster.onForecastStored(stored(15.8));
+        broadcaster.onDataRefreshed(new ForecastDataRefreshedEvent(
+                new UpstreamQuery(52.52, 13.41, HourlyVariable.TEMPERATURE_2M.bit() | HourlyVariable.WIND_SPEED_10M.bit())));
+        broadcaster.onDataRefreshed(ForecastDataRefreshedEvent.all());
+        assertThat(firstTwo.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(early.updates).extracting(ForecastUpdate::name).containsExactly("forecast", "upstream");
+        assertThat(early.updates.get(0).data()).isEqualTo(
+                "{\"date\":\"2025-02-07\",\"maxTemperature\":15.8,\"maxHumidity\":87.0,\"maxWindSpeed\":12.5}");
+        assertThat(early.updates.get(1).data()).isEqualTo(
+                "{\"latitude\":52.52,\"longitude\":13.41,\"variables\":[\"temperature_2m\",\"wind_speed_10m\"]}");
+
+        CountDownLatch replayed = new CountDownLatch(2);
+        CountingSink late = new CountingSink(true, replayed);
+        broadcaster.subscribe(late);
+        assertThat(replayed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(late.updates).extracting(ForecastUpdate::id)
+                .containsExactlyInAnyOrderElementsOf(early.updates.stream().map(ForecastUpdate::id).toList());
+    }
+
+    @Test
+    void testSubscribe_BeyondCap_IsRefusedUntilSomeoneLeaves() {
+        ForecastUpdateBroadcaster broadcaster = broadcaster(4, 1, 2);
+        ForecastUpdateBroadcaster.Subscription first = broadcaster.subscribe(new CountingSink(false, null));
+        assertThat(broadcaster.subscribe(new CountingSink(false, null))).isNotNull();
+
+        assertThat(broadcaster.subscribe(new CountingSink(false, null))).isNull();
+        first.cancel();
+        first.cancel();
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+        assertThat(broadcaster.subscribe(new CountingSink(false, null))).isNotNull();
+    }
+
+    @Test
+    void testFailingSink_IsEvicted() throws InterruptedException {
+        ForecastUpdateBroadcaster broadcaster = broadcaster(4, 1, 10);
+        CountDownLatch failed = new CountDownLatch(1);
+        AtomicBoolean closed = new AtomicBoolean();
+        broadcaster.subscribe(new UpdateSink() {
+            @Override
+            public void send(ForecastUpdate update) throws IOException {
+                failed.countDown();
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        });
+
+        broadcaster.onForecastStored(stored(1.0));
+
+        assertThat(failed.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitSubscribers(broadcaster, 0);
+        awaitClosed(closed);
+        assertThat(evicted("gone")).isEqualTo(1.0);
+    }
+
+    /**
+     * Never returns from a write until released, like a client that stopped reading. As with
+     * {@code SseEmitter}, closing waits on the monitor held by the blocked write.
+     */
+    private static final class BlockedSink implements UpdateSink {
+
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public synchronized void send(ForecastUpdate update) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            closed.countDown();
+        }
+    }
+
+    @Test
+    void testBlockedSink_IsEvictedAndOthersKeepReceiving() throws InterruptedException {
+        ForecastUpdateBroadcaster broadcaster = broadcaster(16, 1, 10, Duration.ofMillis(50));
+        BlockedSink blocked = new BlockedSink();
+        broadcaster.subscribe(blocked);
+        try {
+            assertThat(blocked.writing.await(5, TimeUnit.SECONDS)).isTrue();
+            CountDownLatch delivered = new CountDownLatch(3);
+            CountingSink healthy = new CountingSink(false, delivered);
+            broadcaster.subscribe(healthy);
+
+            Thread.sleep(100);
+            // Must return although closing the sink waits for the blocked write
+            assertTimeoutPreemptively(Duration.ofSeconds(5), broadcaster::evictStalled);
+            for (int i = 0; i < 3; i++) {
+                broadcaster.onForecastStored(stored(i));
+            }
+
+            // The only sender thread is still stuck in the blocked write
+            assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(healthy.received).hasValue(3);
+            assertThat(healthy.closed).isFalse();
+            assertThat(evicted("stalled")).isEqualTo(1.0);
+            assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+            assertThat(blocked.closed.getCount()).isEqualTo(1);
+        } finally {
+            blocked.release.countDown();
+        }
+        assertThat(blocked.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void testBlockedSink_OverflowEvictionDoesNotBlockPublisher() throws InterruptedException {
+        ForecastUpdateBroadcaster broadcaster = broadcaster(2, 1, 10);
+        BlockedSink blocked = new BlockedSink();
+        broadcaster.subscribe(blocked);
+        try {
+            assertThat(blocked.writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Overflows the two-event buffer while the sink's monitor is held by the write
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i < 5; i++) {
+                    broadcaster.onForecastStored(stored(i));
+                }
+            });
+
+            assertThat(evicted("slow")).isEqualTo(1.0);
+            assertThat(broadcaster.subscriberCount()).isZero();
+        } finally {
+            blocked.release.countDown();
+        }
+        assertThat(blocked.closed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * 10,000 in-process subscribers receive 200 updates published every 5 ms; ten of them
+     * need 20 ms per event. Publishing never waits for a subscriber, the slow ones are cut off
+     * once 64 events behind, and every other subscriber receives every update in order.
+     */
+    @Test
+    void testTenThousandSubscribers_SlowOnesEvictedOthersReceiveEverything() throws InterruptedException {
+        int subscribers = 10_000;
+        int slowSubscribers = 10;
+        int updates = 200;
+        ForecastUpdateBroadcaster broadcaster = broadcaster(64, 4, subscribers);
+        CountDownLatch delivered = new CountDownLatch((subscribers - slowSubscribers) * updates);
+        List<CountingSink> fast = new ArrayList<>();
+        List<SlowSink> slow = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            if (i % (subscribers / slowSubscribers) == 0) {
+                SlowSink sink = new SlowSink(Duration.ofMillis(20));
+                slow.add(sink);
+                broadcaster.subscribe(sink);
+            } else {
+                CountingSink sink = new CountingSink(false, delivered);
+                fast.add(sink);
+                broadcaster.subscribe(sink);
+            }
+        }
+
+        long publishNanos = 0;
+        for (int i = 0; i < updates; i++) {
+            long publishStart = System.nanoTime();
+            broadcaster.onForecastStored(stored(i));
+            publishNanos += System.nanoTime() - publishStart;
+            Thread.sleep(5);
+        }
+        assertThat(delivered.await(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(fast).allSatisfy(sink -> {
+            assertThat(sink.received).hasValue(updates);
+            assertThat(sink.outOfOrder).isFalse();
+            assertThat(sink.closed).isFalse();
+        });
+        for (SlowSink sink : slow) {
+            awaitClosed(sink.closed);
+        }
+        assertThat(evicted("slow")).isEqualTo(slowSubscribers);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(subscribers - slowSubscribers);
+        // One slow subscriber alone needs 4 s for 200 events; the publisher must not feel it
+        assertThat(Duration.ofNanos(publishNanos)).isLessThan(Duration.ofSeconds(4));
+    }
+
+    /** Sinks are closed on the broadcaster's closer pool, shortly after the eviction. */
+    private static void awaitClosed(AtomicBoolean closed) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!closed.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(closed).isTrue();
+    }
+
+    private static void awaitSubscribers(ForecastUpdateBroadcaster broadcaster, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.subscriberCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(broadcaster.subscriberCount()).isEqualTo(expected);
+    }
+}
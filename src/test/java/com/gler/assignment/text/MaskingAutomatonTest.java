@@ -0,0 +1,107 @@
+package com.gler.assignment.text;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MaskingAutomatonTest {
+
+    @Test
+    void testApply_MasksAndReplacesAllOccurrences() {
+        MaskingAutomaton automaton = MaskingAutomaton.compile(List.of(
+                MaskingRule.mask("secret"),
+                new MaskingRule("john@example.com", "[EMAIL]")));
+
+        assertThat(apply(automaton, "mail john@example.com the secret, not the secrets' secret"))
+                .isEqualTo("mail [EMAIL] the ******, not the ******s' ******");
+    }
+
+    @Test
+    void testApply_LeftmostLongestWithoutOverlap() {
+        MaskingAutomaton automaton = MaskingAutomaton.compile(List.of(
+                new MaskingRule("Sam", "A"),
+                new MaskingRule("Samantha", "B"),
+                new MaskingRule("antha", "C"),
+                new MaskingRule("b", "D"),
+                new MaskingRule("abcd", "E"),
+                new MaskingRule("cdx", "F")));
+
+        assertThat(apply(automaton, "Samantha Sama")).isEqualTo("B Aa");
+        assertThat(apply(automaton, "abcdx")).isEqualTo("Ex");
+        assertThat(apply(automaton, "abcx")).isEqualTo("aDcx");
+    }
+
+    @Test
+    void testApply_MultiByteCharacters_MaskedPerCharacter() {
+        MaskingAutomaton automaton = MaskingAutomaton.compile(List.of(MaskingRule.mask("Grüße"), MaskingRule.mask("😀")));
+
+        assertThat(apply(automaton, "Grüße 😀!")).isEqualTo("***** *!");
+    }
+
+    @Test
+    void testApply_NoRules_ReturnsInput() {
+        assertThat(apply(MaskingAutomaton.EMPTY, "unchanged")).isEqualTo("unchanged");
+        assertThat(MaskingAutomaton.EMPTY.patternCount()).isZero();
+    }
+
+    @Test
+    void testCompile_EmptyPattern_Rejected() {
+        assertThatThrownBy(() -> MaskingAutomaton.compile(List.of(MaskingRule.mask(""))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testApply_ManyRandomPatterns_MatchesNaiveLeftmostLongest() {
+        Random random = new Random(42);
+        List<MaskingRule> rules = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            rules.add(new MaskingRule(randomWord(random, 1 + random.nextInt(6)), "<" + i + ">"));
+        }
+        MaskingAutomaton automaton = MaskingAutomaton.compile(rules);
+
+        for (int round = 0; round < 200; round++) {
+            String text = randomWord(random, random.nextInt(200));
+            assertThat(apply(automaton, text)).isEqualTo(naive(rules, text));
+        }
+    }
+
+    private static String randomWord(Random random, int length) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(4)));
+        }
+        return word.toString();
+    }
+
+    /** Leftmost-longest by brute force; the first rule wins among duplicates. */
+    private static String naive(List<MaskingRule> rules, String text) {
+        StringBuilder out = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            MaskingRule best = null;
+            for (MaskingRule rule : rules) {
+                if (text.startsWith(rule.pattern(), i)
+                        && (best == null || rule.pattern().length() > best.pattern().length())) {
+                    best = rule;
+                }
+            }
+            if (best == null) {
+                out.append(text.charAt(i++));
+            } else {
+                out.append(best.replacement());
+                i += best.pattern().length();
+            }
+        }
+        return out.toString();
+    }
+
+    private static String apply(MaskingAutomaton automaton, String text) {
+        return new String(automaton.apply(text.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    }
+}
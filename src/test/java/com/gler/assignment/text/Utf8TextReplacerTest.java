@@ -0,0 +1,108 @@
+package com.gler.assignment.text;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8TextReplacerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "abc, '*b$'",
+            "elephant, '*lephan$'",
+            "ab, ''",
+            "a😀b, '*😀$'",
+            "😀ab, '*a$'",
+            "ab😀, '*b$'",
+            "😀x😀, '*x$'",
+            "😀😀, ''",
+            "éxé, '*x$'",
+            "日本語テキスト, '*本語テキス$'"
+    })
+    void testReplace_CodePoints(String input, String expected) {
+        assertThat(replace(input, TextUnit.CODE_POINT)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"a", "😀", "''"})
+    void testReplace_FewerThanTwoUnits_TooShort(String input) {
+        assertThat(Utf8TextReplacer.replace(input.getBytes(StandardCharsets.UTF_8), TextUnit.CODE_POINT)).isNull();
+        assertThat(Utf8TextReplacer.replace(input.getBytes(StandardCharsets.UTF_8), TextUnit.GRAPHEME)).isNull();
+    }
+
+    @Test
+    void testReplace_CombiningMarks_SplitByCodePointKeptByGrapheme() {
+        String text = "e\u0301xe\u0301";
+
+        assertThat(replace(text, TextUnit.CODE_POINT)).isEqualTo("*\u0301xe$");
+        assertThat(replace(text, TextUnit.GRAPHEME)).isEqualTo("*x$");
+        assertThat(replace("xab" + text, TextUnit.GRAPHEME)).isEqualTo("*abe\u0301x$");
+    }
+
+    @Test
+    void testReplace_Graphemes_EmojiSequences() {
+        assertThat(replace("🇩🇪x🇫🇷", TextUnit.GRAPHEME)).isEqualTo("*x$");
+        assertThat(replace("🇩🇪🇫🇷x", TextUnit.GRAPHEME)).isEqualTo("*🇫🇷$");
+        assertThat(replace("👨‍👩‍👧ab", TextUnit.GRAPHEME)).isEqualTo("*a$");
+        assertThat(replace("👍🏽xy👍🏽", TextUnit.GRAPHEME)).isEqualTo("*xy$");
+        assertThat(replace("\r\nab", TextUnit.GRAPHEME)).isEqualTo("*a$");
+        assertThat(replace("\n\rab", TextUnit.GRAPHEME)).isEqualTo("*\ra$");
+    }
+
+    @Test
+    void testReplace_Graphemes_PrependBindsToFollowingCharacter() {
+        // U+0600 ARABIC NUMBER SIGN is prepended to the digits it governs
+        assertThat(replace("\u06001x\u06002", TextUnit.GRAPHEME)).isEqualTo("*x$");
+        assertThat(replace("ab\u0600\u06001", TextUnit.GRAPHEME)).isEqualTo("*b$");
+        assertThat(replace("\u0600a\u0300bc", TextUnit.GRAPHEME)).isEqualTo("*b$");
+        assertThat(replace("\u0600\nab", TextUnit.GRAPHEME)).isEqualTo("*\na$");
+        assertThat(replace("\u06001x\u06002", TextUnit.CODE_POINT)).isEqualTo("*1x\u0600$");
+    }
+
+    @Test
+    void testReplace_MalformedBytes_CountAsSingleUnits() {
+        byte[] strayContinuation = {(byte) 0x80, 'a', 'b'};
+        byte[] truncatedSequence = {'a', 'b', (byte) 0xE6, (byte) 0x97};
+
+        assertThat(Utf8TextReplacer.replace(strayContinuation, TextUnit.CODE_POINT)).containsExactly('*', 'a', '$');
+        assertThat(Utf8TextReplacer.replace(truncatedSequence, TextUnit.CODE_POINT))
+                .containsExactly('*', 'b', (byte) 0xE6, '$');
+    }
+
+    @Test
+    void testReplace_IntoBuffer_UsesOffsets() {
+        byte[] src = "--hello--".getBytes(StandardCharsets.UTF_8);
+        byte[] dst = new byte[16];
+
+        int written = Utf8TextReplacer.replace(src, 2, 5, TextUnit.CODE_POINT, dst, 3);
+
+        assertThat(written).isEqualTo(5);
+        assertThat(new String(dst, 3, written, StandardCharsets.UTF_8)).isEqualTo("*ell$");
+        assertThat(Utf8TextReplacer.replace(src, 2, 1, TextUnit.CODE_POINT, dst, 0)).isEqualTo(Utf8TextReplacer.TOO_SHORT);
+    }
+
+    @Test
+    void testReplace_DirectBuffers_UseAbsoluteOffsets() {
+        ByteBuffer src = ByteBuffer.allocateDirect(16).put("--a😀b😀--".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer dst = ByteBuffer.allocateDirect(16);
+
+        int length = Utf8TextReplacer.replacedLength(src, 2, 10, TextUnit.CODE_POINT);
+        int written = Utf8TextReplacer.replace(src, 2, 10, TextUnit.CODE_POINT, dst, 1);
+
+        byte[] out = new byte[written];
+        dst.get(1, out);
+        assertThat(written).isEqualTo(length).isEqualTo(7);
+        assertThat(new String(out, StandardCharsets.UTF_8)).isEqualTo("*😀b$");
+        assertThat(dst.position()).isZero();
+        assertThat(Utf8TextReplacer.replacedLength(src, 2, 1, TextUnit.GRAPHEME)).isEqualTo(Utf8TextReplacer.TOO_SHORT);
+    }
+
+    private static String replace(String text, TextUnit unit) {
+        return new String(Utf8TextReplacer.replace(text.getBytes(StandardCharsets.UTF_8), unit), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamHedgerTest {
+
+    private UpstreamProperties upstreamProperties;
+    private SimpleMeterRegistry registry;
+    private UpstreamHedger hedger;
+
+    @BeforeEach
+    void setUp() {
+        upstreamProperties = new UpstreamProperties();
+        upstreamProperties.getHedge().setEnabled(true);
+        upstreamProperties.getHedge().setInitialDelay(Duration.ofMillis(50));
+        upstreamProperties.getHedge().setMinDelay(Duration.ofMillis(10));
+        registry = new SimpleMeterRegistry();
+        hedger = new UpstreamHedger(upstreamProperties, new LoadBudget(upstreamProperties), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hedger.shutdown();
+    }
+
+    @Test
+    void testCall_SlowFirstAttempt_HedgeWinsAndPrimaryIsCancelled() throws InterruptedException {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch primaryInterrupted = new CountDownLatch(1);
+
+        // Act
+        long start = System.nanoTime();
+        String result = hedger.call(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    primaryInterrupted.countDown();
+                }
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("hedge");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(2));
+        assertThat(primaryInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "sent").counter().count()).isEqualTo(1);
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCall_FastAttempt_SendsNoHedge() {
+        // Act
+        String result = hedger.call(() -> "primary");
+
+        // Assert
+        assertThat(result).isEqualTo("primary");
+        assertThat(registry.get("upstream.hedge.calls").counter().count()).isEqualTo(1);
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "sent").counter().count()).isZero();
+    }
+
+    @Test
+    void testCall_BudgetExhausted_WaitsForPrimary() {
+        // Arrange: the budget covers one hedge, and 10% per call is not enough for another.
+        upstreamProperties.getHedge().setInitialDelay(Duration.ofMillis(10));
+        LoadBudget budget = new LoadBudget(0.1, 10, 1);
+        hedger = new UpstreamHedger(upstreamProperties, budget, registry);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            budget.earn();
+            hedger.call(() -> {
+                sleep(40);
+                return "slow";
+            });
+        }
+
+        // Assert
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "sent").counter().count()).isEqualTo(1);
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "over.budget").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testCall_BothAttemptsFail_ThrowsFirstFailure() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThatThrownBy(() -> hedger.call(() -> {
+            int attempt = attempts.getAndIncrement();
+            sleep(attempt == 0 ? 100 : 0);
+            throw new ResourceAccessException("attempt " + attempt);
+        }))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessage("attempt 1");
+    }
+
+    @Test
+    void testCall_Disabled_RunsOnCallerThread() {
+        // Arrange
+        upstreamProperties.getHedge().setEnabled(false);
+        Thread caller = Thread.currentThread();
+
+        // Act
+        Thread ran = hedger.call(Thread::currentThread);
+
+        // Assert
+        assertThat(ran).isSameAs(caller);
+    }
+
+    @Test
+    void testHedgeDelay_EnoughSamples_FollowsPercentileWithFloor() {
+        // Arrange
+        for (int i = 0; i < 40; i++) {
+            hedger.call(() -> "fast");
+        }
+
+        // Act & Assert
+        assertThat(hedger.hedgeDelay()).isEqualTo(Duration.ofMillis(10));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
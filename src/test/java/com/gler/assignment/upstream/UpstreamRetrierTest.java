@@ -0,0 +1,176 @@
+package com.gler.assignment.upstream;
+
+import com.gler.assignment.configs.UpstreamProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstreamRetrierTest {
+
+    private UpstreamProperties upstreamProperties;
+    private SimpleMeterRegistry registry;
+    private UpstreamRetrier retrier;
+
+    @BeforeEach
+    void setUp() {
+        upstreamProperties = new UpstreamProperties();
+        upstreamProperties.getRetry().setBaseDelay(Duration.ofMillis(1));
+        upstreamProperties.getRetry().setMaxDelay(Duration.ofMillis(5));
+        registry = new SimpleMeterRegistry();
+        retrier = new UpstreamRetrier(upstreamProperties, new LoadBudget(upstreamProperties), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void testCall_TransientFailure_RetriesAndCountsRetrySuccess() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        String result = retrier.call(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }
+            return "forecast";
+        });
+
+        // Assert
+        assertThat(result).isEqualTo("forecast");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(count("initial", "failure")).isEqualTo(1);
+        assertThat(count("retry", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void testCall_PermanentFailure_IsNotRetried() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThatThrownBy(() -> retrier.call(() -> {
+            attempts.incrementAndGet();
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        })).isInstanceOf(HttpClientErrorException.class);
+        assertThatThrownBy(() -> retrier.call(() -> {
+            attempts.incrementAndGet();
+            throw new RestClientException("Could not extract response");
+        })).isInstanceOf(RestClientException.class);
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void testCall_KeepsFailing_StopsAfterMaxAttempts() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThatThrownBy(() -> retrier.call(() -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Connection refused");
+        })).isInstanceOf(ResourceAccessException.class);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(registry.get("upstream.retry.skipped").tag("reason", "attempts").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCall_RequestDeadlineReached_DoesNotRetry() {
+        // Arrange: the inbound request is already out of time.
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestDeadline.set(request, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThatThrownBy(() -> retrier.call(() -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("Read timed out");
+        })).isInstanceOf(ResourceAccessException.class);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(registry.get("upstream.retry.skipped").tag("reason", "deadline").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCall_BudgetSpent_StopsRetrying() {
+        // Arrange
+        upstreamProperties.getBudget().setCap(2);
+        upstreamProperties.getBudget().setRatio(0);
+        retrier = new UpstreamRetrier(upstreamProperties, new LoadBudget(upstreamProperties), registry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            try {
+                retrier.call(() -> {
+                    attempts.incrementAndGet();
+                    throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+                });
+            } catch (HttpClientErrorException expected) {
+                // every call fails
+            }
+        }
+
+        // Assert: five first attempts plus the two retries the budget paid for.
+        assertThat(attempts.get()).isEqualTo(7);
+        assertThat(registry.get("upstream.retry.skipped").tag("reason", "budget").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void testCall_HedgeSpentSharedBudget_SkipsRetry() {
+        // Arrange: one extra request saved up, shared with a hedger
+        LoadBudget budget = new LoadBudget(0, 1, 1);
+        retrier = new UpstreamRetrier(upstreamProperties, budget, registry);
+        upstreamProperties.getHedge().setEnabled(true);
+        upstreamProperties.getHedge().setInitialDelay(Duration.ofMillis(10));
+        UpstreamHedger hedger = new UpstreamHedger(upstreamProperties, budget, registry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act: the slow first attempt is hedged, then both attempts fail
+        try {
+            assertThatThrownBy(() -> retrier.call(() -> hedger.call(() -> {
+                if (attempts.getAndIncrement() == 0) {
+                    sleep(50);
+                }
+                throw new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE);
+            }))).isInstanceOf(HttpServerErrorException.class);
+        } finally {
+            hedger.shutdown();
+        }
+
+        // Assert: the hedge took the only token, so no retry was sent
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(registry.get("upstream.hedge.requests").tag("outcome", "sent").counter().count()).isEqualTo(1);
+        assertThat(registry.get("upstream.retry.skipped").tag("reason", "budget").counter().count()).isEqualTo(1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double count(String attempt, String result) {
+        return registry.get("upstream.requests").tag("attempt", attempt).tag("result", result).counter().count();
+    }
+}